@@ -2,9 +2,14 @@ package com.example.eventmanagement.cli;
 
 import com.example.core.domain.*;
 import com.example.core.operations.EventOperations;
+import com.example.core.operations.EventStateStore;
 import com.example.core.operations.RegistrationOperations;
+import com.example.core.operations.RevenueView;
 
+import java.io.IOException;
 import java.math.BigDecimal;
+import java.nio.file.Path;
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeParseException;
@@ -16,10 +21,29 @@ public class EventManagementCli {
     private static final Currency USD = Currency.getInstance("USD");
     private static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm");
     private static final int MAX_RETRIES = 3;
+    private static final String DATA_DIR_OPTION = "--data-dir";
+    private static final Duration SNAPSHOT_INTERVAL = Duration.ofMinutes(1);
 
     public static void main(String[] args) {
-        List<Event> events = new ArrayList<>();
-        List<Registration> registrations = new ArrayList<>();
+        if (args.length >= 2 && args[0].equals(DATA_DIR_OPTION)) {
+            Path dataDir = Path.of(args[1]);
+            String[] commandArgs = Arrays.copyOfRange(args, 2, args.length);
+            try (EventStateStore store = EventStateStore.open(dataDir)) {
+                run(commandArgs, store);
+                if (commandArgs.length == 0) store.snapshot();
+            } catch (IOException e) {
+                System.out.println("Data directory " + dataDir + " is unavailable: " + e.getMessage());
+            }
+            return;
+        }
+        run(args, null);
+    }
+
+    private static void run(String[] args, EventStateStore store) {
+        List<Event> events = store == null ? new ArrayList<>() : new ArrayList<>(store.events());
+        List<Registration> registrations = store == null ? new ArrayList<>() : store.registrations();
+        // Kept current on every registration, so viewing revenue never rescans the list.
+        RevenueView revenue = store == null ? new RevenueView() : store.revenue();
 
         // Non-interactive mode if args are provided
         if (args.length > 0) {
@@ -28,6 +52,7 @@ public class EventManagementCli {
         }
 
         // Interactive mode
+        if (store != null) store.startPeriodicSnapshots(SNAPSHOT_INTERVAL);
         System.out.println("Welcome to Event Organizer CLI");
         while (true) {
             displayMainMenu();
@@ -44,13 +69,13 @@ public class EventManagementCli {
             switch (choice) {
                 case 1 -> {
                     Event event = createEvent();
-                    if (event != null) {
+                    if (event != null && saved(store, () -> store.addEvent(event))) {
                         events.add(event);
                         System.out.println("Event created successfully!");
                     }
                 }
-                case 2 -> registerAttendee(events, registrations);
-                case 3 -> viewRevenue(registrations);
+                case 2 -> registerAttendee(events, registrations, revenue, store);
+                case 3 -> viewRevenue(revenue);
                 case 4 -> listEvents(events);
                 case 5 -> {
                     System.out.println("Thank you for using Event Organizer CLI. Goodbye!");
@@ -65,11 +90,13 @@ public class EventManagementCli {
     private static void handleNonInteractiveMode(String[] args, List<Event> events, List<Registration> registrations) {
         if (args.length == 1 && args[0].equals("--help")) {
             System.out.println("Event Organizer CLI: Non-Interactive Mode");
-            System.out.println("Usage: java -jar cli-app.jar [command]");
+            System.out.println("Usage: java -jar cli-app.jar [--data-dir <dir>] [command]");
+            System.out.println("Options:");
+            System.out.println("  --data-dir <dir>  Load and persist events and registrations in <dir>");
             System.out.println("Commands:");
             System.out.println("  --help          Display this help message");
-            System.out.println("  list-events     List all events (requires pre-loaded data)");
-            System.out.println("Interactive mode is used if no arguments are provided.");
+            System.out.println("  list-events     List all events (requires --data-dir for pre-loaded data)");
+            System.out.println("Interactive mode is used if no command is provided.");
         } else if (args.length == 1 && args[0].equals("list-events")) {
             listEvents(events);
         } else {
@@ -77,6 +104,23 @@ public class EventManagementCli {
         }
     }
 
+    // Runs a store write when a data directory is in use; reports and returns false if it fails.
+    private static boolean saved(EventStateStore store, StoreWrite write) {
+        if (store == null) return true;
+        try {
+            write.run();
+            return true;
+        } catch (IOException e) {
+            System.out.println("Could not save to the data directory: " + e.getMessage());
+            return false;
+        }
+    }
+
+    @FunctionalInterface
+    private interface StoreWrite {
+        void run() throws IOException;
+    }
+
     private static void displayMainMenu() {
         System.out.println("\nOptions:");
         System.out.println("1) Create Event");
@@ -307,7 +351,8 @@ public class EventManagementCli {
         return null;
     }
 
-    private static void registerAttendee(List<Event> events, List<Registration> registrations) {
+    private static void registerAttendee(List<Event> events, List<Registration> registrations, RevenueView revenue,
+                                         EventStateStore store) {
         if (events.isEmpty()) {
             System.out.println("No events available to register for.");
             return;
@@ -343,10 +388,23 @@ public class EventManagementCli {
 
         Attendee attendee = new Attendee(UUID.randomUUID(), name, email, phone);
         Event event = events.get(eventIdx);
-        var regOpt = RegistrationOperations.registerForEvent(event, attendee, registrations);
+        Optional<Registration> regOpt;
+        if (store == null) {
+            regOpt = RegistrationOperations.registerForEvent(event, attendee, registrations);
+        } else {
+            try {
+                regOpt = store.register(event, attendee);
+            } catch (IOException e) {
+                System.out.println("Could not save to the data directory: " + e.getMessage());
+                return;
+            }
+        }
         if (regOpt.isPresent()) {
             registrations.add(regOpt.get());
+            if (store == null) revenue.record(regOpt.get());
             System.out.println("Registration successful for " + event.name() + "!");
+        } else if (store != null && store.attendees().contains(event.id(), email)) {
+            System.out.println("Registration failed: " + email + " is already registered for " + event.name() + ".");
         } else {
             System.out.println("Registration failed: No capacity available for " + event.name() + ".");
         }
@@ -367,9 +425,15 @@ public class EventManagementCli {
         return null;
     }
 
-    private static void viewRevenue(List<Registration> registrations) {
-        Money revenue = RegistrationOperations.calculateTotalRevenue(registrations);
-        System.out.println("Total Revenue: " + revenue.amount() + " " + revenue.currency());
+    private static void viewRevenue(RevenueView revenue) {
+        Map<Currency, Money> totals = revenue.totals();
+        if (totals.isEmpty()) {
+            System.out.println("Total Revenue: 0 USD");
+            return;
+        }
+        totals.values().stream()
+                .sorted(Comparator.comparing(money -> money.currency().getCurrencyCode()))
+                .forEach(money -> System.out.println("Total Revenue: " + money.amount() + " " + money.currency()));
     }
 
     private static void listEvents(List<Event> events) {
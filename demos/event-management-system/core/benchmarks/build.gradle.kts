@@ -0,0 +1,26 @@
+plugins {
+    id("core-library")
+    id("me.champeau.jmh") version "0.7.3"
+}
+group = "com.example.core.benchmarks"
+version = "1.0.0"
+
+dependencies {
+    jmh(project(":common"))
+    jmh(project(":domain"))
+    jmh(project(":operations"))
+}
+
+jmh {
+    jvmArgs.addAll("--enable-preview", "-Xmx4g")
+    fork.set(1)
+    warmupIterations.set(3)
+    iterations.set(5)
+    resultFormat.set("JSON")
+    providers.gradleProperty("jmhInclude").orNull?.let { includes.add(it) }
+}
+
+// The generator loads benchmark state classes, some of which use preview APIs.
+tasks.named<me.champeau.jmh.JmhBytecodeGeneratorTask>("jmhRunBytecodeGenerator") {
+    jvmArgs.add("--enable-preview")
+}
@@ -0,0 +1,66 @@
+package com.example.core.benchmarks;
+
+import com.example.core.common.utilities.completion.AsyncCompletionHandler;
+import com.example.core.common.utilities.completion.OperationResult;
+import com.example.core.common.utilities.completion.TaskCompletionHandler;
+import com.example.core.common.utilities.operations.OperationContext;
+import com.example.core.common.utilities.operations.OperationsTaskScope;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * A scope of {@code FORKS} subtasks reporting to a handler that appends to a shared log under a lock, called
+ * inline on each subtask and through rings smaller and larger than the burst under each wait strategy.
+ * Reported per subtask, including the drain.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(value = 1, jvmArgsAppend = "--enable-preview")
+public class AsyncDispatchBenchmark {
+    private static final int FORKS = 100_000;
+
+    private final ReentrantLock log = new ReentrantLock();
+    private final TaskCompletionHandler<Integer> appender = new TaskCompletionHandler<>() {
+        @Override
+        public void onSuccess(Integer value) {
+            log.lock();
+            try {
+                Blackhole.consumeCPU(100);
+            } finally {
+                log.unlock();
+            }
+        }
+        @Override public void onFailure(Throwable throwable) {}
+    };
+
+    @Param({"PARK", "YIELD", "SPIN"})
+    public AsyncCompletionHandler.WaitStrategy waitStrategy;
+
+    @Param({"4096", "131072"})
+    public int capacity;
+
+    @Benchmark
+    @OperationsPerInvocation(FORKS)
+    public void inline() throws InterruptedException {
+        run(appender);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(FORKS)
+    public void ring() throws InterruptedException {
+        run(new AsyncCompletionHandler<>(appender, capacity, waitStrategy));
+    }
+
+    private static void run(TaskCompletionHandler<Integer> handler) throws InterruptedException {
+        try (var scope = new OperationsTaskScope<>("Dispatch", new OperationContext.NonTransactional(), handler)) {
+            for (int i = 0; i < FORKS; i++) {
+                int value = i;
+                scope.fork(() -> new OperationResult.Success<>(value));
+            }
+            scope.join();
+        }
+    }
+}
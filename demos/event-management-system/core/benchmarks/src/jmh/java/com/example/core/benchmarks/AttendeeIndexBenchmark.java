@@ -0,0 +1,86 @@
+package com.example.core.benchmarks;
+
+import com.example.core.domain.Attendee;
+import com.example.core.domain.Concert;
+import com.example.core.domain.EventId;
+import com.example.core.domain.Location;
+import com.example.core.domain.Money;
+import com.example.core.domain.Registration;
+import com.example.core.domain.RegistrationStatus;
+import com.example.core.operations.AttendeeIndex;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Duplicate-email checks for one festival: {@link AttendeeIndex} lookups for registered and fresh emails, a claim
+ * and release of a fresh email as registration does it, and scanning the festival's registrations.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(value = 1, jvmArgsAppend = "-Xmx8g")
+public class AttendeeIndexBenchmark {
+    private static final int PROBES = 1 << 12;
+
+    @Param({"1000000"})
+    public int attendees;
+
+    private Concert festival;
+    private AttendeeIndex index;
+    private List<Registration> registrations;
+    private String[] registeredEmails;
+    private String[] freshEmails;
+    private int probe;
+
+    @Setup
+    public void setUp() {
+        festival = new Concert(EventId.generate(), "Festival", BenchmarkData.EPOCH, BenchmarkData.EPOCH.plusDays(3),
+                new Location("Fields", "Farm Road"), attendees, "Headliners", "Mixed",
+                new Money(new BigDecimal("250.00"), BenchmarkData.USD));
+        index = new AttendeeIndex();
+        registrations = new ArrayList<>(attendees);
+        for (int i = 0; i < attendees; i++) {
+            Attendee attendee = new Attendee(UUID.randomUUID(), "Guest-" + i, "guest" + i + "@example.com", null);
+            index.tryClaim(festival, attendee.email());
+            registrations.add(new Registration(UUID.randomUUID(), festival, attendee, BenchmarkData.EPOCH, RegistrationStatus.CONFIRMED));
+        }
+        registeredEmails = new String[PROBES];
+        freshEmails = new String[PROBES];
+        for (int i = 0; i < PROBES; i++) {
+            registeredEmails[i] = "guest" + (i * 7919L % attendees) + "@example.com";
+            freshEmails[i] = "visitor" + i + "@example.com";
+        }
+    }
+
+    @Benchmark
+    public boolean indexRegistered() {
+        return index.contains(festival.id(), registeredEmails[probe++ & (PROBES - 1)]);
+    }
+
+    @Benchmark
+    public boolean indexFresh() {
+        return index.contains(festival.id(), freshEmails[probe++ & (PROBES - 1)]);
+    }
+
+    @Benchmark
+    public boolean claimFresh() {
+        String email = freshEmails[probe++ & (PROBES - 1)];
+        boolean claimed = index.tryClaim(festival, email);
+        index.release(festival.id(), email);
+        return claimed;
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public boolean scanFresh() {
+        String email = freshEmails[probe++ & (PROBES - 1)];
+        for (Registration registration : registrations) {
+            if (registration.attendee().email().equalsIgnoreCase(email)) return true;
+        }
+        return false;
+    }
+}
@@ -0,0 +1,73 @@
+package com.example.core.benchmarks;
+
+import com.example.core.domain.*;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Currency;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+
+/**
+ * Deterministic data sets shared by the benchmarks.
+ */
+final class BenchmarkData {
+    static final Currency USD = Currency.getInstance("USD");
+    static final LocalDateTime EPOCH = LocalDateTime.of(2025, 1, 1, 0, 0);
+
+    private static final RegistrationStatus[] STATUSES = RegistrationStatus.values();
+    private static final int VENUES = 500;
+    private static final int ATTENDEE_POOL = 100_000;
+
+    private BenchmarkData() {}
+
+    static List<Event> events(int count, long seed) {
+        Random random = new Random(seed);
+        List<Event> events = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            events.add(event(i, random));
+        }
+        return events;
+    }
+
+    static Event event(int i, Random random) {
+        LocalDateTime start = EPOCH.plusHours(random.nextInt(24 * 365));
+        LocalDateTime end = start.plusHours(random.nextInt(72) + 1);
+        Location location = new Location("Venue-" + random.nextInt(VENUES), "Addr-" + random.nextInt(VENUES));
+        int maxAttendees = random.nextInt(5_000) + 1;
+        Money fee = new Money(BigDecimal.valueOf(random.nextInt(20_000) + 100, 2), USD);
+        return switch (i & 3) {
+            case 0 -> new Concert(EventId.generate(), "Concert-" + i, start, end, location, maxAttendees,
+                    "Artist-" + random.nextInt(1_000), "Genre-" + random.nextInt(20), fee);
+            case 1 -> new Conference(EventId.generate(), "Conference-" + i, start, end, location, maxAttendees,
+                    List.of("Speaker-" + random.nextInt(1_000)), List.of("Topic-" + random.nextInt(50)), fee);
+            case 2 -> new Exhibition(EventId.generate(), "Exhibition-" + i, start, end, location, maxAttendees,
+                    "Theme-" + random.nextInt(50), List.of("Exhibitor-" + random.nextInt(1_000)), fee);
+            default -> new Workshop(EventId.generate(), "Workshop-" + i, start, end, location, maxAttendees,
+                    "Instructor-" + random.nextInt(200), "Level-" + random.nextInt(3), fee, random.nextInt(50) + 1);
+        };
+    }
+
+    static List<Attendee> attendees(int count, long seed) {
+        Random random = new Random(seed);
+        List<Attendee> attendees = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            attendees.add(new Attendee(new UUID(random.nextLong(), random.nextLong()), "Attendee-" + i,
+                    "user" + i + "@example.com", "555-" + String.format("%04d", random.nextInt(10_000))));
+        }
+        return attendees;
+    }
+
+    static List<Registration> registrations(List<Event> events, int count, long seed) {
+        Random random = new Random(seed);
+        List<Attendee> attendees = attendees(Math.min(count, ATTENDEE_POOL), seed);
+        List<Registration> registrations = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            registrations.add(new Registration(new UUID(random.nextLong(), random.nextLong()),
+                    events.get(random.nextInt(events.size())), attendees.get(i % attendees.size()),
+                    EPOCH.plusSeconds(i), STATUSES[random.nextInt(STATUSES.length)]));
+        }
+        return registrations;
+    }
+}
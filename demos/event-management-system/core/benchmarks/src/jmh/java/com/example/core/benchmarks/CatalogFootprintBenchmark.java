@@ -0,0 +1,58 @@
+package com.example.core.benchmarks;
+
+import com.example.core.domain.Event;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.lang.ref.Reference;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Retained heap of a catalog whose events each build their own locations and strings, as parsing or decoding
+ * does, with and without the domain flyweights. Read the {@code retainedBytes} secondary result; JMH sums
+ * event counters over measurement iterations, hence the single one.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 1)
+@Measurement(iterations = 1)
+public class CatalogFootprintBenchmark {
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Footprint {
+        public long retainedBytes;
+    }
+
+    @Param({"1000000"})
+    public int events;
+
+    @Benchmark
+    @Fork(value = 1, jvmArgsAppend = "-Xmx8g")
+    public int interned(Footprint footprint) {
+        return build(footprint);
+    }
+
+    @Benchmark
+    @Fork(value = 1, jvmArgsAppend = {"-Xmx8g", "-Dcom.example.core.domain.interning=false"})
+    public int notInterned(Footprint footprint) {
+        return build(footprint);
+    }
+
+    // The catalog is dropped before returning so the next iteration's baseline does not include it.
+    private int build(Footprint footprint) {
+        long before = usedHeapAfterGc();
+        List<Event> catalog = BenchmarkData.events(events, 29);
+        footprint.retainedBytes = usedHeapAfterGc() - before;
+        Reference.reachabilityFence(catalog);
+        return catalog.size();
+    }
+
+    private static long usedHeapAfterGc() {
+        MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+        System.gc();
+        System.gc();
+        return memory.getHeapMemoryUsage().getUsed();
+    }
+}
@@ -0,0 +1,83 @@
+package com.example.core.benchmarks;
+
+import com.example.core.domain.DomainCodec;
+import com.example.core.domain.Registration;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Per-registration cost of {@link DomainCodec} against Java serialization, each registration encoded as its own
+ * message with its event inline. The setup prints the average encoded size of both formats.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@OperationsPerInvocation(CodecBenchmark.BATCH)
+public class CodecBenchmark {
+    static final int BATCH = 1_000;
+
+    private List<Registration> registrations;
+    private ByteBuffer buffer;
+    private ByteBuffer encoded;
+    private byte[][] serialized;
+
+    @Setup
+    public void setUp() throws IOException {
+        registrations = BenchmarkData.registrations(BenchmarkData.events(BATCH, 19), BATCH, 23);
+        buffer = ByteBuffer.allocateDirect(1 << 20);
+        encoded = ByteBuffer.allocateDirect(1 << 20);
+        for (Registration registration : registrations) DomainCodec.writeRegistration(encoded, registration);
+        encoded.flip();
+        serialized = new byte[BATCH][];
+        long serializedBytes = 0;
+        for (int i = 0; i < BATCH; i++) {
+            serialized[i] = serialize(registrations.get(i));
+            serializedBytes += serialized[i].length;
+        }
+        System.out.printf("%nAverage bytes per registration: codec=%d, ObjectOutputStream=%d%n",
+                encoded.remaining() / BATCH, serializedBytes / BATCH);
+    }
+
+    @Benchmark
+    public int encodeCodec() {
+        buffer.clear();
+        for (Registration registration : registrations) DomainCodec.writeRegistration(buffer, registration);
+        return buffer.position();
+    }
+
+    @Benchmark
+    public void decodeCodec(Blackhole blackhole) {
+        ByteBuffer input = encoded.duplicate();
+        for (int i = 0; i < BATCH; i++) blackhole.consume(DomainCodec.readRegistration(input));
+    }
+
+    @Benchmark
+    public void encodeObjectStream(Blackhole blackhole) throws IOException {
+        for (Registration registration : registrations) blackhole.consume(serialize(registration));
+    }
+
+    @Benchmark
+    public void decodeObjectStream(Blackhole blackhole) throws IOException, ClassNotFoundException {
+        for (byte[] bytes : serialized) {
+            try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes))) {
+                blackhole.consume(in.readObject());
+            }
+        }
+    }
+
+    private static byte[] serialize(Registration registration) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(512);
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(registration);
+        }
+        return bytes.toByteArray();
+    }
+}
@@ -0,0 +1,112 @@
+package com.example.core.benchmarks;
+
+import com.example.core.domain.Event;
+import com.example.core.domain.Registration;
+import com.example.core.domain.RegistrationStatus;
+import com.example.core.operations.ColumnarRegistrationStore;
+import com.example.core.operations.EventOperations;
+import com.example.core.operations.OffHeapRegistrationStore;
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Reporting scans over a {@link ColumnarRegistrationStore} and an {@link OffHeapRegistrationStore} against the same
+ * aggregations over a {@code List<Registration>}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(value = 1, jvmArgsAppend = "-Xmx16g")
+public class ColumnarScanBenchmark {
+    private static final int HOURS = 24 * 365;
+
+    @Param({"1000000", "10000000"})
+    public int registrations;
+
+    private List<Registration> registrationList;
+    private ColumnarRegistrationStore store;
+    private OffHeapRegistrationStore offHeap;
+
+    @Setup
+    public void setUp() {
+        List<Event> events = BenchmarkData.events(10_000, 31);
+        registrationList = BenchmarkData.registrations(events, registrations, 37);
+        store = new ColumnarRegistrationStore(BenchmarkData.USD, registrations);
+        offHeap = OffHeapRegistrationStore.allocate(BenchmarkData.USD, registrations);
+        for (Registration registration : registrationList) {
+            store.append(registration);
+            offHeap.append(registration);
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        offHeap.close();
+    }
+
+    @Benchmark
+    public long[] revenueByStatusColumnar() {
+        return store.revenueByStatus();
+    }
+
+    @Benchmark
+    public long[] revenueByStatusOffHeap() {
+        return offHeap.revenueByStatus();
+    }
+
+    @Benchmark
+    public Map<RegistrationStatus, BigDecimal> revenueByStatusObjects() {
+        Map<RegistrationStatus, BigDecimal> totals = new HashMap<>();
+        for (Registration registration : registrationList) {
+            totals.merge(registration.status(), EventOperations.getEventFee(registration.event()).amount(), BigDecimal::add);
+        }
+        return totals;
+    }
+
+    @Benchmark
+    public int[] countByEventColumnar() {
+        return store.countByEvent();
+    }
+
+    @Benchmark
+    public int[] countByEventOffHeap() {
+        return offHeap.countByEvent();
+    }
+
+    @Benchmark
+    public Map<Event, Integer> countByEventObjects() {
+        Map<Event, Integer> counts = new HashMap<>();
+        for (Registration registration : registrationList) counts.merge(registration.event(), 1, Integer::sum);
+        return counts;
+    }
+
+    @Benchmark
+    public int[] registrationsPerHourColumnar() {
+        return store.registrationsPerHour(BenchmarkData.EPOCH, HOURS);
+    }
+
+    @Benchmark
+    public int[] registrationsPerHourOffHeap() {
+        return offHeap.registrationsPerHour(BenchmarkData.EPOCH, HOURS);
+    }
+
+    @Benchmark
+    public int[] registrationsPerHourObjects() {
+        int[] counts = new int[HOURS];
+        for (Registration registration : registrationList) {
+            long hour = Duration.between(BenchmarkData.EPOCH, registration.registrationTime()).toHours();
+            if (hour >= 0 && hour < HOURS) counts[(int) hour]++;
+        }
+        return counts;
+    }
+
+    @Benchmark
+    public long confirmedCountColumnar() {
+        return store.count((event, attendee, registeredAt, status, fee) -> status == RegistrationStatus.CONFIRMED);
+    }
+}
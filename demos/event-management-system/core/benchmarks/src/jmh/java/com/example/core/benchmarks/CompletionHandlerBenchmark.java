@@ -0,0 +1,69 @@
+package com.example.core.benchmarks;
+
+import com.example.core.common.utilities.completion.BatchCompletionHandler;
+import com.example.core.common.utilities.completion.BatchingCompletionHandler;
+import com.example.core.common.utilities.completion.OperationResult;
+import com.example.core.common.utilities.completion.TaskCompletionHandler;
+import com.example.core.common.utilities.operations.OperationContext;
+import com.example.core.common.utilities.operations.OperationsTaskScope;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * {@code FORKS} subtasks feeding a writer whose every call costs a fixed round trip on one shared connection,
+ * as a JDBC insert would, once per success and once per batch. Reported per subtask.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(value = 1, jvmArgsAppend = "--enable-preview")
+public class CompletionHandlerBenchmark {
+    private static final int FORKS = 100_000;
+    private static final long ROUND_TRIP_TOKENS = 2_000;
+    private static final long ROW_TOKENS = 20;
+
+    private final ReentrantLock connection = new ReentrantLock();
+
+    @Param({"256"})
+    public int batchSize;
+
+    @Benchmark
+    @OperationsPerInvocation(FORKS)
+    public void perSuccess() throws InterruptedException {
+        run(new TaskCompletionHandler<>() {
+            @Override public void onSuccess(Integer value) { write(1); }
+            @Override public void onFailure(Throwable throwable) {}
+        });
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(FORKS)
+    public void batched() throws InterruptedException {
+        run(new BatchingCompletionHandler<>(new BatchCompletionHandler<Integer>() {
+            @Override public void onBatch(List<Integer> batch) { write(batch.size()); }
+            @Override public void onFailure(Throwable throwable) {}
+        }, batchSize));
+    }
+
+    private void write(int rows) {
+        connection.lock();
+        try {
+            Blackhole.consumeCPU(ROUND_TRIP_TOKENS + rows * ROW_TOKENS);
+        } finally {
+            connection.unlock();
+        }
+    }
+
+    private static void run(TaskCompletionHandler<Integer> handler) throws InterruptedException {
+        try (var scope = new OperationsTaskScope<>("Write", new OperationContext.NonTransactional(), handler)) {
+            for (int i = 0; i < FORKS; i++) {
+                int value = i;
+                scope.fork(() -> new OperationResult.Success<>(value));
+            }
+            scope.join();
+        }
+    }
+}
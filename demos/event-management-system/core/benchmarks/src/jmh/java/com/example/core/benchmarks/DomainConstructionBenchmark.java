@@ -0,0 +1,65 @@
+package com.example.core.benchmarks;
+
+import com.example.core.domain.*;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class DomainConstructionBenchmark {
+    private EventId id;
+    private LocalDateTime start;
+    private LocalDateTime end;
+    private Location location;
+    private Money fee;
+    private List<String> speakers;
+    private List<String> topics;
+
+    @Setup
+    public void setUp() {
+        id = EventId.generate();
+        start = BenchmarkData.EPOCH;
+        end = start.plusHours(3);
+        location = new Location("Venue", "Address");
+        fee = new Money(new BigDecimal("49.99"), BenchmarkData.USD);
+        speakers = List.of("Speaker-1", "Speaker-2", "Speaker-3");
+        topics = List.of("Java", "Records");
+    }
+
+    @Benchmark
+    public Concert concert() {
+        return new Concert(id, "Concert", start, end, location, 500, "Artist", "Rock", fee);
+    }
+
+    @Benchmark
+    public Conference conference() {
+        return new Conference(id, "Conference", start, end, location, 500, speakers, topics, fee);
+    }
+
+    @Benchmark
+    public Object rejectedConcert() {
+        try {
+            return new Concert(id, "Concert", start, end, location, 500, "", "Rock", fee);
+        } catch (IllegalArgumentException e) {
+            return e;
+        }
+    }
+
+    // An importer screening a bad row instead of catching the constructor's exception.
+    @Benchmark
+    public Object screenedConcert() {
+        long errors = EventValidations.checkConcert("Concert", start, end, location, 500, "");
+        return errors != 0 ? errors : new Concert(id, "Concert", start, end, location, 500, "", "Rock", fee);
+    }
+
+    // A good row screened and then built, paying for the checks twice.
+    @Benchmark
+    public Object checkedConcert() {
+        long errors = EventValidations.checkConcert("Concert", start, end, location, 500, "Artist");
+        return errors != 0 ? errors : new Concert(id, "Concert", start, end, location, 500, "Artist", "Rock", fee);
+    }
+}
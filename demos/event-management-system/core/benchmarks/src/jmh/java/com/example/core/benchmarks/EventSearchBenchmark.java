@@ -0,0 +1,67 @@
+package com.example.core.benchmarks;
+
+import com.example.core.domain.Event;
+import com.example.core.domain.Money;
+import com.example.core.operations.EventCatalog;
+import com.example.core.operations.EventOperations;
+import com.example.core.operations.SearchOptions;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class EventSearchBenchmark {
+    @Param({"1000", "100000", "1000000"})
+    public int events;
+
+    private List<Event> eventList;
+    private EventCatalog catalog;
+    private LocalDateTime rangeStart;
+    private LocalDateTime rangeEnd;
+
+    @Setup
+    public void setUp() {
+        eventList = BenchmarkData.events(events, 42);
+        catalog = new EventCatalog(eventList);
+        rangeStart = BenchmarkData.EPOCH.plusDays(100);
+        rangeEnd = rangeStart.plusDays(2);
+    }
+
+    @Benchmark
+    public List<Event> searchEvents() {
+        return EventOperations.searchEvents(eventList, e -> e.maxAttendees() > 4_900);
+    }
+
+    @Benchmark
+    public List<Event> searchEventsParallel() {
+        return EventOperations.searchEvents(eventList, e -> e.maxAttendees() > 4_900, SearchOptions.defaults());
+    }
+
+    @Benchmark
+    public List<Event> searchEventsParallelFirst10() {
+        return EventOperations.searchEvents(eventList, e -> e.maxAttendees() > 4_900,
+                SearchOptions.defaults().withOrdered(false).withLimit(10));
+    }
+
+    @Benchmark
+    public List<Event> findEventsByTimeRangeScan() {
+        return EventOperations.findEventsByTimeRange(eventList, rangeStart, rangeEnd);
+    }
+
+    @Benchmark
+    public List<Event> findEventsByTimeRangeIndexed() {
+        return EventOperations.findEventsByTimeRange(catalog, rangeStart, rangeEnd);
+    }
+
+    @Benchmark
+    public void getEventFee(Blackhole blackhole) {
+        for (Event event : eventList) {
+            Money fee = EventOperations.getEventFee(event);
+            blackhole.consume(fee);
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package com.example.core.benchmarks;
+
+import com.example.core.common.utilities.completion.OperationResult;
+import com.example.core.common.utilities.completion.TaskCompletionHandler;
+import com.example.core.common.utilities.operations.ExecutionMode;
+import com.example.core.common.utilities.operations.OperationContext;
+import com.example.core.common.utilities.operations.OperationsTaskScope;
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Latency distribution of a scope fanning out {@code LOOKUPS} pricing lookups that usually take 1 ms but take
+ * 50 ms two percent of the time, run fail-fast and hedged at the 95th percentile.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 5)
+@Fork(value = 1, jvmArgsAppend = "--enable-preview")
+public class ExecutionModeBenchmark {
+    private static final int LOOKUPS = 20;
+    private static final TaskCompletionHandler<Long> IGNORE = new TaskCompletionHandler<>() {
+        @Override public void onSuccess(Long value) {}
+        @Override public void onFailure(Throwable throwable) {}
+    };
+
+    private final ExecutionMode.Hedged hedged = new ExecutionMode.Hedged(0.95, Duration.ofMillis(5));
+
+    @Benchmark
+    public void failFast() throws InterruptedException {
+        fanOut(ExecutionMode.FAIL_FAST);
+    }
+
+    @Benchmark
+    public void hedged() throws InterruptedException {
+        fanOut(hedged);
+    }
+
+    private static void fanOut(ExecutionMode mode) throws InterruptedException {
+        try (var scope = new OperationsTaskScope<>("PriceLookup", new OperationContext.NonTransactional(), mode, IGNORE)) {
+            for (int i = 0; i < LOOKUPS; i++) {
+                scope.fork(() -> {
+                    long millis = ThreadLocalRandom.current().nextInt(100) < 2 ? 50 : 1;
+                    Thread.sleep(millis);
+                    return new OperationResult.Success<>(millis);
+                });
+            }
+            scope.join();
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package com.example.core.benchmarks;
+
+import com.example.core.common.utilities.completion.OperationResult;
+import com.example.core.common.utilities.completion.TaskCompletionHandler;
+import com.example.core.common.utilities.metrics.MetricsRegistry;
+import com.example.core.common.utilities.metrics.OperationMetrics;
+import com.example.core.common.utilities.operations.OperationContext;
+import com.example.core.common.utilities.operations.OperationsTaskScope;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Cost of instrumenting {@link OperationsTaskScope}: the recorder calls one subtask makes, and a scope forking
+ * {@code SUBTASKS} trivial subtasks with and without a {@link MetricsRegistry}. Reported per subtask.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(value = 1, jvmArgsAppend = "--enable-preview")
+public class OperationMetricsBenchmark {
+    private static final int SUBTASKS = 1_000;
+    private static final TaskCompletionHandler<Integer> IGNORE = new TaskCompletionHandler<>() {
+        @Override public void onSuccess(Integer value) {}
+        @Override public void onFailure(Throwable throwable) {}
+    };
+
+    private MetricsRegistry registry;
+    private OperationMetrics.Recorder recorder;
+    private long latency;
+
+    @Setup
+    public void setUp() {
+        registry = new MetricsRegistry();
+        recorder = registry.recorder("Register");
+    }
+
+    @Benchmark
+    public void recorderOverhead() {
+        recorder.forked();
+        recorder.started();
+        recorder.finished(latency = (latency + 977) & 0xFFFFF);
+        recorder.completed(OperationMetrics.Outcome.SUCCESS);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SUBTASKS)
+    public void scopeWithoutMetrics() throws InterruptedException {
+        fanOut(OperationMetrics.NOOP);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SUBTASKS)
+    public void scopeWithMetrics() throws InterruptedException {
+        fanOut(registry);
+    }
+
+    private static void fanOut(OperationMetrics metrics) throws InterruptedException {
+        try (var scope = new OperationsTaskScope<>("Register", new OperationContext.NonTransactional(), IGNORE, metrics)) {
+            for (int i = 0; i < SUBTASKS; i++) {
+                int value = i;
+                scope.fork(() -> new OperationResult.Success<>(value));
+            }
+            scope.join();
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package com.example.core.benchmarks;
+
+import com.example.core.common.utilities.journal.Journal;
+import com.example.core.domain.Event;
+import com.example.core.domain.Registration;
+import com.example.core.operations.RegistrationJournal;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Durable registrations per second with many concurrent writers sharing group commits.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Threads(64)
+public class RegistrationJournalBenchmark {
+    @Param({"ALWAYS", "INTERVAL", "NEVER"})
+    public Journal.FsyncPolicy fsyncPolicy;
+
+    private Path directory;
+    private RegistrationJournal journal;
+    private List<Registration> registrations;
+    private final AtomicInteger next = new AtomicInteger();
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        directory = Files.createTempDirectory("journal-bench");
+        journal = new RegistrationJournal(Journal.open(new Journal.Options(directory, Journal.Options.DEFAULT_SEGMENT_SIZE,
+                fsyncPolicy, Duration.ofMillis(10))));
+        List<Event> events = BenchmarkData.events(100, 3);
+        registrations = BenchmarkData.registrations(events, 100_000, 5);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        journal.close();
+        try (Stream<Path> paths = Files.walk(directory)) {
+            for (Path path : paths.sorted(Comparator.reverseOrder()).toList()) Files.deleteIfExists(path);
+        }
+    }
+
+    @Benchmark
+    public long recordCreated() throws IOException {
+        return journal.recordCreated(registrations.get(Math.floorMod(next.getAndIncrement(), registrations.size())));
+    }
+}
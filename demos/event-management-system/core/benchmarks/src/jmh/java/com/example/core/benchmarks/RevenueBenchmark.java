@@ -0,0 +1,54 @@
+package com.example.core.benchmarks;
+
+import com.example.core.domain.Event;
+import com.example.core.domain.Money;
+import com.example.core.domain.Registration;
+import com.example.core.operations.EventOperations;
+import com.example.core.operations.MoneyOperations;
+import com.example.core.operations.RegistrationOperations;
+import com.example.core.operations.RevenueView;
+import java.util.Currency;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class RevenueBenchmark {
+    @Param({"10000", "1000000", "10000000"})
+    public int registrations;
+
+    private List<Registration> registrationList;
+    private List<Money> fees;
+    private RevenueView view;
+
+    @Setup
+    public void setUp() {
+        List<Event> events = BenchmarkData.events(1_000, 7);
+        registrationList = BenchmarkData.registrations(events, registrations, 11);
+        fees = registrationList.stream().map(r -> EventOperations.getEventFee(r.event())).toList();
+        view = RevenueView.of(registrationList);
+    }
+
+    @Benchmark
+    public Money moneySum() {
+        return MoneyOperations.sum(fees);
+    }
+
+    @Benchmark
+    public Money calculateTotalRevenue() {
+        return RegistrationOperations.calculateTotalRevenue(registrationList);
+    }
+
+    @Benchmark
+    public Map<Currency, Money> calculateRevenueByCurrency() {
+        return RegistrationOperations.calculateRevenueByCurrency(registrationList);
+    }
+
+    @Benchmark
+    public Map<Currency, Money> revenueViewTotals() {
+        return view.totals();
+    }
+}
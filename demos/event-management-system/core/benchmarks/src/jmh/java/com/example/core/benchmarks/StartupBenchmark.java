@@ -0,0 +1,84 @@
+package com.example.core.benchmarks;
+
+import com.example.core.common.utilities.journal.Journal;
+import com.example.core.domain.Event;
+import com.example.core.domain.Registration;
+import com.example.core.domain.RegistrationStatus;
+import com.example.core.operations.EventStateStore;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Time to reopen an {@link EventStateStore}: loading its snapshot and replaying the journal tail after it,
+ * against replaying the whole history when no snapshot was taken.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgsAppend = "-Xmx24g")
+public class StartupBenchmark {
+    @Param({"1000000"})
+    public int events;
+
+    @Param({"10000000"})
+    public int registrations;
+
+    @Param({"0", "100000"})
+    public int tailEntries;
+
+    @Param({"true", "false"})
+    public boolean snapshot;
+
+    private Path directory;
+    private EventStateStore opened;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        directory = Files.createTempDirectory("startup-bench");
+        try (EventStateStore store = EventStateStore.open(directory, journalOptions())) {
+            List<Event> eventList = BenchmarkData.events(events, 13);
+            for (Event event : eventList) store.addEvent(event);
+            for (Registration registration : BenchmarkData.registrations(eventList, registrations, 17)) {
+                store.addRegistration(registration);
+            }
+            if (snapshot) store.snapshot();
+            List<Registration> recorded = store.registrations();
+            for (int i = 0; i < tailEntries; i++) {
+                store.updateStatus(recorded.get(i % recorded.size()).id(), RegistrationStatus.CANCELLED);
+            }
+        }
+    }
+
+    @TearDown(Level.Iteration)
+    public void closeStore() {
+        if (opened != null) opened.close();
+        opened = null;
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        try (Stream<Path> paths = Files.walk(directory)) {
+            for (Path path : paths.sorted(Comparator.reverseOrder()).toList()) Files.deleteIfExists(path);
+        }
+    }
+
+    @Benchmark
+    public int open() throws IOException {
+        opened = EventStateStore.open(directory, journalOptions());
+        return opened.catalog().size();
+    }
+
+    private Journal.Options journalOptions() {
+        return new Journal.Options(directory.resolve("journal"), Journal.Options.DEFAULT_SEGMENT_SIZE,
+                Journal.FsyncPolicy.NEVER, Duration.ZERO);
+    }
+}
@@ -0,0 +1,65 @@
+package com.example.core.benchmarks;
+
+import com.example.core.domain.Attendee;
+import com.example.core.domain.Concert;
+import com.example.core.domain.EventId;
+import com.example.core.domain.Location;
+import com.example.core.domain.Money;
+import com.example.core.domain.Registration;
+import com.example.core.domain.RegistrationStatus;
+import com.example.core.operations.RegistrationLedger;
+import com.example.core.operations.RegistrationOperations;
+import com.example.core.operations.StatusChange;
+import com.example.core.operations.Waitlist;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * A big on-sale: {@code seats} confirmed registrations behind which {@code waiting} attendees queue, then every
+ * seat is cancelled and handed to the head of the waitlist. Reported per cancellation.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class WaitlistBenchmark {
+    private static final int SEATS = 100_000;
+
+    @Param({"100000", "1000000"})
+    public int waiting;
+
+    private RegistrationLedger ledger;
+    private Waitlist waitlist;
+    private List<Registration> confirmed;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        Concert concert = new Concert(EventId.generate(), "On-Sale", BenchmarkData.EPOCH, BenchmarkData.EPOCH.plusHours(4),
+                new Location("Arena", "Main Street"), SEATS, "Headliner", "Pop", new Money(new BigDecimal("99.00"), BenchmarkData.USD));
+        ledger = new RegistrationLedger();
+        waitlist = new Waitlist();
+        confirmed = new ArrayList<>(SEATS);
+        for (int i = 0; i < SEATS + waiting; i++) {
+            Attendee attendee = new Attendee(new UUID(0, i), "Fan-" + i, "fan" + i + "@example.com", null);
+            Registration registration = RegistrationOperations.registerOrWaitlist(concert, attendee, ledger, waitlist);
+            if (registration.status() == RegistrationStatus.CONFIRMED) confirmed.add(registration);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SEATS)
+    public int cancelAndPromote() {
+        int promoted = 0;
+        for (Registration registration : confirmed) {
+            StatusChange change = RegistrationOperations.updateStatus(registration, RegistrationStatus.CANCELLED, ledger, waitlist);
+            if (change.promoted().isPresent()) promoted++;
+        }
+        return promoted;
+    }
+}
@@ -12,7 +12,8 @@ allprojects {
     }
 }
 
-subprojects {
+// Benchmarks are run in place and never published.
+configure(subprojects.filter { it.name != "benchmarks" }) {
     plugins.apply("maven-publish")
 
     // Ensure Java plugin is applied (already handled by core-library, but for safety)
@@ -5,3 +5,6 @@ plugins {
 group = "com.example.core.common"
 version = "1.0.0"
 
+dependencies {
+    testImplementation("com.h2database:h2:2.3.232")
+}
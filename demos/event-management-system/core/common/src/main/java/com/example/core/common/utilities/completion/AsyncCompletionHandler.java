@@ -0,0 +1,163 @@
+package com.example.core.common.utilities.completion;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Hands completions to another {@link TaskCompletionHandler} on a dedicated dispatcher thread, so a slow handler
+ * holds up neither the completing subtask nor its scope. Subtasks publish into a pre-allocated ring of
+ * {@code capacity} slots and only wait when it is full; the dispatcher drains it in publication order.
+ * {@code onShutdown} waits for the ring to drain, shuts the downstream handler down on the dispatcher thread, and
+ * rethrows the first error a downstream callback threw. Nothing may be published after {@code onShutdown}.
+ */
+public final class AsyncCompletionHandler<T> implements TaskCompletionHandler<T> {
+    /**
+     * How the dispatcher waits for completions, and publishers for free slots. A spinning or yielding dispatcher
+     * parks once it has found the ring empty {@code MAX_IDLE_SPINS} times in a row, so an idle handler holds no core.
+     */
+    public enum WaitStrategy {
+        // Lowest latency; keeps a core busy while completions arrive.
+        SPIN,
+        // Gives the core to other runnable threads between checks.
+        YIELD,
+        // Sleeps until a publisher wakes it; publishers back off briefly when the ring is full.
+        PARK
+    }
+
+    private static final byte SUCCESS = 0;
+    private static final byte FAILURE = 1;
+    private static final long FULL_BACKOFF_NANOS = 50_000;
+    private static final int MAX_IDLE_SPINS = 1 << 16;
+
+    private final TaskCompletionHandler<T> downstream;
+    private final WaitStrategy waitStrategy;
+    private final int mask;
+    private final Object[] items;
+    private final byte[] kinds;
+    // Sequence last published into each slot; its volatile write publishes the slot's item and kind.
+    private final AtomicLongArray published;
+    private final AtomicLong claimed = new AtomicLong();
+    private final Thread dispatcher;
+    private volatile long consumed;
+    private volatile boolean dispatcherParked;
+    private volatile boolean shutdown;
+    private Throwable downstreamError;
+
+    public AsyncCompletionHandler(TaskCompletionHandler<T> downstream, int capacity, WaitStrategy waitStrategy) {
+        if (downstream == null) throw new IllegalArgumentException("Downstream handler cannot be null");
+        if (capacity <= 0 || Integer.bitCount(capacity) != 1) throw new IllegalArgumentException("Capacity must be a positive power of two");
+        if (waitStrategy == null) throw new IllegalArgumentException("Wait strategy cannot be null");
+        this.downstream = downstream;
+        this.waitStrategy = waitStrategy;
+        this.mask = capacity - 1;
+        this.items = new Object[capacity];
+        this.kinds = new byte[capacity];
+        this.published = new AtomicLongArray(capacity);
+        for (int slot = 0; slot < capacity; slot++) published.set(slot, -1);
+        this.dispatcher = Thread.ofPlatform().daemon().name("CompletionDispatcher").start(this::dispatch);
+    }
+
+    // Completions published but not yet taken by the dispatcher.
+    public int backlog() {
+        return (int) Math.min(claimed.get() - consumed, items.length);
+    }
+
+    @Override
+    public void onSuccess(T value) {
+        publish(SUCCESS, value);
+    }
+
+    @Override
+    public void onFailure(Throwable throwable) {
+        publish(FAILURE, throwable);
+    }
+
+    @Override
+    public void onShutdown() {
+        shutdown = true;
+        LockSupport.unpark(dispatcher);
+        boolean interrupted = false;
+        while (dispatcher.isAlive()) {
+            try {
+                dispatcher.join();
+            } catch (InterruptedException e) {
+                interrupted = true;
+            }
+        }
+        if (interrupted) Thread.currentThread().interrupt();
+        switch (downstreamError) {
+            case null -> {}
+            case RuntimeException e -> throw e;
+            case Error e -> throw e;
+            default -> throw new IllegalStateException("Completion handler failed", downstreamError);
+        }
+    }
+
+    private void publish(byte kind, Object item) {
+        long sequence = claimed.getAndIncrement();
+        // A claimed slot must be filled or the dispatcher stalls, so waiting here ignores interrupts.
+        while (sequence - consumed >= items.length) {
+            switch (waitStrategy) {
+                case SPIN -> Thread.onSpinWait();
+                case YIELD -> Thread.yield();
+                case PARK -> LockSupport.parkNanos(FULL_BACKOFF_NANOS);
+            }
+        }
+        int slot = (int) sequence & mask;
+        items[slot] = item;
+        kinds[slot] = kind;
+        published.set(slot, sequence);
+        if (dispatcherParked) LockSupport.unpark(dispatcher);
+    }
+
+    private void dispatch() {
+        long next = 0;
+        int idleSpins = 0;
+        while (true) {
+            int slot = (int) next & mask;
+            if (published.get(slot) == next) {
+                idleSpins = 0;
+                Object item = items[slot];
+                byte kind = kinds[slot];
+                items[slot] = null;
+                // Free the slot before calling downstream, so publishers never wait on a slow handler call.
+                consumed = ++next;
+                deliver(kind, item);
+            } else if (shutdown && claimed.get() == next) {
+                break;
+            } else {
+                idle(slot, next, idleSpins);
+                if (idleSpins < MAX_IDLE_SPINS) idleSpins++;
+            }
+        }
+        try {
+            downstream.onShutdown();
+        } catch (Throwable t) {
+            if (downstreamError == null) downstreamError = t;
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private void deliver(byte kind, Object item) {
+        try {
+            if (kind == SUCCESS) downstream.onSuccess((T) item); else downstream.onFailure((Throwable) item);
+        } catch (Throwable t) {
+            // Keep draining so publishers are not blocked; the first error surfaces from onShutdown.
+            if (downstreamError == null) downstreamError = t;
+        }
+    }
+
+    private void idle(int slot, long next, int idleSpins) {
+        if (waitStrategy == WaitStrategy.SPIN && idleSpins < MAX_IDLE_SPINS) {
+            Thread.onSpinWait();
+        } else if (waitStrategy == WaitStrategy.YIELD && idleSpins < MAX_IDLE_SPINS) {
+            Thread.yield();
+        } else {
+            dispatcherParked = true;
+            // Re-check after announcing the park, so a publication in between is not missed.
+            if (published.get(slot) != next && !shutdown) LockSupport.park(this);
+            dispatcherParked = false;
+        }
+    }
+}
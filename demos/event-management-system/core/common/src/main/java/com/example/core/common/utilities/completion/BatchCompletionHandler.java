@@ -0,0 +1,13 @@
+package com.example.core.common.utilities.completion;
+
+import java.util.List;
+
+/**
+ * Receives the successes of many subtasks at once through a {@link BatchingCompletionHandler}, so that work such
+ * as a batch insert runs once per flush instead of once per subtask. Calls to {@code onBatch} never overlap.
+ */
+public interface BatchCompletionHandler<T> {
+    void onBatch(List<T> batch);
+    void onFailure(Throwable throwable);
+    default void onShutdown() {}
+}
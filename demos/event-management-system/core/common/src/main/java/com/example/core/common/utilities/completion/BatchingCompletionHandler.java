@@ -0,0 +1,147 @@
+package com.example.core.common.utilities.completion;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Collects successes into fixed-size arrays and hands each full array to a {@link BatchCompletionHandler}. If a
+ * maximum delay is given, a virtual thread also flushes a partial batch once its oldest item has waited that long.
+ * Failures are passed on immediately. {@code onShutdown} stops the flusher, delivers what is left and then shuts the
+ * downstream handler down. A batch that fails to be delivered is reported to {@code onFailure}.
+ */
+public final class BatchingCompletionHandler<T> implements TaskCompletionHandler<T> {
+    private final BatchCompletionHandler<T> downstream;
+    private final int maxBatchSize;
+    private final long maxDelayNanos;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition pending = lock.newCondition();
+    // Held while delivering, so downstream sees one batch at a time.
+    private final ReentrantLock deliveryLock = new ReentrantLock();
+    private final Thread flusher;
+    private Object[] buffer;
+    private int size;
+    private long oldestAt;
+    private boolean shutdown;
+
+    public BatchingCompletionHandler(BatchCompletionHandler<T> downstream, int maxBatchSize) {
+        this(downstream, maxBatchSize, null);
+    }
+
+    public BatchingCompletionHandler(BatchCompletionHandler<T> downstream, int maxBatchSize, Duration maxDelay) {
+        if (downstream == null) throw new IllegalArgumentException("Downstream handler cannot be null");
+        if (maxBatchSize <= 0) throw new IllegalArgumentException("Batch size must be positive");
+        if (maxDelay != null && (maxDelay.isNegative() || maxDelay.isZero())) throw new IllegalArgumentException("Maximum delay must be positive");
+        this.downstream = downstream;
+        this.maxBatchSize = maxBatchSize;
+        this.maxDelayNanos = maxDelay == null ? 0 : maxDelay.toNanos();
+        this.buffer = new Object[maxBatchSize];
+        this.flusher = maxDelay == null ? null : Thread.ofVirtual().name("BatchFlusher").start(this::flushOnDelay);
+    }
+
+    @Override
+    public void onSuccess(T value) {
+        Object[] full = null;
+        lock.lock();
+        try {
+            if (size == 0) {
+                oldestAt = System.nanoTime();
+                pending.signal();
+            }
+            buffer[size++] = value;
+            if (size == maxBatchSize) full = take();
+        } finally {
+            lock.unlock();
+        }
+        if (full != null) deliver(full);
+    }
+
+    @Override
+    public void onFailure(Throwable throwable) {
+        downstream.onFailure(throwable);
+    }
+
+    @Override
+    public void onShutdown() {
+        lock.lock();
+        try {
+            shutdown = true;
+            pending.signal();
+        } finally {
+            lock.unlock();
+        }
+        if (flusher != null) {
+            boolean interrupted = false;
+            while (flusher.isAlive()) {
+                try {
+                    flusher.join();
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                }
+            }
+            if (interrupted) Thread.currentThread().interrupt();
+        }
+        Object[] rest;
+        lock.lock();
+        try {
+            rest = size == 0 ? null : take();
+        } finally {
+            lock.unlock();
+        }
+        if (rest != null) deliver(rest);
+        downstream.onShutdown();
+    }
+
+    private void flushOnDelay() {
+        lock.lock();
+        try {
+            while (!shutdown) {
+                long wait = size == 0 ? Long.MAX_VALUE : oldestAt + maxDelayNanos - System.nanoTime();
+                if (wait > 0) {
+                    if (size == 0) pending.await(); else pending.awaitNanos(wait);
+                    continue;
+                }
+                Object[] due = take();
+                lock.unlock();
+                try {
+                    deliver(due);
+                } finally {
+                    lock.lock();
+                }
+            }
+        } catch (InterruptedException e) {
+            // Only onShutdown stops the flusher; anything left is delivered there.
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // Called with lock held; a partial batch is copied so the buffer can be reused.
+    private Object[] take() {
+        Object[] batch;
+        if (size == maxBatchSize) {
+            batch = buffer;
+            buffer = new Object[maxBatchSize];
+        } else {
+            batch = Arrays.copyOf(buffer, size);
+            Arrays.fill(buffer, 0, size, null);
+        }
+        size = 0;
+        return batch;
+    }
+
+    @SuppressWarnings("unchecked")
+    private void deliver(Object[] batch) {
+        deliveryLock.lock();
+        try {
+            downstream.onBatch((List<T>) Collections.unmodifiableList(Arrays.asList(batch)));
+        } catch (RuntimeException e) {
+            downstream.onFailure(e);
+        } finally {
+            deliveryLock.unlock();
+        }
+    }
+}
@@ -3,6 +3,7 @@ package com.example.core.common.utilities.completion;
 public interface TaskCompletionHandler<T> {
     void onSuccess(T value);
     void onFailure(Throwable throwable);
+    // Called once the scope has closed, after the last onSuccess or onFailure.
     default void onShutdown() {}
     default <U extends T> TaskCompletionHandler<U> andThen(TaskCompletionHandler<U> nextHandler) {
         return new TaskCompletionHandler<U>() {
@@ -0,0 +1,401 @@
+package com.example.core.common.utilities.journal;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Stream;
+import java.util.zip.CRC32C;
+
+/**
+ * Append-only journal of opaque records stored in fixed-size memory-mapped segment files.
+ * <p>
+ * Concurrent {@link #append} calls are group-committed: callers queue their record, and whichever caller
+ * takes the write lock first copies every queued record into the segment and, depending on the
+ * {@link FsyncPolicy}, forces them to disk with one {@code force()}. The others find their record already
+ * committed when they get the lock. Each record is framed as {@code [length][crc32c][sequence][payload]};
+ * on open, the tail of the last segment is scanned and a torn or zeroed frame marks the end of the journal.
+ * Segment files are named after the sequence their first record gets, so numbering carries on even when
+ * truncation leaves only a segment whose records were all lost.
+ */
+public final class Journal implements AutoCloseable {
+    public enum FsyncPolicy {
+        /** Force every group commit before acknowledging it. */
+        ALWAYS,
+        /**
+         * Force at most once per {@link Options#fsyncInterval()}, and within an interval of the last write when
+         * appends stop; a crash may lose that window.
+         */
+        INTERVAL,
+        /** Leave write-back to the OS; survives process crashes but not power loss. */
+        NEVER
+    }
+
+    public record Options(Path directory, int segmentSize, FsyncPolicy fsyncPolicy, Duration fsyncInterval) {
+        public static final int DEFAULT_SEGMENT_SIZE = 64 * 1024 * 1024;
+
+        public Options {
+            if (directory == null) throw new IllegalArgumentException("Directory cannot be null");
+            if (segmentSize < HEADER_SIZE * 2) throw new IllegalArgumentException("Segment size too small");
+            if (fsyncPolicy == null) throw new IllegalArgumentException("Fsync policy cannot be null");
+            if (fsyncInterval == null || fsyncInterval.isNegative()) throw new IllegalArgumentException("Fsync interval must be non-negative");
+        }
+
+        public static Options defaults(Path directory) {
+            return new Options(directory, DEFAULT_SEGMENT_SIZE, FsyncPolicy.ALWAYS, Duration.ZERO);
+        }
+    }
+
+    @FunctionalInterface
+    public interface RecordConsumer {
+        void accept(long sequence, ByteBuffer payload) throws IOException;
+    }
+
+    static final int HEADER_SIZE = Integer.BYTES * 2 + Long.BYTES;
+    private static final String SEGMENT_PREFIX = "segment-";
+    private static final String SEGMENT_SUFFIX = ".log";
+
+    private final Options options;
+    private final ReentrantLock queueLock = new ReentrantLock();
+    private final ReentrantLock writeLock = new ReentrantLock();
+    private ArrayDeque<PendingRecord> queue = new ArrayDeque<>();
+    private ArrayDeque<PendingRecord> draining = new ArrayDeque<>();
+    private final CRC32C crc = new CRC32C();
+
+    private long segmentBase;
+    private MappedByteBuffer segment;
+    private int unforcedFrom;
+    private long nextSequence;
+    private long lastForceNanos = System.nanoTime();
+    private volatile boolean closed;
+    private Thread forcer;
+
+    private Journal(Options options) {
+        this.options = options;
+    }
+
+    public static Journal open(Options options) throws IOException {
+        Files.createDirectories(options.directory());
+        Journal journal = new Journal(options);
+        journal.recover();
+        if (options.fsyncPolicy() == FsyncPolicy.INTERVAL && !options.fsyncInterval().isZero()) {
+            journal.forcer = Thread.ofVirtual().name("JournalForcer").start(journal::forcePeriodically);
+        }
+        return journal;
+    }
+
+    // Appends one non-empty record and returns its sequence number once it is committed under the fsync policy.
+    public long append(byte[] payload) throws IOException {
+        // A zero length marks the end of the written frames, so an empty record would hide everything after it.
+        if (payload.length == 0) throw new IllegalArgumentException("Record cannot be empty");
+        if (payload.length > options.segmentSize() - HEADER_SIZE) throw new IllegalArgumentException("Record larger than a segment");
+        PendingRecord pending = new PendingRecord(payload);
+        queueLock.lock();
+        try {
+            if (closed) throw new IOException("Journal is closed");
+            queue.add(pending);
+        } finally {
+            queueLock.unlock();
+        }
+        writeLock.lock();
+        try {
+            if (!pending.committed) commitQueued();
+        } finally {
+            writeLock.unlock();
+        }
+        if (pending.failure != null) throw new IOException("Journal append failed", pending.failure);
+        return pending.sequence;
+    }
+
+    public void replay(long afterSequence, RecordConsumer consumer) throws IOException {
+        for (Path path : segmentPaths()) {
+            MappedByteBuffer buffer = map(path);
+            int position = 0;
+            while (true) {
+                ByteBuffer record = readRecord(buffer, position);
+                if (record == null) break;
+                long sequence = buffer.getLong(position + Integer.BYTES * 2);
+                position += HEADER_SIZE + record.remaining();
+                if (sequence > afterSequence) consumer.accept(sequence, record);
+            }
+        }
+    }
+
+    public long lastSequence() {
+        writeLock.lock();
+        try {
+            return nextSequence - 1;
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    // Deletes whole segments whose records are all at or below the given sequence; the active segment is kept.
+    public void truncateUpTo(long sequence) throws IOException {
+        writeLock.lock();
+        try {
+            List<Path> paths = segmentPaths();
+            for (int i = 0; i + 1 < paths.size(); i++) {
+                if (baseOf(paths.get(i + 1)) - 1 > sequence) break;
+                Files.delete(paths.get(i));
+            }
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    public void sync() {
+        writeLock.lock();
+        try {
+            force();
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    @Override
+    public void close() {
+        queueLock.lock();
+        try {
+            closed = true;
+        } finally {
+            queueLock.unlock();
+        }
+        if (forcer != null) {
+            forcer.interrupt();
+            boolean interrupted = false;
+            while (forcer.isAlive()) {
+                try {
+                    forcer.join();
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                }
+            }
+            if (interrupted) Thread.currentThread().interrupt();
+        }
+        writeLock.lock();
+        try {
+            commitQueued();
+            force();
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    // True if committed records are waiting for a force.
+    boolean hasUnforced() {
+        writeLock.lock();
+        try {
+            return segment != null && segment.position() > unforcedFrom;
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    // Forces writes an INTERVAL journal has left unforced once the interval has passed, even if appends stop.
+    private void forcePeriodically() {
+        long interval = options.fsyncInterval().toNanos();
+        while (!closed) {
+            long wait = interval;
+            writeLock.lock();
+            try {
+                if (closed) return;
+                if (segment.position() > unforcedFrom) {
+                    long sinceForce = System.nanoTime() - lastForceNanos;
+                    if (sinceForce >= interval) force(); else wait = interval - sinceForce;
+                }
+            } catch (UncheckedIOException e) {
+                // Left unforced; the next append or force reports the failure.
+            } finally {
+                writeLock.unlock();
+            }
+            try {
+                Thread.sleep(Duration.ofNanos(wait));
+            } catch (InterruptedException e) {
+                return;
+            }
+        }
+    }
+
+    private void commitQueued() {
+        queueLock.lock();
+        try {
+            ArrayDeque<PendingRecord> swap = draining;
+            draining = queue;
+            queue = swap;
+        } finally {
+            queueLock.unlock();
+        }
+        if (draining.isEmpty()) return;
+        long startBase = segmentBase;
+        MappedByteBuffer startSegment = segment;
+        int startPosition = segment.position();
+        int startUnforced = unforcedFrom;
+        long startSequence = nextSequence;
+        Throwable failure = null;
+        try {
+            for (PendingRecord pending : draining) write(pending);
+            switch (options.fsyncPolicy()) {
+                case ALWAYS -> force();
+                case INTERVAL -> {
+                    if (System.nanoTime() - lastForceNanos >= options.fsyncInterval().toNanos()) force();
+                }
+                case NEVER -> {}
+            }
+        } catch (IOException | UncheckedIOException e) {
+            failure = e;
+            rollBack(startBase, startSegment, startPosition, startUnforced, startSequence);
+        }
+        for (PendingRecord pending : draining) {
+            pending.failure = failure;
+            pending.committed = true;
+        }
+        draining.clear();
+    }
+
+    // Erases a group that failed part way, so that no record its callers were told failed is replayed later.
+    private void rollBack(long startBase, MappedByteBuffer startSegment, int startPosition, int startUnforced,
+                          long startSequence) {
+        if (segment != startSegment) {
+            try {
+                for (Path path : segmentPaths()) {
+                    if (baseOf(path) > startBase) Files.deleteIfExists(path);
+                }
+            } catch (IOException e) {
+                // Best effort, like the erasure below.
+            }
+            segment = startSegment;
+        }
+        segmentBase = startBase;
+        int end = segment.position();
+        if (end > startPosition) {
+            segment.put(startPosition, new byte[end - startPosition]);
+            try {
+                // Rolling may already have forced these frames; force the erasure over them.
+                segment.force(startPosition, end - startPosition);
+            } catch (UncheckedIOException e) {
+                // Best effort: the device is already failing writes.
+            }
+        }
+        segment.position(startPosition);
+        unforcedFrom = startUnforced;
+        nextSequence = startSequence;
+    }
+
+    private void write(PendingRecord pending) throws IOException {
+        int frameSize = HEADER_SIZE + pending.payload.length;
+        if (segment.remaining() < frameSize) rollSegment();
+        int position = segment.position();
+        long sequence = nextSequence++;
+        crc.reset();
+        crc.update(pending.payload);
+        // Payload first and length last, so a torn write never looks like a complete frame.
+        segment.putInt(position + Integer.BYTES, (int) crc.getValue());
+        segment.putLong(position + Integer.BYTES * 2, sequence);
+        segment.put(position + HEADER_SIZE, pending.payload);
+        segment.putInt(position, pending.payload.length);
+        segment.position(position + frameSize);
+        pending.sequence = sequence;
+    }
+
+    private void force() {
+        if (segment == null) return;
+        int length = segment.position() - unforcedFrom;
+        if (length > 0) segment.force(unforcedFrom, length);
+        unforcedFrom = segment.position();
+        lastForceNanos = System.nanoTime();
+    }
+
+    private void rollSegment() throws IOException {
+        force();
+        segmentBase = nextSequence;
+        segment = map(segmentPath(segmentBase));
+        unforcedFrom = 0;
+    }
+
+    private void recover() throws IOException {
+        List<Path> paths = segmentPaths();
+        nextSequence = 1;
+        if (paths.isEmpty()) {
+            segmentBase = 1;
+            segment = map(segmentPath(segmentBase));
+            return;
+        }
+        Path last = paths.getLast();
+        segmentBase = baseOf(last);
+        segment = map(last);
+        int position = 0;
+        long lastSequence = -1;
+        while (true) {
+            ByteBuffer record = readRecord(segment, position);
+            if (record == null) break;
+            lastSequence = segment.getLong(position + Integer.BYTES * 2);
+            position += HEADER_SIZE + record.remaining();
+        }
+        nextSequence = lastSequence < 0 ? segmentBase : lastSequence + 1;
+        // Clear whatever a torn write left behind so later frames are not misread.
+        byte[] zeros = new byte[64 * 1024];
+        for (int i = position; i < segment.capacity(); i += zeros.length) {
+            segment.put(i, zeros, 0, Math.min(zeros.length, segment.capacity() - i));
+        }
+        segment.position(position);
+        unforcedFrom = position;
+    }
+
+    private ByteBuffer readRecord(MappedByteBuffer buffer, int position) {
+        if (position + HEADER_SIZE > buffer.capacity()) return null;
+        int length = buffer.getInt(position);
+        if (length <= 0 || position + HEADER_SIZE + length > buffer.capacity()) return null;
+        ByteBuffer payload = buffer.slice(position + HEADER_SIZE, length).asReadOnlyBuffer();
+        CRC32C check = new CRC32C();
+        check.update(payload.duplicate());
+        if ((int) check.getValue() != buffer.getInt(position + Integer.BYTES)) return null;
+        return payload;
+    }
+
+    private MappedByteBuffer map(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE)) {
+            return channel.map(FileChannel.MapMode.READ_WRITE, 0, options.segmentSize());
+        }
+    }
+
+    private List<Path> segmentPaths() throws IOException {
+        try (Stream<Path> files = Files.list(options.directory())) {
+            return new ArrayList<>(files
+                    .filter(p -> p.getFileName().toString().startsWith(SEGMENT_PREFIX)
+                            && p.getFileName().toString().endsWith(SEGMENT_SUFFIX))
+                    .sorted()
+                    .toList());
+        }
+    }
+
+    private Path segmentPath(long base) {
+        return options.directory().resolve(SEGMENT_PREFIX + "%020d".formatted(base) + SEGMENT_SUFFIX);
+    }
+
+    private static long baseOf(Path segment) {
+        String name = segment.getFileName().toString();
+        return Long.parseLong(name.substring(SEGMENT_PREFIX.length(), name.length() - SEGMENT_SUFFIX.length()));
+    }
+
+    private static final class PendingRecord {
+        private final byte[] payload;
+        private long sequence;
+        private boolean committed;
+        private Throwable failure;
+
+        PendingRecord(byte[] payload) {
+            this.payload = payload;
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package com.example.core.common.utilities.metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Concurrent latency histogram over fixed log-linear buckets: each power of two is split into
+ * {@value #SUB_BUCKETS} equal buckets, so any recorded value is reported within 12.5% of itself.
+ * Values below {@value #SUB_BUCKETS} get a bucket each. Recording is a few atomic adds and never allocates.
+ */
+public final class LatencyHistogram {
+    public static final int SUB_BUCKETS = 1 << 3;
+    private static final int SUB_BUCKET_BITS = 3;
+    static final int BUCKETS = bucketOf(Long.MAX_VALUE) + 1;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+    private final LongAdder sum = new LongAdder();
+    private final AtomicLong max = new AtomicLong();
+
+    public void record(long nanos) {
+        long value = Math.max(0, nanos);
+        counts.getAndIncrement(bucketOf(value));
+        sum.add(value);
+        long current = max.get();
+        while (value > current) {
+            long witness = max.compareAndExchange(current, value);
+            if (witness == current) return;
+            current = witness;
+        }
+    }
+
+    public Snapshot snapshot() {
+        long[] copy = new long[BUCKETS];
+        long count = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            copy[i] = counts.get(i);
+            count += copy[i];
+        }
+        return new Snapshot(copy, count, sum.sum(), max.get());
+    }
+
+    static int bucketOf(long value) {
+        if (value < SUB_BUCKETS) return (int) value;
+        int exponent = 63 - Long.numberOfLeadingZeros(value);
+        int shift = exponent - SUB_BUCKET_BITS;
+        return ((shift + 1) << SUB_BUCKET_BITS) + (int) ((value >>> shift) & (SUB_BUCKETS - 1));
+    }
+
+    static long lowerBound(int bucket) {
+        int group = bucket >>> SUB_BUCKET_BITS;
+        long sub = bucket & (SUB_BUCKETS - 1);
+        return group == 0 ? sub : (SUB_BUCKETS + sub) << (group - 1);
+    }
+
+    static long upperBound(int bucket) {
+        return bucket == BUCKETS - 1 ? Long.MAX_VALUE : lowerBound(bucket + 1) - 1;
+    }
+
+    /**
+     * Point-in-time copy of a histogram. Buckets are read one by one while recording continues, so a snapshot may
+     * include part of the samples recorded while it was taken.
+     */
+    public record Snapshot(long[] counts, long count, long sum, long max) {
+        public double mean() {
+            return count == 0 ? 0 : (double) sum / count;
+        }
+
+        // The upper bound of the bucket holding the given quantile, capped at the largest value recorded.
+        public long percentile(double quantile) {
+            if (quantile < 0 || quantile > 1) throw new IllegalArgumentException("Quantile must be between 0 and 1");
+            if (count == 0) return 0;
+            long rank = Math.max(1, (long) Math.ceil(quantile * count));
+            long seen = 0;
+            for (int i = 0; i < counts.length; i++) {
+                seen += counts[i];
+                if (seen >= rank) return Math.min(upperBound(i), max);
+            }
+            return max;
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package com.example.core.common.utilities.metrics;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * In-process {@link OperationMetrics}: striped counters, an in-flight gauge and a {@link LatencyHistogram} per
+ * operation name. Read it with {@link #snapshot()} or render it in the Prometheus text format with {@link #export()}.
+ */
+public final class MetricsRegistry implements OperationMetrics {
+    private static final double[] EXPORTED_QUANTILES = {0.5, 0.9, 0.99, 0.999};
+
+    private final Map<String, OperationStats> operations = new ConcurrentHashMap<>();
+
+    @Override
+    public Recorder recorder(String operationName) {
+        if (operationName == null) throw new IllegalArgumentException("Operation name cannot be null");
+        return operations.computeIfAbsent(operationName, name -> new OperationStats());
+    }
+
+    // Snapshots of every operation, ordered by name.
+    public Map<String, OperationSnapshot> snapshot() {
+        Map<String, OperationSnapshot> snapshots = new TreeMap<>();
+        operations.forEach((name, stats) -> snapshots.put(name, stats.snapshot(name)));
+        return snapshots;
+    }
+
+    public String export() {
+        Map<String, OperationSnapshot> snapshots = snapshot();
+        StringBuilder out = new StringBuilder();
+        out.append("# TYPE operation_forks_total counter\n");
+        snapshots.values().forEach(s -> sample(out, "operation_forks_total", s.operation(), null, s.forked()));
+        out.append("# TYPE operation_subtasks_total counter\n");
+        snapshots.values().forEach(s -> {
+            sample(out, "operation_subtasks_total", s.operation(), "outcome=\"success\"", s.succeeded());
+            sample(out, "operation_subtasks_total", s.operation(), "outcome=\"failure\"", s.failed());
+            sample(out, "operation_subtasks_total", s.operation(), "outcome=\"error\"", s.errored());
+        });
+        out.append("# TYPE operation_shutdowns_total counter\n");
+        snapshots.values().forEach(s -> sample(out, "operation_shutdowns_total", s.operation(), null, s.shutdowns()));
+        out.append("# TYPE operation_subtasks_in_flight gauge\n");
+        snapshots.values().forEach(s -> sample(out, "operation_subtasks_in_flight", s.operation(), null, s.inFlight()));
+        out.append("# TYPE operation_subtask_latency_seconds summary\n");
+        snapshots.values().forEach(s -> {
+            for (double quantile : EXPORTED_QUANTILES) {
+                sample(out, "operation_subtask_latency_seconds", s.operation(), "quantile=\"" + quantile + "\"",
+                        seconds(s.latency().percentile(quantile)));
+            }
+            sample(out, "operation_subtask_latency_seconds_sum", s.operation(), null, seconds(s.latency().sum()));
+            sample(out, "operation_subtask_latency_seconds_count", s.operation(), null, s.latency().count());
+        });
+        return out.toString();
+    }
+
+    private static void sample(StringBuilder out, String metric, String operation, String label, Object value) {
+        out.append(metric).append("{operation=\"").append(escape(operation)).append('"');
+        if (label != null) out.append(',').append(label);
+        out.append("} ").append(value).append('\n');
+    }
+
+    private static String escape(String value) {
+        return value.replace("\\", "\\\\").replace("\"", "\\\"").replace("\n", "\\n");
+    }
+
+    private static double seconds(long nanos) {
+        return nanos / 1e9;
+    }
+
+    private static final class OperationStats implements Recorder {
+        private final LongAdder forked = new LongAdder();
+        private final LongAdder succeeded = new LongAdder();
+        private final LongAdder failed = new LongAdder();
+        private final LongAdder errored = new LongAdder();
+        private final LongAdder shutdowns = new LongAdder();
+        private final LongAdder inFlight = new LongAdder();
+        private final LatencyHistogram latency = new LatencyHistogram();
+
+        @Override
+        public void forked() {
+            forked.increment();
+        }
+
+        @Override
+        public void started() {
+            inFlight.increment();
+        }
+
+        @Override
+        public void finished(long latencyNanos) {
+            inFlight.decrement();
+            latency.record(latencyNanos);
+        }
+
+        @Override
+        public void completed(Outcome outcome) {
+            switch (outcome) {
+                case SUCCESS -> succeeded.increment();
+                case FAILURE -> failed.increment();
+                case ERROR -> errored.increment();
+            }
+        }
+
+        @Override
+        public void shutdown() {
+            shutdowns.increment();
+        }
+
+        OperationSnapshot snapshot(String name) {
+            return new OperationSnapshot(name, forked.sum(), succeeded.sum(), failed.sum(), errored.sum(),
+                    shutdowns.sum(), inFlight.sum(), latency.snapshot());
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package com.example.core.common.utilities.metrics;
+
+/**
+ * Instrumentation SPI for {@link com.example.core.common.utilities.operations.OperationsTaskScope}. A scope asks for
+ * one {@link Recorder} per operation name when it is created and reports every subtask to it, so implementations
+ * should make the recorder calls cheap and allocation-free. {@link MetricsRegistry} is the in-process implementation.
+ */
+public interface OperationMetrics {
+    OperationMetrics NOOP = operationName -> Recorder.NOOP;
+
+    Recorder recorder(String operationName);
+
+    enum Outcome {
+        // The subtask returned OperationResult.Success.
+        SUCCESS,
+        // The subtask returned OperationResult.Failure.
+        FAILURE,
+        // The subtask threw.
+        ERROR
+    }
+
+    interface Recorder {
+        Recorder NOOP = new Recorder() {
+            @Override public void forked() {}
+            @Override public void started() {}
+            @Override public void finished(long latencyNanos) {}
+            @Override public void completed(Outcome outcome) {}
+            @Override public void shutdown() {}
+        };
+
+        void forked();
+
+        // The subtask began running; paired with finished.
+        void started();
+
+        // The subtask stopped running, the given nanoseconds after it was forked.
+        void finished(long latencyNanos);
+
+        void completed(Outcome outcome);
+
+        // The scope shut down early because a subtask failed.
+        void shutdown();
+    }
+}
@@ -0,0 +1,12 @@
+package com.example.core.common.utilities.metrics;
+
+/**
+ * Counters, in-flight gauge and latency distribution of one operation name at the time of
+ * {@link MetricsRegistry#snapshot()}.
+ */
+public record OperationSnapshot(String operation, long forked, long succeeded, long failed, long errored,
+                                long shutdowns, long inFlight, LatencyHistogram.Snapshot latency) {
+    public long completed() {
+        return succeeded + failed + errored;
+    }
+}
@@ -0,0 +1,86 @@
+package com.example.core.common.utilities.operations;
+
+import com.example.core.common.utilities.completion.OperationResult;
+import com.example.core.common.utilities.completion.TaskCompletionHandler;
+import com.example.core.common.utilities.metrics.OperationMetrics;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.Callable;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * An {@link OperationsTaskScope} whose forks take a permit from a {@link ConcurrencyLimit}, which may be shared
+ * with other scopes guarding the same resource. {@code fork} blocks the owner while the limit is reached and, if a
+ * maximum wait was given, throws {@link RejectedExecutionException} once it has waited that long. A
+ * {@link ExecutionMode.Deadline} scope never waits past its deadline, whatever the maximum wait.
+ * Permits are returned when a subtask finishes, reporting its running time to adaptive limits. A hedged subtask
+ * holds a single permit for its first attempt and its hedge together, since the hedge only stands in for a
+ * straggler; the running time reported is that of the whole race.
+ */
+public class BoundedOperationsTaskScope<T> extends OperationsTaskScope<T> {
+    private final ConcurrencyLimit limit;
+    private final long maxWaitNanos;
+    private final AtomicInteger acquired = new AtomicInteger();
+    private final AtomicInteger released = new AtomicInteger();
+
+    public BoundedOperationsTaskScope(String operationName, OperationContext context, TaskCompletionHandler<T> handler,
+                                      ConcurrencyLimit limit) {
+        this(operationName, context, ExecutionMode.FAIL_FAST, handler, defaultMetrics(), limit, null);
+    }
+
+    public BoundedOperationsTaskScope(String operationName, OperationContext context, ExecutionMode mode,
+                                      TaskCompletionHandler<T> handler, OperationMetrics metrics,
+                                      ConcurrencyLimit limit, Duration maxWait) {
+        super(operationName, context, mode, handler, metrics);
+        if (limit == null) throw new IllegalArgumentException("Concurrency limit cannot be null");
+        if (maxWait != null && maxWait.isNegative()) throw new IllegalArgumentException("Maximum wait cannot be negative");
+        this.limit = limit;
+        this.maxWaitNanos = maxWait == null ? -1 : maxWait.toNanos();
+    }
+
+    @Override
+    protected <U extends OperationResult<T>> Callable<? extends U> wrap(Callable<? extends U> task) {
+        // A shut down scope runs nothing, so there is nothing to bound.
+        if (isShutdown()) return task;
+        long waitNanos = maxWaitNanos;
+        Instant deadline = deadline();
+        if (deadline != null) {
+            long leftNanos = Math.max(0, Duration.between(Instant.now(), deadline).toNanos());
+            waitNanos = waitNanos < 0 ? leftNanos : Math.min(waitNanos, leftNanos);
+        }
+        try {
+            if (!limit.tryAcquire(waitNanos)) {
+                throw new RejectedExecutionException(waitNanos == maxWaitNanos
+                        ? "No capacity for another subtask within " + Duration.ofNanos(maxWaitNanos)
+                        : "No capacity for another subtask before the deadline");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RejectedExecutionException("Interrupted while waiting for capacity", e);
+        }
+        acquired.incrementAndGet();
+        return () -> {
+            long start = System.nanoTime();
+            boolean healthy = false;
+            try {
+                U result = task.call();
+                healthy = result instanceof OperationResult.Success;
+                return result;
+            } finally {
+                released.incrementAndGet();
+                limit.release(System.nanoTime() - start, healthy);
+            }
+        };
+    }
+
+    @Override
+    public void close() {
+        try {
+            super.close();
+        } finally {
+            // Subtasks forked as the scope shut down never ran; hand their permits back.
+            for (int i = released.get(); i < acquired.get(); i++) limit.release();
+        }
+    }
+}
@@ -0,0 +1,148 @@
+package com.example.core.common.utilities.operations;
+
+import java.util.ArrayDeque;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Caps the subtasks in flight across the {@link BoundedOperationsTaskScope}s sharing it. Waiters are served in
+ * arrival order, each parked on its own condition so a release wakes only the next in line.
+ * An adaptive limit follows additive-increase/multiplicative-decrease: it grows by about one per limit's worth of
+ * healthy completions and shrinks by {@code BACKOFF} when a subtask fails or its latency exceeds
+ * {@code tolerance} times the baseline, a slowly rising minimum of observed latencies.
+ */
+public final class ConcurrencyLimit {
+    private static final double BACKOFF = 0.9;
+    // Fraction of the gap a higher sample closes on the baseline, so it can recover after load shifts.
+    private static final double BASELINE_DRIFT = 0.01;
+
+    public record Snapshot(int limit, int inFlight, int queued, long rejections) {}
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final ArrayDeque<Condition> waiters = new ArrayDeque<>();
+    private final boolean adaptive;
+    private final int minLimit;
+    private final int maxLimit;
+    private final double tolerance;
+    private double limit;
+    private double baselineNanos = Double.NaN;
+    private int inFlight;
+    private long rejections;
+
+    private ConcurrencyLimit(int initialLimit, int minLimit, int maxLimit, double tolerance, boolean adaptive) {
+        if (minLimit <= 0 || minLimit > initialLimit || initialLimit > maxLimit) {
+            throw new IllegalArgumentException("Limits must satisfy 0 < min <= initial <= max");
+        }
+        if (!(tolerance > 1)) throw new IllegalArgumentException("Latency tolerance must be greater than 1");
+        this.limit = initialLimit;
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.tolerance = tolerance;
+        this.adaptive = adaptive;
+    }
+
+    public static ConcurrencyLimit fixed(int limit) {
+        return new ConcurrencyLimit(limit, limit, limit, 2, false);
+    }
+
+    public static ConcurrencyLimit aimd(int initialLimit, int minLimit, int maxLimit, double tolerance) {
+        return new ConcurrencyLimit(initialLimit, minLimit, maxLimit, tolerance, true);
+    }
+
+    public Snapshot snapshot() {
+        lock.lock();
+        try {
+            return new Snapshot(currentLimit(), inFlight, waiters.size(), rejections);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // Waits indefinitely for a permit.
+    void acquire() throws InterruptedException {
+        tryAcquire(-1);
+    }
+
+    // Waits up to the timeout for a permit; a negative timeout waits indefinitely.
+    boolean tryAcquire(long timeoutNanos) throws InterruptedException {
+        lock.lock();
+        try {
+            if (waiters.isEmpty() && inFlight < currentLimit()) {
+                inFlight++;
+                return true;
+            }
+            if (timeoutNanos == 0) {
+                rejections++;
+                return false;
+            }
+            Condition turn = lock.newCondition();
+            waiters.addLast(turn);
+            try {
+                long remaining = timeoutNanos;
+                while (waiters.peekFirst() != turn || inFlight >= currentLimit()) {
+                    if (timeoutNanos < 0) {
+                        turn.await();
+                    } else if (remaining <= 0) {
+                        rejections++;
+                        return false;
+                    } else {
+                        remaining = turn.awaitNanos(remaining);
+                    }
+                }
+                inFlight++;
+                return true;
+            } finally {
+                waiters.remove(turn);
+                signalNext();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // Returns a permit held for latencyNanos; healthy is false if the subtask failed.
+    void release(long latencyNanos, boolean healthy) {
+        lock.lock();
+        try {
+            if (adaptive) adapt(latencyNanos, healthy);
+            inFlight--;
+            signalNext();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // Returns a permit whose subtask never ran.
+    void release() {
+        lock.lock();
+        try {
+            inFlight--;
+            signalNext();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void adapt(long latencyNanos, boolean healthy) {
+        if (Double.isNaN(baselineNanos) || latencyNanos < baselineNanos) {
+            baselineNanos = latencyNanos;
+        } else {
+            baselineNanos += (latencyNanos - baselineNanos) * BASELINE_DRIFT;
+        }
+        if (!healthy || latencyNanos > tolerance * baselineNanos) {
+            limit = Math.max(minLimit, limit * BACKOFF);
+        } else if (2 * inFlight >= limit) {
+            // Only grow while the limit is what holds callers back.
+            limit = Math.min(maxLimit, limit + 1 / limit);
+        }
+    }
+
+    private int currentLimit() {
+        return (int) limit;
+    }
+
+    private void signalNext() {
+        Condition next = waiters.peekFirst();
+        if (next != null && inFlight < currentLimit()) next.signal();
+    }
+}
@@ -0,0 +1,53 @@
+package com.example.core.common.utilities.operations;
+
+import com.example.core.common.utilities.metrics.LatencyHistogram;
+import java.time.Duration;
+
+/**
+ * How an {@link OperationsTaskScope} bounds the latency of its subtasks. Every mode shuts the scope down on the
+ * first failure; a mode instance may be shared by scopes for the same operation.
+ */
+public sealed interface ExecutionMode permits
+        ExecutionMode.FailFast,
+        ExecutionMode.Deadline,
+        ExecutionMode.Hedged {
+    ExecutionMode FAIL_FAST = new FailFast();
+
+    // No time limit.
+    record FailFast() implements ExecutionMode {}
+
+    // Outstanding subtasks are cancelled and a TimeoutException reported once the scope has been open for timeout.
+    record Deadline(Duration timeout) implements ExecutionMode {
+        public Deadline {
+            if (timeout == null || timeout.isNegative() || timeout.isZero()) {
+                throw new IllegalArgumentException("Deadline timeout must be positive");
+            }
+        }
+    }
+
+    /**
+     * Each subtask is started again if it has not finished after the given percentile of its operation's observed
+     * latencies, and whichever attempt succeeds first is taken; a failing first attempt fails the subtask at once.
+     * The delay is read when the subtask is forked, from the first attempts' own latencies, and until enough have
+     * been observed the initial delay is used. Only for idempotent subtasks such as lookups, since both attempts may
+     * run to completion.
+     */
+    record Hedged(double percentile, Duration initialDelay, LatencyHistogram latencies) implements ExecutionMode {
+        private static final int MIN_SAMPLES = 100;
+
+        public Hedged {
+            if (!(percentile > 0 && percentile < 1)) throw new IllegalArgumentException("Hedge percentile must be between 0 and 1");
+            if (initialDelay == null || initialDelay.isNegative()) throw new IllegalArgumentException("Initial hedge delay cannot be negative");
+            if (latencies == null) throw new IllegalArgumentException("Latency histogram cannot be null");
+        }
+
+        public Hedged(double percentile, Duration initialDelay) {
+            this(percentile, initialDelay, new LatencyHistogram());
+        }
+
+        long delayNanos() {
+            LatencyHistogram.Snapshot snapshot = latencies.snapshot();
+            return snapshot.count() < MIN_SAMPLES ? initialDelay.toNanos() : snapshot.percentile(percentile);
+        }
+    }
+}
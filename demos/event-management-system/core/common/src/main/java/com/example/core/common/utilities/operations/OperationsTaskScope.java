@@ -2,25 +2,169 @@ package com.example.core.common.utilities.operations;
 
 import com.example.core.common.utilities.completion.OperationResult;
 import com.example.core.common.utilities.completion.TaskCompletionHandler;
+import com.example.core.common.utilities.metrics.OperationMetrics;
 import java.sql.SQLException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.StructuredTaskScope;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicReference;
 
 public class OperationsTaskScope<T> extends StructuredTaskScope<OperationResult<T>> {
+    private static volatile OperationMetrics defaultMetrics = OperationMetrics.NOOP;
+
     private final String operationName;
     private final OperationContext context;
     private final TaskCompletionHandler<T> completionHandler;
+    private final OperationMetrics.Recorder metrics;
+    private final ExecutionMode mode;
+    private final Instant deadline;
+    private final ExecutionMode.Hedged hedge;
     private volatile boolean shouldShutdown = false;
+    private volatile boolean timedOut = false;
 
     public OperationsTaskScope(String operationName, OperationContext context, TaskCompletionHandler<T> handler) {
+        this(operationName, context, ExecutionMode.FAIL_FAST, handler, defaultMetrics);
+    }
+
+    public OperationsTaskScope(String operationName, OperationContext context, TaskCompletionHandler<T> handler,
+                               OperationMetrics metrics) {
+        this(operationName, context, ExecutionMode.FAIL_FAST, handler, metrics);
+    }
+
+    public OperationsTaskScope(String operationName, OperationContext context, ExecutionMode mode,
+                               TaskCompletionHandler<T> handler) {
+        this(operationName, context, mode, handler, defaultMetrics);
+    }
+
+    public OperationsTaskScope(String operationName, OperationContext context, ExecutionMode mode,
+                               TaskCompletionHandler<T> handler, OperationMetrics metrics) {
         super(operationName + "TaskScope", Thread.ofVirtual().factory());
         this.operationName = operationName;
         this.context = context;
         this.completionHandler = handler;
+        this.metrics = metrics.recorder(operationName);
+        this.mode = mode;
+        // The deadline runs from scope creation, so it covers forking as well as joining.
+        this.deadline = mode instanceof ExecutionMode.Deadline d ? Instant.now().plus(d.timeout()) : null;
+        this.hedge = mode instanceof ExecutionMode.Hedged h ? h : null;
+    }
+
+    // Metrics for scopes created without explicit ones; no-op until set.
+    public static void setDefaultMetrics(OperationMetrics metrics) {
+        if (metrics == null) throw new IllegalArgumentException("Metrics cannot be null; use OperationMetrics.NOOP");
+        defaultMetrics = metrics;
+    }
+
+    public static OperationMetrics defaultMetrics() {
+        return defaultMetrics;
+    }
+
+    // True if the deadline passed before every subtask completed.
+    public boolean timedOut() {
+        return timedOut;
+    }
+
+    @Override
+    public <U extends OperationResult<T>> Subtask<U> fork(Callable<? extends U> task) {
+        Callable<? extends U> body = wrap(hedge != null ? hedged(task) : task);
+        if (metrics == OperationMetrics.Recorder.NOOP) return super.fork(body);
+        metrics.forked();
+        long forkedAt = System.nanoTime();
+        return super.fork(() -> {
+            metrics.started();
+            try {
+                return body.call();
+            } finally {
+                metrics.finished(System.nanoTime() - forkedAt);
+            }
+        });
+    }
+
+    // When a Deadline scope gives up on its subtasks; null in other modes.
+    protected Instant deadline() {
+        return deadline;
+    }
+
+    // Called by the owner once per fork, around the whole subtask including any hedge attempt.
+    protected <U extends OperationResult<T>> Callable<? extends U> wrap(Callable<? extends U> body) {
+        return body;
+    }
+
+    @Override
+    public OperationsTaskScope<T> join() throws InterruptedException {
+        if (deadline == null) {
+            super.join();
+            return this;
+        }
+        try {
+            super.joinUntil(deadline);
+        } catch (TimeoutException e) {
+            timedOut = true;
+            completionHandler.onFailure(new TimeoutException(
+                    operationName + " did not complete within " + ((ExecutionMode.Deadline) mode).timeout()));
+            shutDownEarly();
+            super.join();
+        }
+        return this;
+    }
+
+    // Races the task against a copy started after the hedge delay; the loser is interrupted.
+    private <U> Callable<U> hedged(Callable<? extends U> task) {
+        // Taken per fork, so the delay follows the latencies observed so far.
+        long delayNanos = hedge.delayNanos();
+        Callable<U> primary = () -> {
+            long startedAt = System.nanoTime();
+            try {
+                return task.call();
+            } finally {
+                // The primary's own time, up to its interruption if the hedge wins, so the percentile tracks
+                // the operation rather than the hedge.
+                hedge.latencies().record(System.nanoTime() - startedAt);
+            }
+        };
+        return () -> {
+            try (var race = new HedgeRace<U>(primary)) {
+                race.fork(primary);
+                race.fork(() -> {
+                    Thread.sleep(Duration.ofNanos(delayNanos));
+                    return task.call();
+                });
+                race.join();
+                return race.result();
+            }
+        };
+    }
+
+    // Decided by the first success or by the primary failing; a failed hedge leaves the primary running.
+    private static final class HedgeRace<U> extends StructuredTaskScope<U> {
+        private final Callable<U> primary;
+        private final AtomicReference<Subtask<? extends U>> decided = new AtomicReference<>();
+
+        HedgeRace(Callable<U> primary) {
+            this.primary = primary;
+        }
+
+        @Override
+        protected void handleComplete(Subtask<? extends U> subtask) {
+            boolean decisive = subtask.state() == Subtask.State.SUCCESS || subtask.task() == primary;
+            if (decisive && decided.compareAndSet(null, subtask)) shutdown();
+        }
+
+        U result() throws Exception {
+            ensureOwnerAndJoined();
+            Subtask<? extends U> subtask = decided.get();
+            if (subtask.state() == Subtask.State.SUCCESS) return subtask.get();
+            throw subtask.exception() instanceof Exception e ? e : new ExecutionException(subtask.exception());
+        }
     }
 
     @Override
     protected void handleComplete(Subtask<? extends OperationResult<T>> subtask) {
         if (subtask.state() == Subtask.State.FAILED) {
+            metrics.completed(OperationMetrics.Outcome.ERROR);
             handleFailure(subtask.exception());
         } else if (subtask.state() == Subtask.State.SUCCESS) {
             handleSuccess(subtask.get());
@@ -32,18 +176,38 @@ public class OperationsTaskScope<T> extends StructuredTaskScope<OperationResult<
             tx.transactionManager().rollbackIfActive();
         }
         completionHandler.onFailure(error);
-        shouldShutdown = true;
-        shutdown();
+        shutDownEarly();
     }
 
     private void handleSuccess(OperationResult<T> result) {
         switch (result) {
-            case OperationResult.Success<T> success -> completionHandler.onSuccess(success.value());
+            case OperationResult.Success<T> success -> {
+                metrics.completed(OperationMetrics.Outcome.SUCCESS);
+                completionHandler.onSuccess(success.value());
+            }
             case OperationResult.Failure<T> failure -> {
+                metrics.completed(OperationMetrics.Outcome.FAILURE);
                 completionHandler.onFailure(failure.error());
-                shouldShutdown = true;
-                shutdown();
+                shutDownEarly();
             }
         }
     }
-}
\ No newline at end of file
+
+    // Waits for every subtask, then tells the handler no further callbacks will arrive, even if closing failed.
+    @Override
+    public void close() {
+        try {
+            super.close();
+        } finally {
+            completionHandler.onShutdown();
+        }
+    }
+
+    private void shutDownEarly() {
+        if (!shouldShutdown) {
+            shouldShutdown = true;
+            metrics.shutdown();
+        }
+        shutdown();
+    }
+}
@@ -0,0 +1,188 @@
+package com.example.core.common.utilities.persistence;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Bounded JDBC connection pool. Waiting callers park on a fair {@link Semaphore}, which unmounts
+ * virtual threads instead of pinning their carrier, and every acquisition records its wait time.
+ * Prepared statements are cached per connection and dropped when the pool discards the connection.
+ * Leased connections are tracked by identity, so releasing one twice, or one the pool never handed
+ * out, is ignored instead of returning an extra permit.
+ */
+public final class ConnectionPool implements AutoCloseable {
+    @FunctionalInterface
+    public interface ConnectionFactory {
+        Connection create() throws SQLException;
+    }
+
+    public record Metrics(long acquisitions, long timeouts, long totalWaitNanos, long maxWaitNanos,
+                          int active, int idle, int maxSize) {
+        public double averageWaitNanos() {
+            return acquisitions == 0 ? 0 : (double) totalWaitNanos / acquisitions;
+        }
+    }
+
+    private final ConnectionFactory factory;
+    private final int maxSize;
+    private final Duration acquireTimeout;
+    private final Semaphore permits;
+    private final Queue<Connection> idle = new ConcurrentLinkedQueue<>();
+    private final StatementCache statements = new StatementCache();
+    private final Set<Connection> leased = Collections.newSetFromMap(new IdentityHashMap<>());
+    private final ReentrantLock leaseLock = new ReentrantLock();
+    private final AtomicInteger active = new AtomicInteger();
+    private final LongAdder acquisitions = new LongAdder();
+    private final LongAdder timeouts = new LongAdder();
+    private final LongAdder totalWaitNanos = new LongAdder();
+    private final AtomicLong maxWaitNanos = new AtomicLong();
+    private volatile boolean closed;
+
+    public ConnectionPool(ConnectionFactory factory, int maxSize, Duration acquireTimeout) {
+        if (factory == null) throw new IllegalArgumentException("Connection factory cannot be null");
+        if (maxSize <= 0) throw new IllegalArgumentException("Pool size must be positive");
+        if (acquireTimeout == null || acquireTimeout.isNegative()) throw new IllegalArgumentException("Acquire timeout must be non-negative");
+        this.factory = factory;
+        this.maxSize = maxSize;
+        this.acquireTimeout = acquireTimeout;
+        this.permits = new Semaphore(maxSize, true);
+    }
+
+    public Connection acquire() throws SQLException {
+        if (closed) throw new SQLException("Connection pool is closed");
+        long start = System.nanoTime();
+        try {
+            if (!permits.tryAcquire(acquireTimeout.toNanos(), TimeUnit.NANOSECONDS)) {
+                timeouts.increment();
+                throw new SQLTransientConnectionException("Timed out waiting " + acquireTimeout + " for a pooled connection");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLException("Interrupted while waiting for a pooled connection", e);
+        }
+        recordWait(System.nanoTime() - start);
+        try {
+            Connection connection = pollValid();
+            if (connection == null) connection = factory.create();
+            lease(connection);
+            active.incrementAndGet();
+            return connection;
+        } catch (SQLException | RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    // Prepares sql on a leased connection, or returns the statement an earlier lease prepared. Do not close it.
+    public PreparedStatement prepare(Connection connection, String sql) throws SQLException {
+        if (!isLeased(connection)) throw new SQLException("Connection is not leased from this pool");
+        return statements.prepare(connection, sql);
+    }
+
+    // Ignores null, connections this pool did not lease, and connections already released.
+    public void release(Connection connection) {
+        if (connection == null || !endLease(connection)) return;
+        active.decrementAndGet();
+        try {
+            if (closed || connection.isClosed()) {
+                discard(connection);
+            } else {
+                if (!connection.getAutoCommit()) connection.setAutoCommit(true);
+                idle.offer(connection);
+            }
+        } catch (SQLException e) {
+            discard(connection);
+        } finally {
+            permits.release();
+        }
+    }
+
+    public Metrics metrics() {
+        return new Metrics(acquisitions.sum(), timeouts.sum(), totalWaitNanos.sum(), maxWaitNanos.get(),
+                active.get(), idle.size(), maxSize);
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+        Connection connection;
+        while ((connection = idle.poll()) != null) discard(connection);
+    }
+
+    int cachedConnections() {
+        return statements.size();
+    }
+
+    private Connection pollValid() {
+        Connection connection;
+        while ((connection = idle.poll()) != null) {
+            try {
+                if (!connection.isClosed()) return connection;
+            } catch (SQLException e) {
+                // Discarded below
+            }
+            discard(connection);
+        }
+        return null;
+    }
+
+    private void lease(Connection connection) {
+        leaseLock.lock();
+        try {
+            leased.add(connection);
+        } finally {
+            leaseLock.unlock();
+        }
+    }
+
+    private boolean endLease(Connection connection) {
+        leaseLock.lock();
+        try {
+            return leased.remove(connection);
+        } finally {
+            leaseLock.unlock();
+        }
+    }
+
+    private boolean isLeased(Connection connection) {
+        leaseLock.lock();
+        try {
+            return leased.contains(connection);
+        } finally {
+            leaseLock.unlock();
+        }
+    }
+
+    private void discard(Connection connection) {
+        statements.evict(connection);
+        closeQuietly(connection);
+    }
+
+    private void recordWait(long waitNanos) {
+        acquisitions.increment();
+        totalWaitNanos.add(waitNanos);
+        maxWaitNanos.accumulateAndGet(waitNanos, Math::max);
+    }
+
+    private static void closeQuietly(Connection connection) {
+        try {
+            connection.close();
+        } catch (SQLException e) {
+            // Connection is being discarded anyway
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package com.example.core.common.utilities.persistence;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Prepared statements cached per pooled connection, so statements are reused across the transactions
+ * that lease it. Connections are keyed by identity, and the owning {@link ConnectionPool} evicts a
+ * connection's statements when it discards the connection. Callers must not close the returned
+ * statements, and must use them only while they hold the connection.
+ * <p>
+ * The cache-wide lock only finds a connection's statements; preparing one holds just that connection's lock, so a
+ * slow prepare on one connection never stalls the transactions running on the others.
+ */
+final class StatementCache {
+    private final Map<Connection, Statements> byConnection = new IdentityHashMap<>();
+    private final ReentrantLock lock = new ReentrantLock();
+
+    PreparedStatement prepare(Connection connection, String sql) throws SQLException {
+        Statements statements = statementsFor(connection);
+        statements.lock.lock();
+        try {
+            PreparedStatement statement = statements.bySql.get(sql);
+            if (statement == null || statement.isClosed()) {
+                statement = connection.prepareStatement(sql);
+                statements.bySql.put(sql, statement);
+            }
+            return statement;
+        } finally {
+            statements.lock.unlock();
+        }
+    }
+
+    void evict(Connection connection) {
+        lock.lock();
+        try {
+            byConnection.remove(connection);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    int size() {
+        lock.lock();
+        try {
+            return byConnection.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private Statements statementsFor(Connection connection) {
+        lock.lock();
+        try {
+            return byConnection.computeIfAbsent(connection, c -> new Statements());
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private static final class Statements {
+        private final ReentrantLock lock = new ReentrantLock();
+        private final Map<String, PreparedStatement> bySql = new HashMap<>();
+    }
+}
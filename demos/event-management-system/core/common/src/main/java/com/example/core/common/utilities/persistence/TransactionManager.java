@@ -1,50 +1,165 @@
 package com.example.core.common.utilities.persistence;
 
 import java.sql.Connection;
+import java.sql.PreparedStatement;
 import java.sql.SQLException;
+import java.util.Optional;
+import java.util.concurrent.Callable;
+import java.util.concurrent.locks.ReentrantLock;
 
+/**
+ * One JDBC transaction over a pooled connection. The transaction belongs to this instance rather than
+ * to a thread, so subtasks forked onto virtual threads reach it through
+ * {@link com.example.core.common.utilities.operations.OperationContext.Transactional} or the
+ * {@link #CURRENT} scoped value, which structured forks inherit. Connection access is serialized with
+ * a {@link ReentrantLock} so concurrent forks never pin their carrier threads.
+ * Without a pool the manager runs in in-memory mode and every operation is a no-op.
+ */
 public final class TransactionManager implements AutoCloseable {
-    private final ThreadLocal<Connection> connectionHolder = new ThreadLocal<>();
+    public static final ScopedValue<TransactionManager> CURRENT = ScopedValue.newInstance();
+
+    @FunctionalInterface
+    public interface SqlWork<T> {
+        T apply(Connection connection) throws SQLException;
+    }
+
+    private final ConnectionPool pool;
+    private final ReentrantLock lock = new ReentrantLock();
     private Connection connection;
 
+    public TransactionManager() {
+        this(null);
+    }
+
+    public TransactionManager(ConnectionPool pool) {
+        this.pool = pool;
+    }
+
+    public static Optional<TransactionManager> current() {
+        return CURRENT.isBound() ? Optional.of(CURRENT.get()) : Optional.empty();
+    }
+
     public void begin() throws SQLException {
-        Connection conn = null; // In-memory demo, no actual connection
-        connectionHolder.set(conn);
+        if (pool == null) return;
+        lock.lock();
+        try {
+            if (connection != null) throw new SQLException("Transaction already active");
+            Connection conn = pool.acquire();
+            try {
+                conn.setAutoCommit(false);
+            } catch (SQLException e) {
+                pool.release(conn);
+                throw e;
+            }
+            connection = conn;
+        } finally {
+            lock.unlock();
+        }
     }
 
     public void commit() throws SQLException {
-        Connection conn = connectionHolder.get();
-        if (conn != null) {
-            // No-op for demo
+        lock.lock();
+        try {
+            if (connection == null) return;
+            try {
+                connection.commit();
+            } catch (SQLException e) {
+                rollbackQuietly();
+                throw e;
+            } finally {
+                releaseConnection();
+            }
+        } finally {
+            lock.unlock();
         }
     }
 
     public void rollbackIfActive() {
+        lock.lock();
+        try {
+            if (connection == null) return;
+            rollbackQuietly();
+            releaseConnection();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public <T> T withConnection(SqlWork<T> work) throws SQLException {
+        lock.lock();
         try {
-            Connection conn = connectionHolder.get();
-            if (conn != null) {
-                // No-op for demo
+            if (connection == null) throw new SQLException("No active transaction");
+            return work.apply(connection);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // Prepares sql on the transaction's connection through the pool's statement cache. Do not close the statement.
+    public PreparedStatement prepare(String sql) throws SQLException {
+        lock.lock();
+        try {
+            if (connection == null) throw new SQLException("No active transaction");
+            return pool.prepare(connection, sql);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // Runs the body in a transaction with CURRENT bound to this manager for the body and its forks.
+    public <T> T inTransaction(Callable<T> body) throws Exception {
+        return ScopedValue.where(CURRENT, this).call(() -> {
+            begin();
+            try {
+                T result = body.call();
+                commit();
+                return result;
+            } catch (Exception | Error e) {
+                rollbackIfActive();
+                throw e;
             }
-        } catch (Exception e) {
-            // Log rollback failure (not implemented for demo)
+        });
+    }
+
+    public boolean isActive() {
+        lock.lock();
+        try {
+            return connection != null;
+        } finally {
+            lock.unlock();
         }
     }
 
     @Override
     public void close() {
-        Connection conn = connectionHolder.get();
-        if (conn != null) {
+        rollbackIfActive();
+    }
+
+    public Connection getConnection() {
+        lock.lock();
+        try {
+            return connection;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void rollbackQuietly() {
+        try {
+            connection.rollback();
+        } catch (SQLException e) {
+            // Never hand a connection with an unknown transaction state back to the pool
             try {
-                // No-op for demo
-            } catch (Exception e) {
-                // Log close failure (not implemented)
-            } finally {
-                connectionHolder.remove();
+                connection.close();
+            } catch (SQLException ignored) {
+                // The pool discards closed connections
             }
         }
     }
 
-    public Connection getConnection() {
-        return connectionHolder.get();
+    private void releaseConnection() {
+        Connection conn = connection;
+        connection = null;
+        pool.release(conn);
     }
-}
\ No newline at end of file
+}
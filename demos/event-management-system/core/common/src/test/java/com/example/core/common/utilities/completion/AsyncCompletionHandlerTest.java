@@ -0,0 +1,144 @@
+package com.example.core.common.utilities.completion;
+
+import com.example.core.common.utilities.operations.OperationContext;
+import com.example.core.common.utilities.operations.OperationsTaskScope;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+
+/**
+ * Ordering, draining, decoupling and error reporting of {@link AsyncCompletionHandler} under every wait strategy.
+ */
+public class AsyncCompletionHandlerTest {
+    public static void main(String[] args) throws Exception {
+        System.out.println("Running async completion handler tests...");
+        for (AsyncCompletionHandler.WaitStrategy strategy : AsyncCompletionHandler.WaitStrategy.values()) {
+            testDeliversEverything(strategy);
+        }
+        testIdleDispatcherParks(AsyncCompletionHandler.WaitStrategy.SPIN);
+        testIdleDispatcherParks(AsyncCompletionHandler.WaitStrategy.YIELD);
+        testSlowHandlerDoesNotHoldSubtasks();
+        testDownstreamErrorSurfaces();
+        System.out.println("All async completion handler tests passed!");
+    }
+
+    private static void testDeliversEverything(AsyncCompletionHandler.WaitStrategy strategy) throws InterruptedException {
+        System.out.println("Testing delivery with " + strategy + "...");
+        int forks = 50_000;
+        // Only the dispatcher thread touches these, so plain collections are enough.
+        BitSet seen = new BitSet(forks);
+        List<Thread> threads = new ArrayList<>();
+        boolean[] shutDownAfterDrain = new boolean[1];
+        TaskCompletionHandler<Integer> recorder = new TaskCompletionHandler<>() {
+            @Override
+            public void onSuccess(Integer value) {
+                assert !seen.get(value) : "Delivered twice: " + value;
+                seen.set(value);
+                if (threads.isEmpty() || threads.getLast() != Thread.currentThread()) threads.add(Thread.currentThread());
+            }
+            @Override public void onFailure(Throwable throwable) { throw new AssertionError("Unexpected failure: " + throwable); }
+            @Override public void onShutdown() { shutDownAfterDrain[0] = seen.cardinality() == forks; }
+        };
+        try (var scope = new OperationsTaskScope<>("Async" + strategy, new OperationContext.NonTransactional(),
+                new AsyncCompletionHandler<>(recorder, 256, strategy))) {
+            for (int i = 0; i < forks; i++) {
+                int value = i;
+                scope.fork(() -> new OperationResult.Success<>(value));
+            }
+            scope.join();
+        }
+        assert shutDownAfterDrain[0] : "Downstream should shut down only after every completion";
+        assert threads.size() == 1 && threads.getFirst().getName().equals("CompletionDispatcher") : "Callbacks should run on the dispatcher";
+        System.out.println("Delivery with " + strategy + " test passed!");
+    }
+
+    private static void testIdleDispatcherParks(AsyncCompletionHandler.WaitStrategy strategy) throws InterruptedException {
+        System.out.println("Testing idle dispatcher parks with " + strategy + "...");
+        Thread[] dispatcher = new Thread[1];
+        CountDownLatch first = new CountDownLatch(1);
+        CountDownLatch second = new CountDownLatch(2);
+        AsyncCompletionHandler<Integer> handler = new AsyncCompletionHandler<>(new TaskCompletionHandler<>() {
+            @Override
+            public void onSuccess(Integer value) {
+                dispatcher[0] = Thread.currentThread();
+                first.countDown();
+                second.countDown();
+            }
+            @Override public void onFailure(Throwable throwable) { throw new AssertionError("Unexpected failure: " + throwable); }
+        }, 16, strategy);
+        handler.onSuccess(1);
+        first.await();
+        long deadline = System.nanoTime() + 5_000_000_000L;
+        while (dispatcher[0].getState() != Thread.State.WAITING && System.nanoTime() < deadline) Thread.sleep(10);
+        assert dispatcher[0].getState() == Thread.State.WAITING : "Idle dispatcher should park, was " + dispatcher[0].getState();
+        handler.onSuccess(2);
+        second.await();
+        handler.onShutdown();
+        System.out.println("Idle dispatcher test passed with " + strategy + "!");
+    }
+
+    private static void testSlowHandlerDoesNotHoldSubtasks() throws InterruptedException {
+        System.out.println("Testing slow handler decoupling...");
+        CountDownLatch release = new CountDownLatch(1);
+        int[] delivered = new int[1];
+        TaskCompletionHandler<Integer> slow = new TaskCompletionHandler<>() {
+            @Override
+            public void onSuccess(Integer value) {
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    throw new AssertionError(e);
+                }
+                delivered[0]++;
+            }
+            @Override public void onFailure(Throwable throwable) { throw new AssertionError("Unexpected failure: " + throwable); }
+        };
+        var async = new AsyncCompletionHandler<>(slow, 1_024, AsyncCompletionHandler.WaitStrategy.PARK);
+        try (var scope = new OperationsTaskScope<>("SlowHandler", new OperationContext.NonTransactional(), async)) {
+            for (int i = 0; i < 1_000; i++) {
+                int value = i;
+                scope.fork(() -> new OperationResult.Success<>(value));
+            }
+            // Every subtask completes while the handler is still stuck on the first one.
+            scope.join();
+            assert async.backlog() == 999 : "Completions should wait in the ring: " + async.backlog();
+            release.countDown();
+        }
+        assert delivered[0] == 1_000 : "Closing should drain the ring: " + delivered[0];
+        System.out.println("Slow handler decoupling test passed!");
+    }
+
+    private static void testDownstreamErrorSurfaces() throws InterruptedException {
+        System.out.println("Testing downstream error...");
+        int[] delivered = new int[2];
+        var async = new AsyncCompletionHandler<>(new TaskCompletionHandler<Integer>() {
+            @Override
+            public void onSuccess(Integer value) {
+                delivered[0]++;
+                if (value == 3) throw new IllegalStateException("Notification service down");
+            }
+            @Override public void onFailure(Throwable throwable) { delivered[1]++; }
+        }, 8, AsyncCompletionHandler.WaitStrategy.YIELD);
+        for (int i = 0; i < 100; i++) {
+            async.onSuccess(i);
+            if (i % 10 == 0) async.onFailure(new IllegalArgumentException("Invalid attendee"));
+        }
+        boolean surfaced = false;
+        try {
+            async.onShutdown();
+        } catch (IllegalStateException e) {
+            surfaced = true;
+        }
+        assert surfaced : "Downstream error should be rethrown from onShutdown";
+        assert delivered[0] == 100 && delivered[1] == 10 : "Dispatcher should keep draining after an error";
+        boolean rejected = false;
+        try {
+            new AsyncCompletionHandler<>(async, 1_000, AsyncCompletionHandler.WaitStrategy.PARK);
+        } catch (IllegalArgumentException e) {
+            rejected = true;
+        }
+        assert rejected : "Capacity should be a power of two";
+        System.out.println("Downstream error test passed!");
+    }
+}
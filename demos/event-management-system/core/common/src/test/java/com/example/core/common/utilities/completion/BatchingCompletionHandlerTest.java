@@ -0,0 +1,100 @@
+package com.example.core.common.utilities.completion;
+
+import com.example.core.common.utilities.operations.OperationContext;
+import com.example.core.common.utilities.operations.OperationsTaskScope;
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Size and time flushing, shutdown draining and failure reporting of {@link BatchingCompletionHandler}.
+ */
+public class BatchingCompletionHandlerTest {
+    public static void main(String[] args) throws Exception {
+        System.out.println("Running batching completion handler tests...");
+        testSizeFlushAndDrain();
+        testDelayFlush();
+        testBatchFailure();
+        System.out.println("All batching completion handler tests passed!");
+    }
+
+    private static void testSizeFlushAndDrain() throws InterruptedException {
+        System.out.println("Testing size flush and drain...");
+        Recorder recorder = new Recorder();
+        int forks = 100_000;
+        try (var scope = new OperationsTaskScope<>("Batched", new OperationContext.NonTransactional(),
+                new BatchingCompletionHandler<>(recorder, 512))) {
+            for (int i = 0; i < forks; i++) {
+                int value = i;
+                scope.fork(() -> new OperationResult.Success<>(value));
+            }
+            scope.join();
+            assert recorder.shutdowns.get() == 0 : "Handler should not shut down before the scope closes";
+        }
+        assert !recorder.overlapped.get() : "Batches should be delivered one at a time";
+        assert recorder.shutdowns.get() == 1 : "Scope close should shut the handler down once";
+        assert recorder.deliveredAfterShutdown.get() == 0 : "Nothing should be delivered after shutdown";
+        Set<Integer> seen = new HashSet<>();
+        for (List<Integer> batch : recorder.batches) {
+            assert batch.size() <= 512 : "Batch larger than the limit: " + batch.size();
+            seen.addAll(batch);
+        }
+        assert seen.size() == forks : "Every success should be delivered exactly once, got " + seen.size();
+        assert recorder.batches.size() == (forks + 511) / 512 : "Only the drained batch may be partial: " + recorder.batches.size();
+        System.out.println("Size flush and drain test passed!");
+    }
+
+    private static void testDelayFlush() throws InterruptedException {
+        System.out.println("Testing delay flush...");
+        Recorder recorder = new Recorder();
+        var handler = new BatchingCompletionHandler<>(recorder, 1_000, Duration.ofMillis(20));
+        handler.onSuccess(1);
+        handler.onSuccess(2);
+        long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+        while (recorder.batches.isEmpty() && System.nanoTime() < deadline) Thread.sleep(5);
+        assert recorder.batches.equals(List.of(List.of(1, 2))) : "Partial batch should flush after the delay: " + recorder.batches;
+        handler.onSuccess(3);
+        handler.onShutdown();
+        assert recorder.batches.equals(List.of(List.of(1, 2), List.of(3))) : "Shutdown should drain the rest: " + recorder.batches;
+        assert recorder.shutdowns.get() == 1 : "Downstream should be shut down";
+        System.out.println("Delay flush test passed!");
+    }
+
+    private static void testBatchFailure() {
+        System.out.println("Testing batch failure...");
+        List<Throwable> failures = new CopyOnWriteArrayList<>();
+        var handler = new BatchingCompletionHandler<>(new BatchCompletionHandler<Integer>() {
+            @Override public void onBatch(List<Integer> batch) { throw new IllegalStateException("Insert failed"); }
+            @Override public void onFailure(Throwable throwable) { failures.add(throwable); }
+        }, 2);
+        handler.onSuccess(1);
+        handler.onSuccess(2);
+        handler.onFailure(new IllegalArgumentException("Invalid attendee"));
+        assert failures.size() == 2 : "Both failures should reach downstream: " + failures;
+        assert failures.get(0) instanceof IllegalStateException && failures.get(1) instanceof IllegalArgumentException : "Unexpected failures: " + failures;
+        System.out.println("Batch failure test passed!");
+    }
+
+    private static final class Recorder implements BatchCompletionHandler<Integer> {
+        final List<List<Integer>> batches = new CopyOnWriteArrayList<>();
+        final AtomicInteger shutdowns = new AtomicInteger();
+        final AtomicInteger deliveredAfterShutdown = new AtomicInteger();
+        final AtomicBoolean overlapped = new AtomicBoolean();
+        private final AtomicBoolean delivering = new AtomicBoolean();
+
+        @Override
+        public void onBatch(List<Integer> batch) {
+            if (!delivering.compareAndSet(false, true)) overlapped.set(true);
+            if (shutdowns.get() > 0) deliveredAfterShutdown.incrementAndGet();
+            batches.add(batch);
+            delivering.set(false);
+        }
+
+        @Override public void onFailure(Throwable throwable) { throw new AssertionError("Unexpected failure: " + throwable); }
+        @Override public void onShutdown() { shutdowns.incrementAndGet(); }
+    }
+}
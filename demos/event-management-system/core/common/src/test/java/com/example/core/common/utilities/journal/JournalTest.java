@@ -0,0 +1,217 @@
+package com.example.core.common.utilities.journal;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.stream.Stream;
+
+/**
+ * Group commit, segment rolling and crash recovery checks for the memory-mapped journal.
+ */
+public class JournalTest {
+    private static final int WRITERS = 10_000;
+
+    public static void main(String[] args) throws Exception {
+        System.out.println("Running journal tests...");
+        Path directory = Files.createTempDirectory("journal-test");
+        try {
+            testConcurrentAppendAndReplay(directory.resolve("concurrent"));
+            testTornTailIsDiscarded(directory.resolve("torn"));
+            testEmptyRecordRejected(directory.resolve("empty"));
+            testIdleIntervalForce(directory.resolve("interval"));
+            testSequenceSurvivesTruncation(directory.resolve("truncated"));
+            testFailedGroupIsRolledBack(directory.resolve("rollback"));
+        } finally {
+            deleteRecursively(directory);
+        }
+        System.out.println("All journal tests passed!");
+    }
+
+    private static void testConcurrentAppendAndReplay(Path directory) throws Exception {
+        System.out.println("Testing concurrent group commit and replay...");
+        Journal.Options options = new Journal.Options(directory, 64 * 1024, Journal.FsyncPolicy.ALWAYS, Duration.ZERO);
+        Set<Long> sequences = ConcurrentHashMap.newKeySet();
+        try (Journal journal = Journal.open(options);
+             var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < WRITERS; i++) {
+                String payload = "registration-" + i;
+                executor.submit(() -> sequences.add(journal.append(payload.getBytes(StandardCharsets.UTF_8))));
+            }
+        }
+        assert sequences.size() == WRITERS : "Sequences must be unique, got " + sequences.size();
+        try (Stream<Path> segments = Files.list(directory)) {
+            assert segments.count() > 1 : "Small segments should have rolled";
+        }
+
+        Set<String> replayed = new HashSet<>();
+        List<Long> order = new ArrayList<>();
+        try (Journal journal = Journal.open(options)) {
+            journal.replay(0, (sequence, payload) -> {
+                order.add(sequence);
+                replayed.add(StandardCharsets.UTF_8.decode(payload).toString());
+            });
+            assert journal.lastSequence() == WRITERS : "Recovered last sequence " + journal.lastSequence();
+            long next = journal.append("after-reopen".getBytes(StandardCharsets.UTF_8));
+            assert next == WRITERS + 1 : "Sequence should continue after reopen, got " + next;
+        }
+        assert replayed.size() == WRITERS : "Replayed " + replayed.size() + " of " + WRITERS;
+        for (int i = 1; i < order.size(); i++) {
+            assert order.get(i) == order.get(i - 1) + 1 : "Replay out of order at " + i;
+        }
+        System.out.println("Concurrent append test passed!");
+    }
+
+    private static void testTornTailIsDiscarded(Path directory) throws Exception {
+        System.out.println("Testing torn tail recovery...");
+        Journal.Options options = new Journal.Options(directory, 4096, Journal.FsyncPolicy.NEVER, Duration.ZERO);
+        try (Journal journal = Journal.open(options)) {
+            journal.append("first".getBytes(StandardCharsets.UTF_8));
+            journal.append("second".getBytes(StandardCharsets.UTF_8));
+        }
+        // Corrupt the second record's payload, as a crash mid-write would.
+        Path segment;
+        try (Stream<Path> segments = Files.list(directory)) {
+            segment = segments.findFirst().orElseThrow();
+        }
+        try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.wrap(new byte[] {'X'}), Journal.HEADER_SIZE * 2 + "first".length());
+        }
+        List<String> replayed = new ArrayList<>();
+        try (Journal journal = Journal.open(options)) {
+            journal.replay(0, (sequence, payload) -> replayed.add(StandardCharsets.UTF_8.decode(payload).toString()));
+            assert replayed.equals(List.of("first")) : "Torn record should be dropped, replayed " + replayed;
+            long third = journal.append("third".getBytes(StandardCharsets.UTF_8));
+            assert third == 2 : "Torn record's sequence should be reused, got " + third;
+        }
+        replayed.clear();
+        try (Journal journal = Journal.open(options)) {
+            journal.replay(0, (sequence, payload) -> replayed.add(StandardCharsets.UTF_8.decode(payload).toString()));
+        }
+        assert replayed.equals(List.of("first", "third")) : "Unexpected records after recovery: " + replayed;
+        System.out.println("Torn tail test passed!");
+    }
+
+    private static void testEmptyRecordRejected(Path directory) throws Exception {
+        System.out.println("Testing empty record rejection...");
+        Journal.Options options = new Journal.Options(directory, 4096, Journal.FsyncPolicy.NEVER, Duration.ZERO);
+        try (Journal journal = Journal.open(options)) {
+            journal.append("before".getBytes(StandardCharsets.UTF_8));
+            boolean rejected = false;
+            try {
+                journal.append(new byte[0]);
+            } catch (IllegalArgumentException e) {
+                rejected = true;
+            }
+            assert rejected : "Empty records should be rejected";
+            journal.append("after".getBytes(StandardCharsets.UTF_8));
+        }
+        List<String> replayed = new ArrayList<>();
+        try (Journal journal = Journal.open(options)) {
+            journal.replay(0, (sequence, payload) -> replayed.add(StandardCharsets.UTF_8.decode(payload).toString()));
+        }
+        assert replayed.equals(List.of("before", "after")) : "Records around a rejected append should survive: " + replayed;
+        System.out.println("Empty record rejection test passed!");
+    }
+
+    private static void testIdleIntervalForce(Path directory) throws Exception {
+        System.out.println("Testing interval force when idle...");
+        Duration interval = Duration.ofMillis(500);
+        Journal.Options options = new Journal.Options(directory, 4096, Journal.FsyncPolicy.INTERVAL, interval);
+        try (Journal journal = Journal.open(options)) {
+            long opened = System.nanoTime();
+            journal.append("only".getBytes(StandardCharsets.UTF_8));
+            if (System.nanoTime() - opened < interval.toNanos()) {
+                assert journal.hasUnforced() : "An append inside the interval should not be forced yet";
+            }
+            long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+            while (journal.hasUnforced() && System.nanoTime() < deadline) Thread.sleep(20);
+            assert !journal.hasUnforced() : "An idle journal should be forced once the interval passes";
+        }
+        System.out.println("Interval force when idle test passed!");
+    }
+
+    private static void testSequenceSurvivesTruncation(Path directory) throws Exception {
+        System.out.println("Testing sequence after truncation...");
+        Journal.Options options = new Journal.Options(directory, 4096, Journal.FsyncPolicy.NEVER, Duration.ZERO);
+        long last;
+        try (Journal journal = Journal.open(options)) {
+            for (int i = 0; i < 1_000; i++) journal.append(("record-" + i).getBytes(StandardCharsets.UTF_8));
+            last = journal.lastSequence();
+            journal.truncateUpTo(last);
+        }
+        Path segment;
+        try (Stream<Path> segments = Files.list(directory)) {
+            List<Path> remaining = segments.toList();
+            assert remaining.size() == 1 : "Truncation should leave only the active segment: " + remaining;
+            segment = remaining.getFirst();
+        }
+        // Lose every record of the remaining segment, as power loss before a force would.
+        try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.wrap(new byte[Journal.HEADER_SIZE]), 0);
+        }
+        try (Journal journal = Journal.open(options)) {
+            long next = journal.append("after-loss".getBytes(StandardCharsets.UTF_8));
+            assert next > 1 && next <= last : "Numbering should carry on from the segment's base, got " + next;
+            List<Long> replayed = new ArrayList<>();
+            journal.replay(next - 1, (sequence, payload) -> replayed.add(sequence));
+            assert replayed.equals(List.of(next)) : "Replay after the previous sequence should see the new record: " + replayed;
+        }
+        System.out.println("Sequence after truncation test passed!");
+    }
+
+    private static void testFailedGroupIsRolledBack(Path directory) throws Exception {
+        System.out.println("Testing rollback of a failed group...");
+        // 48-byte payloads give 64-byte frames, so the first segment holds exactly records 1 to 64.
+        int frameSize = 64;
+        int perSegment = 4096 / frameSize;
+        Journal.Options options = new Journal.Options(directory, 4096, Journal.FsyncPolicy.ALWAYS, Duration.ZERO);
+        Set<Long> acknowledged = ConcurrentHashMap.newKeySet();
+        try (Journal journal = Journal.open(options)) {
+            // A directory where the second segment belongs makes every roll fail.
+            Path trap = Files.createDirectory(directory.resolve("segment-%020d.log".formatted(perSegment + 1)));
+            // Platform writers queue up behind each force, so groups span the failed roll.
+            try (var executor = Executors.newFixedThreadPool(16)) {
+                for (int i = 0; i < perSegment * 4; i++) {
+                    executor.submit(() -> {
+                        try {
+                            acknowledged.add(journal.append(new byte[frameSize - Journal.HEADER_SIZE]));
+                        } catch (IOException e) {
+                            // Expected once the first segment is full.
+                        }
+                    });
+                }
+            }
+            assert acknowledged.size() <= perSegment : "Only the first segment can be written, got " + acknowledged.size();
+            long last = acknowledged.stream().mapToLong(Long::longValue).max().orElse(0);
+            assert acknowledged.size() == last : "Acknowledged sequences should have no gaps: " + acknowledged;
+            Files.delete(trap);
+            long next = journal.append(new byte[frameSize - Journal.HEADER_SIZE]);
+            assert next == last + 1 : "A failed group should not consume sequences, got " + next + " after " + last;
+            acknowledged.add(next);
+        }
+        Set<Long> replayed = new HashSet<>();
+        try (Journal journal = Journal.open(options)) {
+            journal.replay(0, (sequence, payload) -> replayed.add(sequence));
+        }
+        assert replayed.equals(acknowledged) : "Replay should hold exactly the acknowledged records: " + replayed;
+        System.out.println("Failed group rollback test passed!");
+    }
+
+    private static void deleteRecursively(Path directory) throws IOException {
+        try (Stream<Path> paths = Files.walk(directory)) {
+            for (Path path : paths.sorted(Comparator.reverseOrder()).toList()) Files.deleteIfExists(path);
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package com.example.core.common.utilities.metrics;
+
+import com.example.core.common.utilities.completion.OperationResult;
+import com.example.core.common.utilities.completion.TaskCompletionHandler;
+import com.example.core.common.utilities.operations.OperationContext;
+import com.example.core.common.utilities.operations.OperationsTaskScope;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Bucket layout, percentile and task scope instrumentation checks for the operation metrics.
+ */
+public class OperationMetricsTest {
+    public static void main(String[] args) throws Exception {
+        System.out.println("Running operation metrics tests...");
+        testBucketBounds();
+        testPercentiles();
+        testScopeInstrumentation();
+        System.out.println("All operation metrics tests passed!");
+    }
+
+    private static void testBucketBounds() {
+        System.out.println("Testing histogram bucket bounds...");
+        for (int bucket = 0; bucket < LatencyHistogram.BUCKETS; bucket++) {
+            long lower = LatencyHistogram.lowerBound(bucket);
+            assert LatencyHistogram.bucketOf(lower) == bucket : "Lower bound of bucket " + bucket + " maps elsewhere";
+            assert LatencyHistogram.bucketOf(LatencyHistogram.upperBound(bucket)) == bucket : "Upper bound of bucket " + bucket + " maps elsewhere";
+            if (bucket > 0) assert LatencyHistogram.upperBound(bucket - 1) + 1 == lower : "Buckets should be contiguous at " + bucket;
+        }
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        for (int i = 0; i < 100_000; i++) {
+            long value = random.nextLong(Long.MAX_VALUE) >>> random.nextInt(63);
+            int bucket = LatencyHistogram.bucketOf(value);
+            long width = LatencyHistogram.upperBound(bucket) - LatencyHistogram.lowerBound(bucket) + 1;
+            assert width * LatencyHistogram.SUB_BUCKETS <= Math.max(LatencyHistogram.SUB_BUCKETS, value) : "Bucket too wide for " + value;
+        }
+        System.out.println("Histogram bucket bounds test passed!");
+    }
+
+    private static void testPercentiles() {
+        System.out.println("Testing histogram percentiles...");
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (long value = 1; value <= 10_000; value++) histogram.record(value * 1_000);
+        LatencyHistogram.Snapshot snapshot = histogram.snapshot();
+        assert snapshot.count() == 10_000 : "Every sample should be counted";
+        assert snapshot.max() == 10_000_000 : "Max should be exact";
+        assert Math.abs(snapshot.mean() - 5_000_500) < 1 : "Mean should be exact: " + snapshot.mean();
+        for (double quantile : new double[] {0.5, 0.9, 0.99, 0.999}) {
+            double exact = quantile * 10_000_000;
+            long reported = snapshot.percentile(quantile);
+            assert reported >= exact && reported <= exact * 1.125 : "p" + quantile + " off: " + reported;
+        }
+        assert new LatencyHistogram().snapshot().percentile(0.99) == 0 : "Empty histograms report zero";
+        System.out.println("Histogram percentiles test passed!");
+    }
+
+    private static void testScopeInstrumentation() throws InterruptedException {
+        System.out.println("Testing task scope instrumentation...");
+        MetricsRegistry registry = new MetricsRegistry();
+        TaskCompletionHandler<Integer> ignore = new TaskCompletionHandler<>() {
+            @Override public void onSuccess(Integer value) {}
+            @Override public void onFailure(Throwable throwable) {}
+        };
+        try (var scope = new OperationsTaskScope<>("Register", new OperationContext.NonTransactional(), ignore, registry)) {
+            for (int i = 0; i < 1_000; i++) {
+                int value = i;
+                scope.fork(() -> new OperationResult.Success<>(value));
+            }
+            scope.join();
+        }
+        try (var scope = new OperationsTaskScope<>("Register", new OperationContext.NonTransactional(), ignore, registry)) {
+            scope.fork(() -> new OperationResult.Failure<>(new IllegalStateException("No capacity")));
+            scope.join();
+        }
+        try (var scope = new OperationsTaskScope<>("Refund", new OperationContext.NonTransactional(), ignore, registry)) {
+            scope.fork(() -> { throw new IllegalStateException("Gateway down"); });
+            scope.join();
+        }
+
+        OperationSnapshot register = registry.snapshot().get("Register");
+        assert register.forked() == 1_001 && register.succeeded() == 1_000 && register.failed() == 1 : "Register counters: " + register;
+        assert register.shutdowns() == 1 : "A failed result should shut its scope down once";
+        assert register.inFlight() == 0 : "Nothing should be in flight after join";
+        assert register.latency().count() == 1_001 : "Every subtask should record its latency";
+        OperationSnapshot refund = registry.snapshot().get("Refund");
+        assert refund.errored() == 1 && refund.shutdowns() == 1 && refund.completed() == 1 : "Refund counters: " + refund;
+
+        String exported = registry.export();
+        assert exported.contains("operation_subtasks_total{operation=\"Register\",outcome=\"success\"} 1000\n") : exported;
+        assert exported.contains("operation_subtask_latency_seconds_count{operation=\"Refund\"} 1\n") : exported;
+        System.out.println("Task scope instrumentation test passed!");
+    }
+}
@@ -0,0 +1,209 @@
+package com.example.core.common.utilities.operations;
+
+import com.example.core.common.utilities.completion.OperationResult;
+import com.example.core.common.utilities.completion.TaskCompletionHandler;
+import com.example.core.common.utilities.metrics.OperationMetrics;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Permit bounds, rejection, arrival-order fairness and adaptive limits of {@link BoundedOperationsTaskScope}.
+ */
+public class BoundedOperationsTaskScopeTest {
+    private static final TaskCompletionHandler<Integer> IGNORE = new TaskCompletionHandler<>() {
+        @Override public void onSuccess(Integer value) {}
+        @Override public void onFailure(Throwable throwable) {}
+    };
+
+    public static void main(String[] args) throws Exception {
+        System.out.println("Running bounded task scope tests...");
+        testLimitBoundsInFlight();
+        testRejection();
+        testDeadlineCapsWait();
+        testArrivalOrder();
+        testAdaptiveLimit();
+        testShutdownReturnsPermits();
+        testHedgedForkTakesOnePermit();
+        System.out.println("All bounded task scope tests passed!");
+    }
+
+    private static void testLimitBoundsInFlight() throws InterruptedException {
+        System.out.println("Testing in-flight bound...");
+        ConcurrencyLimit limit = ConcurrencyLimit.fixed(4);
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger peak = new AtomicInteger();
+        AtomicInteger succeeded = new AtomicInteger();
+        try (var scope = new BoundedOperationsTaskScope<>("PoolBound", new OperationContext.NonTransactional(),
+                new TaskCompletionHandler<Integer>() {
+                    @Override public void onSuccess(Integer value) { succeeded.incrementAndGet(); }
+                    @Override public void onFailure(Throwable t) { throw new AssertionError("Unexpected failure: " + t); }
+                }, limit)) {
+            for (int i = 0; i < 200; i++) {
+                int value = i;
+                scope.fork(() -> {
+                    peak.accumulateAndGet(running.incrementAndGet(), Math::max);
+                    Thread.sleep(1);
+                    running.decrementAndGet();
+                    return new OperationResult.Success<>(value);
+                });
+            }
+            scope.join();
+        }
+        assert peak.get() <= 4 : "At most 4 subtasks should run at once, saw " + peak.get();
+        assert succeeded.get() == 200 : "Every subtask should run";
+        assert limit.snapshot().inFlight() == 0 : "Every permit should be returned";
+        System.out.println("In-flight bound test passed!");
+    }
+
+    private static void testRejection() throws InterruptedException {
+        System.out.println("Testing rejection...");
+        ConcurrencyLimit limit = ConcurrencyLimit.fixed(1);
+        CountDownLatch hold = new CountDownLatch(1);
+        try (var scope = new BoundedOperationsTaskScope<>("Reject", new OperationContext.NonTransactional(),
+                ExecutionMode.FAIL_FAST, IGNORE, OperationMetrics.NOOP, limit, Duration.ofMillis(50))) {
+            scope.fork(() -> {
+                hold.await();
+                return new OperationResult.Success<>(1);
+            });
+            boolean rejected = false;
+            try {
+                scope.fork(() -> new OperationResult.Success<>(2));
+            } catch (RejectedExecutionException e) {
+                rejected = true;
+            }
+            assert rejected : "Fork should be rejected once the wait is exceeded";
+            hold.countDown();
+            scope.join();
+        }
+        assert limit.snapshot().rejections() == 1 : "Rejection should be counted";
+        assert limit.snapshot().inFlight() == 0 : "Rejected forks should not hold permits";
+        System.out.println("Rejection test passed!");
+    }
+
+    private static void testDeadlineCapsWait() throws InterruptedException {
+        System.out.println("Testing deadline-capped wait...");
+        ConcurrencyLimit limit = ConcurrencyLimit.fixed(1);
+        CountDownLatch hold = new CountDownLatch(1);
+        // No maximum wait: only the deadline keeps the second fork from blocking until the first finishes.
+        try (var scope = new BoundedOperationsTaskScope<>("DeadlineWait", new OperationContext.NonTransactional(),
+                new ExecutionMode.Deadline(Duration.ofMillis(100)), IGNORE, OperationMetrics.NOOP, limit, null)) {
+            scope.fork(() -> {
+                hold.await();
+                return new OperationResult.Success<>(1);
+            });
+            long start = System.nanoTime();
+            boolean rejected = false;
+            try {
+                scope.fork(() -> new OperationResult.Success<>(2));
+            } catch (RejectedExecutionException e) {
+                rejected = true;
+            }
+            long waitedMillis = (System.nanoTime() - start) / 1_000_000;
+            assert rejected : "Fork should be rejected once the deadline passes";
+            assert waitedMillis < 2_000 : "Fork waited " + waitedMillis + " ms past a 100 ms deadline";
+            hold.countDown();
+            scope.join();
+        }
+        assert limit.snapshot().inFlight() == 0 : "Rejected forks should not hold permits";
+        System.out.println("Deadline-capped wait test passed!");
+    }
+
+    private static void testArrivalOrder() throws InterruptedException {
+        System.out.println("Testing arrival order...");
+        ConcurrencyLimit limit = ConcurrencyLimit.fixed(1);
+        limit.acquire();
+        List<Integer> order = new CopyOnWriteArrayList<>();
+        List<Thread> callers = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            int caller = i;
+            callers.add(Thread.ofVirtual().start(() -> {
+                try (var scope = new BoundedOperationsTaskScope<>("Fair" + caller, new OperationContext.NonTransactional(), IGNORE, limit)) {
+                    scope.fork(() -> {
+                        order.add(caller);
+                        return new OperationResult.Success<>(caller);
+                    });
+                    scope.join();
+                } catch (InterruptedException e) {
+                    throw new AssertionError(e);
+                }
+            }));
+            while (limit.snapshot().queued() <= i) Thread.onSpinWait();
+        }
+        limit.release();
+        for (Thread caller : callers) caller.join();
+        assert order.equals(List.of(0, 1, 2, 3, 4)) : "Waiters should be served in arrival order: " + order;
+        System.out.println("Arrival order test passed!");
+    }
+
+    private static void testAdaptiveLimit() throws InterruptedException {
+        System.out.println("Testing adaptive limit...");
+        ConcurrencyLimit limit = ConcurrencyLimit.aimd(10, 2, 50, 2.0);
+        int held = 0;
+        while (limit.tryAcquire(0)) held++;
+        // Callers always waiting: every completion frees a permit that is taken straight away.
+        for (int i = 0; i < 1_000; i++) {
+            limit.release(1_000_000, true);
+            held--;
+            while (limit.tryAcquire(0)) held++;
+        }
+        int grown = limit.snapshot().limit();
+        assert grown > 10 && held == grown : "Healthy completions at the limit should raise it: " + grown;
+        for (int i = 0; i < 5; i++) {
+            limit.release(10_000_000, true);
+            held--;
+        }
+        int congested = limit.snapshot().limit();
+        assert congested < grown : "Latency well above the baseline should lower it: " + congested;
+        for (int i = 0; i < 100; i++) {
+            limit.release(1_000_000, false);
+            held--;
+            while (limit.tryAcquire(0)) held++;
+        }
+        assert limit.snapshot().limit() == 2 : "Failures should back off to the minimum: " + limit.snapshot().limit();
+        for (; held > 0; held--) limit.release();
+        assert limit.snapshot().inFlight() == 0 : "Every permit should be returned";
+        System.out.println("Adaptive limit test passed!");
+    }
+
+    private static void testShutdownReturnsPermits() throws InterruptedException {
+        System.out.println("Testing permits after shutdown...");
+        ConcurrencyLimit limit = ConcurrencyLimit.fixed(2);
+        try (var scope = new BoundedOperationsTaskScope<>("ShutDown", new OperationContext.NonTransactional(), IGNORE, limit)) {
+            scope.fork(() -> new OperationResult.Failure<>(new IllegalStateException("Sold out")));
+            for (int i = 0; i < 100; i++) {
+                int value = i;
+                scope.fork(() -> new OperationResult.Success<>(value));
+            }
+            scope.join();
+        }
+        assert limit.snapshot().inFlight() == 0 : "Closing should return every permit: " + limit.snapshot();
+        System.out.println("Permits after shutdown test passed!");
+    }
+
+    private static void testHedgedForkTakesOnePermit() throws InterruptedException {
+        System.out.println("Testing hedged forks under a limit...");
+        ConcurrencyLimit limit = ConcurrencyLimit.fixed(2);
+        ExecutionMode.Hedged mode = new ExecutionMode.Hedged(0.95, Duration.ofMillis(5));
+        AtomicInteger attempts = new AtomicInteger();
+        AtomicInteger peak = new AtomicInteger();
+        try (var scope = new BoundedOperationsTaskScope<>("HedgedBound", new OperationContext.NonTransactional(), mode,
+                IGNORE, OperationMetrics.NOOP, limit, null)) {
+            scope.fork(() -> {
+                attempts.incrementAndGet();
+                peak.accumulateAndGet(limit.snapshot().inFlight(), Math::max);
+                Thread.sleep(Duration.ofMillis(50));
+                return new OperationResult.Success<>(1);
+            });
+            scope.join();
+        }
+        assert attempts.get() == 2 : "The slow first attempt should have been hedged, attempts: " + attempts.get();
+        assert peak.get() == 1 : "Both attempts should share one permit, saw " + peak.get() + " in flight";
+        assert limit.snapshot().inFlight() == 0 : "The permit should be returned once: " + limit.snapshot();
+        System.out.println("Hedged forks under a limit test passed!");
+    }
+}
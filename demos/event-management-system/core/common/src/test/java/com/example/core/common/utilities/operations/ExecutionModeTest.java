@@ -0,0 +1,147 @@
+package com.example.core.common.utilities.operations;
+
+import com.example.core.common.utilities.completion.OperationResult;
+import com.example.core.common.utilities.completion.TaskCompletionHandler;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Deadline and hedged execution of {@link OperationsTaskScope} subtasks.
+ */
+public class ExecutionModeTest {
+    public static void main(String[] args) throws Exception {
+        System.out.println("Running execution mode tests...");
+        testDeadline();
+        testDeadlineNotReached();
+        testHedging();
+        testHedgedPrimaryFailure();
+        testHedgeDelay();
+        System.out.println("All execution mode tests passed!");
+    }
+
+    private static void testDeadline() throws InterruptedException {
+        System.out.println("Testing deadline...");
+        Collector collector = new Collector();
+        AtomicBoolean interrupted = new AtomicBoolean();
+        long start = System.nanoTime();
+        try (var scope = new OperationsTaskScope<>("SlowLookup", new OperationContext.NonTransactional(),
+                new ExecutionMode.Deadline(Duration.ofMillis(200)), collector)) {
+            scope.fork(() -> new OperationResult.Success<>("fast"));
+            scope.fork(() -> {
+                try {
+                    Thread.sleep(Duration.ofSeconds(10));
+                } catch (InterruptedException e) {
+                    interrupted.set(true);
+                    throw e;
+                }
+                return new OperationResult.Success<>("slow");
+            });
+            scope.join();
+            assert scope.timedOut() : "Scope should report the timeout";
+        }
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+        assert elapsedMillis < 5_000 : "Deadline should cancel the slow subtask, took " + elapsedMillis + "ms";
+        assert interrupted.get() : "Outstanding subtask should be interrupted";
+        assert collector.successes.equals(List.of("fast")) : "Fast subtask should still complete: " + collector.successes;
+        assert collector.failures.size() == 1 && collector.failures.getFirst() instanceof TimeoutException : "Expected one timeout: " + collector.failures;
+        System.out.println("Deadline test passed!");
+    }
+
+    private static void testDeadlineNotReached() throws InterruptedException {
+        System.out.println("Testing deadline not reached...");
+        Collector collector = new Collector();
+        try (var scope = new OperationsTaskScope<>("QuickLookup", new OperationContext.NonTransactional(),
+                new ExecutionMode.Deadline(Duration.ofSeconds(10)), collector)) {
+            for (int i = 0; i < 100; i++) {
+                String value = "v" + i;
+                scope.fork(() -> new OperationResult.Success<>(value));
+            }
+            scope.join();
+            assert !scope.timedOut() : "Scope should not time out";
+        }
+        assert collector.successes.size() == 100 && collector.failures.isEmpty() : "Every subtask should succeed";
+        System.out.println("Deadline not reached test passed!");
+    }
+
+    private static void testHedging() throws InterruptedException {
+        System.out.println("Testing hedging...");
+        Collector collector = new Collector();
+        AtomicInteger attempts = new AtomicInteger();
+        AtomicBoolean primaryInterrupted = new AtomicBoolean();
+        ExecutionMode.Hedged mode = new ExecutionMode.Hedged(0.95, Duration.ofMillis(20));
+        long start = System.nanoTime();
+        try (var scope = new OperationsTaskScope<>("PriceLookup", new OperationContext.NonTransactional(), mode, collector)) {
+            scope.fork(() -> {
+                if (attempts.incrementAndGet() == 1) {
+                    try {
+                        Thread.sleep(Duration.ofSeconds(10));
+                    } catch (InterruptedException e) {
+                        primaryInterrupted.set(true);
+                        throw e;
+                    }
+                    return new OperationResult.Success<>("primary");
+                }
+                return new OperationResult.Success<>("hedge");
+            });
+            scope.join();
+        }
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+        assert elapsedMillis < 5_000 : "Hedge should finish first, took " + elapsedMillis + "ms";
+        assert collector.successes.equals(List.of("hedge")) : "Hedge result should be taken: " + collector.successes;
+        assert primaryInterrupted.get() : "Losing attempt should be interrupted";
+        assert attempts.get() == 2 : "Exactly one hedge should be launched";
+        assert mode.latencies().snapshot().count() == 1 : "Primary latency should be recorded";
+        assert mode.latencies().snapshot().max() >= Duration.ofMillis(20).toNanos() : "Primary ran past the delay";
+        System.out.println("Hedging test passed!");
+    }
+
+    private static void testHedgedPrimaryFailure() throws InterruptedException {
+        System.out.println("Testing hedged primary failure...");
+        Collector collector = new Collector();
+        AtomicInteger attempts = new AtomicInteger();
+        ExecutionMode.Hedged mode = new ExecutionMode.Hedged(0.95, Duration.ofSeconds(10));
+        long start = System.nanoTime();
+        try (var scope = new OperationsTaskScope<String>("PriceLookup", new OperationContext.NonTransactional(), mode, collector)) {
+            scope.fork(() -> {
+                attempts.incrementAndGet();
+                throw new IllegalStateException("primary failed");
+            });
+            scope.join();
+        }
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+        assert elapsedMillis < 5_000 : "A failed primary should not wait out the hedge delay, took " + elapsedMillis + "ms";
+        assert collector.failures.size() == 1 && collector.failures.getFirst() instanceof IllegalStateException
+                : "Primary failure should be reported: " + collector.failures;
+        assert attempts.get() == 1 : "No hedge should run after the primary failed";
+        System.out.println("Hedged primary failure test passed!");
+    }
+
+    private static void testHedgeDelay() {
+        System.out.println("Testing hedge delay...");
+        ExecutionMode.Hedged mode = new ExecutionMode.Hedged(0.9, Duration.ofMillis(50));
+        assert mode.delayNanos() == Duration.ofMillis(50).toNanos() : "Initial delay should be used without history";
+        for (int i = 1; i <= 1_000; i++) mode.latencies().record(i * 1_000L);
+        long delay = mode.delayNanos();
+        assert delay >= 900_000 && delay <= 900_000 * 1.125 : "Delay should follow the p90 latency: " + delay;
+        boolean rejected = false;
+        try {
+            new ExecutionMode.Hedged(1.0, Duration.ZERO);
+        } catch (IllegalArgumentException e) {
+            rejected = true;
+        }
+        assert rejected : "Percentile of 1 should be rejected";
+        System.out.println("Hedge delay test passed!");
+    }
+
+    private static final class Collector implements TaskCompletionHandler<String> {
+        final List<String> successes = new CopyOnWriteArrayList<>();
+        final List<Throwable> failures = new CopyOnWriteArrayList<>();
+
+        @Override public void onSuccess(String value) { successes.add(value); }
+        @Override public void onFailure(Throwable throwable) { failures.add(throwable); }
+    }
+}
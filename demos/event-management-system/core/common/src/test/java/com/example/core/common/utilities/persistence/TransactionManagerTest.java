@@ -0,0 +1,221 @@
+package com.example.core.common.utilities.persistence;
+
+import com.example.core.common.utilities.completion.OperationResult;
+import com.example.core.common.utilities.completion.TaskCompletionHandler;
+import com.example.core.common.utilities.operations.OperationContext;
+import com.example.core.common.utilities.operations.OperationsTaskScope;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Transaction manager and connection pool checks against an embedded H2 database.
+ */
+public class TransactionManagerTest {
+    private static final int FORKS = 200;
+
+    public static void main(String[] args) throws Exception {
+        System.out.println("Running transaction manager tests...");
+        String url = "jdbc:h2:mem:tx-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1";
+        try (ConnectionPool pool = new ConnectionPool(() -> DriverManager.getConnection(url), 4, Duration.ofSeconds(5))) {
+            createSchema(pool);
+            testCommitAcrossForks(pool);
+            testRollbackOnFailure(pool);
+            testPoolBounds(pool, url);
+            testStatementCacheEviction(url);
+            testStatementCachePreparesInParallel(url);
+        }
+        System.out.println("All transaction manager tests passed!");
+    }
+
+    private static void testCommitAcrossForks(ConnectionPool pool) throws Exception {
+        System.out.println("Testing commit across forked subtasks...");
+        TransactionManager tx = new TransactionManager(pool);
+        AtomicInteger inserted = new AtomicInteger();
+        tx.inTransaction(() -> {
+            try (var scope = new OperationsTaskScope<>("InsertTest", new OperationContext.Transactional(tx),
+                    new TaskCompletionHandler<Integer>() {
+                        @Override public void onSuccess(Integer value) { inserted.addAndGet(value); }
+                        @Override public void onFailure(Throwable t) { throw new AssertionError("Unexpected failure: " + t); }
+                    })) {
+                for (int i = 0; i < FORKS; i++) {
+                    int id = i;
+                    scope.fork(() -> {
+                        TransactionManager current = TransactionManager.current()
+                                .orElseThrow(() -> new AssertionError("Scoped transaction not visible in fork"));
+                        return new OperationResult.Success<>(current.withConnection(conn -> insert(conn, id)));
+                    });
+                }
+                scope.join();
+            }
+            return null;
+        });
+        assert inserted.get() == FORKS : "Expected " + FORKS + " inserts, got " + inserted.get();
+        assert !tx.isActive() : "Transaction should be finished after commit";
+        assert count(pool) == FORKS : "Committed rows not visible: " + count(pool);
+        System.out.println("Commit test passed!");
+    }
+
+    private static void testRollbackOnFailure(ConnectionPool pool) throws Exception {
+        System.out.println("Testing rollback on failure...");
+        int before = count(pool);
+        TransactionManager tx = new TransactionManager(pool);
+        try {
+            tx.inTransaction(() -> {
+                tx.withConnection(conn -> insert(conn, -1));
+                throw new SQLException("Simulated failure");
+            });
+            throw new AssertionError("Failure should propagate");
+        } catch (SQLException e) {
+            // Expected
+        }
+        assert count(pool) == before : "Rolled back insert is visible";
+        assert pool.metrics().active() == 0 : "Connection leaked after rollback";
+        System.out.println("Rollback test passed!");
+    }
+
+    private static void testPoolBounds(ConnectionPool pool, String url) throws SQLException {
+        System.out.println("Testing pool bounds and metrics...");
+        try (ConnectionPool small = new ConnectionPool(() -> DriverManager.getConnection(url), 1, Duration.ofMillis(50))) {
+            Connection held = small.acquire();
+            try {
+                small.acquire();
+                throw new AssertionError("Second acquire should time out");
+            } catch (SQLTransientConnectionException e) {
+                // Expected
+            }
+            ConnectionPool.Metrics metrics = small.metrics();
+            assert metrics.timeouts() == 1 && metrics.acquisitions() == 1 && metrics.active() == 1 : "Unexpected metrics " + metrics;
+            small.release(held);
+            assert small.metrics().idle() == 1 : "Released connection should be idle";
+            small.release(held);
+            try (Connection stranger = DriverManager.getConnection(url)) {
+                small.release(stranger);
+            }
+            metrics = small.metrics();
+            assert metrics.active() == 0 && metrics.idle() == 1 : "Duplicate and unknown releases should be ignored: " + metrics;
+            Connection only = small.acquire();
+            try {
+                small.acquire();
+                throw new AssertionError("Ignored releases must not add permits");
+            } catch (SQLTransientConnectionException e) {
+                // Expected
+            }
+            small.release(only);
+        }
+        assert pool.metrics().maxWaitNanos() >= 0 && pool.metrics().acquisitions() > 0 : "Pool wait metrics not recorded";
+        System.out.println("Pool bounds test passed!");
+    }
+
+    private static void testStatementCacheEviction(String url) throws Exception {
+        System.out.println("Testing statement cache eviction...");
+        String sql = "SELECT COUNT(*) FROM items";
+        // Closed by hand rather than by try-with-resources, so the cache can be checked once the pool is closed.
+        ConnectionPool small = new ConnectionPool(() -> DriverManager.getConnection(url), 1, Duration.ofSeconds(5));
+        try {
+            TransactionManager tx = new TransactionManager(small);
+            PreparedStatement first = tx.inTransaction(() -> tx.prepare(sql));
+            PreparedStatement second = tx.inTransaction(() -> tx.prepare(sql));
+            assert first == second : "Statements should be reused across transactions on the same connection";
+            assert small.cachedConnections() == 1 : "One connection should have cached statements";
+
+            // A connection closed while leased is discarded on release, and its statements with it.
+            Connection broken = small.acquire();
+            small.prepare(broken, sql);
+            broken.close();
+            small.release(broken);
+            assert small.cachedConnections() == 0 : "A discarded connection's statements should be evicted";
+
+            tx.inTransaction(() -> tx.prepare(sql));
+        } finally {
+            small.close();
+        }
+        assert small.cachedConnections() == 0 : "Closing the pool should evict every idle connection's statements";
+        System.out.println("Statement cache eviction test passed!");
+    }
+
+    private static void testStatementCachePreparesInParallel(String url) throws Exception {
+        System.out.println("Testing statement cache per-connection locking...");
+        String sql = "SELECT COUNT(*) FROM items";
+        StatementCache cache = new StatementCache();
+        CountDownLatch preparing = new CountDownLatch(1);
+        CountDownLatch unblock = new CountDownLatch(1);
+        try (Connection stalled = DriverManager.getConnection(url); Connection other = DriverManager.getConnection(url)) {
+            // Stalls in prepareStatement until released, like a slow round trip to the database.
+            Connection slow = (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(),
+                    new Class<?>[] {Connection.class}, (proxy, method, args) -> {
+                        if (method.getName().equals("prepareStatement")) {
+                            preparing.countDown();
+                            unblock.await();
+                        }
+                        try {
+                            return method.invoke(stalled, args);
+                        } catch (InvocationTargetException e) {
+                            throw e.getCause();
+                        }
+                    });
+            Thread slowPrepare = Thread.ofPlatform().start(() -> {
+                try {
+                    cache.prepare(slow, sql);
+                } catch (SQLException e) {
+                    throw new AssertionError(e);
+                }
+            });
+            preparing.await();
+            CountDownLatch prepared = new CountDownLatch(1);
+            Thread otherPrepare = Thread.ofPlatform().start(() -> {
+                try {
+                    cache.prepare(other, sql);
+                    prepared.countDown();
+                } catch (SQLException e) {
+                    throw new AssertionError(e);
+                }
+            });
+            boolean independent = prepared.await(5, TimeUnit.SECONDS);
+            unblock.countDown();
+            slowPrepare.join();
+            otherPrepare.join();
+            assert independent : "A slow prepare on one connection should not block another connection";
+            assert cache.size() == 2 : "Both connections should have cached statements";
+        }
+        System.out.println("Statement cache per-connection locking test passed!");
+    }
+
+    private static void createSchema(ConnectionPool pool) throws SQLException {
+        Connection conn = pool.acquire();
+        try (Statement statement = conn.createStatement()) {
+            statement.execute("CREATE TABLE items (id INT PRIMARY KEY)");
+        } finally {
+            pool.release(conn);
+        }
+    }
+
+    private static int insert(Connection conn, int id) throws SQLException {
+        try (PreparedStatement statement = conn.prepareStatement("INSERT INTO items (id) VALUES (?)")) {
+            statement.setInt(1, id);
+            return statement.executeUpdate();
+        }
+    }
+
+    private static int count(ConnectionPool pool) throws SQLException {
+        Connection conn = pool.acquire();
+        try (Statement statement = conn.createStatement(); ResultSet rs = statement.executeQuery("SELECT COUNT(*) FROM items")) {
+            rs.next();
+            return rs.getInt(1);
+        } finally {
+            pool.release(conn);
+        }
+    }
+}
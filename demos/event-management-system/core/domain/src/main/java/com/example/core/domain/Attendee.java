@@ -1,11 +1,10 @@
 package com.example.core.domain;
 
+import java.io.Serializable;
 import java.util.UUID;
 
-public record Attendee(UUID id, String name, String email, String phone) {
+public record Attendee(UUID id, String name, String email, String phone) implements Serializable {
     public Attendee {
-        if (id == null) throw new IllegalArgumentException("Attendee ID cannot be null");
-        if (name == null || name.isBlank()) throw new IllegalArgumentException("Name cannot be null or blank");
-        if (email == null || email.isBlank() || !email.contains("@")) throw new IllegalArgumentException("Valid email is required");
+        ValidationError.throwFirst(EventValidations.checkAttendee(id, name, email));
     }
 }
\ No newline at end of file
@@ -0,0 +1,43 @@
+package com.example.core.domain;
+
+import java.util.Currency;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Allocation-light money value: an amount in the currency's minor units (e.g. cents) and the
+ * ISO 4217 numeric currency code. Meant for hot aggregation paths; see {@link Money} for the general form.
+ */
+public record CompactMoney(long minorUnits, int currencyCode) {
+    private static final Map<Integer, Currency> BY_NUMERIC_CODE = new HashMap<>();
+
+    static {
+        for (Currency currency : Currency.getAvailableCurrencies()) {
+            if (currency.getNumericCode() > 0 && currency.getDefaultFractionDigits() >= 0) {
+                BY_NUMERIC_CODE.putIfAbsent(currency.getNumericCode(), currency);
+            }
+        }
+    }
+
+    public CompactMoney {
+        if (minorUnits < 0) throw new IllegalArgumentException("Amount cannot be negative");
+        if (!BY_NUMERIC_CODE.containsKey(currencyCode)) throw new IllegalArgumentException("Unknown currency code: " + currencyCode);
+    }
+
+    public static CompactMoney zero(Currency currency) {
+        return new CompactMoney(0, codeOf(currency));
+    }
+
+    public static boolean supports(Currency currency) {
+        return currency != null && currency.equals(BY_NUMERIC_CODE.get(currency.getNumericCode()));
+    }
+
+    public static int codeOf(Currency currency) {
+        if (!supports(currency)) throw new IllegalArgumentException("Currency has no minor-unit representation: " + currency);
+        return currency.getNumericCode();
+    }
+
+    public Currency currency() {
+        return BY_NUMERIC_CODE.get(currencyCode);
+    }
+}
@@ -6,7 +6,9 @@ public record Concert(EventId id, String name, LocalDateTime startTime, LocalDat
                       Location location, int maxAttendees, String artist, String genre, Money ticketPrice)
         implements Event {
     public Concert {
-        if (artist == null || artist.isBlank()) throw new IllegalArgumentException("Artist cannot be null or blank");
-        EventValidations.validateEvent(name, startTime, endTime, location, maxAttendees);
+        ValidationError.throwFirst(EventValidations.checkConcert(name, startTime, endTime, location, maxAttendees, artist));
+        location = Flyweights.location(location);
+        artist = Flyweights.text(artist);
+        genre = Flyweights.text(genre);
     }
 }
\ No newline at end of file
@@ -7,10 +7,9 @@ public record Conference(EventId id, String name, LocalDateTime startTime, Local
                          Location location, int maxAttendees, List<String> speakers, List<String> topics,
                          Money registrationFee) implements Event {
     public Conference {
-        if (speakers == null || speakers.isEmpty()) throw new IllegalArgumentException("Speakers list cannot be null or empty");
-        if (topics == null || topics.isEmpty()) throw new IllegalArgumentException("Topics list cannot be null or empty");
-        EventValidations.validateEvent(name, startTime, endTime, location, maxAttendees);
-        speakers = List.copyOf(speakers);
-        topics = List.copyOf(topics);
+        ValidationError.throwFirst(EventValidations.checkConference(name, startTime, endTime, location, maxAttendees, speakers, topics));
+        location = Flyweights.location(location);
+        speakers = Flyweights.texts(speakers);
+        topics = Flyweights.texts(topics);
     }
 }
@@ -0,0 +1,356 @@
+package com.example.core.domain;
+
+import java.math.BigDecimal;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Currency;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Reflection-free binary encoding of the domain records, read and written directly on a {@link ByteBuffer}.
+ * <p>
+ * An event starts with a one-byte tag for its permitted subtype. Lengths, counts and small numbers are varints,
+ * {@link UUID}s two fixed longs, {@link LocalDateTime}s epoch seconds at UTC plus nanos, and {@link Money} its
+ * unscaled long, scale and three-letter currency code. Strings are UTF-8 behind a varint of length + 1, where 0
+ * means {@code null}. Decoding goes through the record constructors, so decoded values are validated like any other.
+ * <p>
+ * Writers need {@link #encodedSize} bytes remaining and throw {@link java.nio.BufferOverflowException} otherwise;
+ * readers throw {@link BufferUnderflowException} on a truncated value, which lets callers refill and retry.
+ */
+public final class DomainCodec {
+    private static final byte CONCERT = 1;
+    private static final byte CONFERENCE = 2;
+    private static final byte EXHIBITION = 3;
+    private static final byte WORKSHOP = 4;
+    private static final RegistrationStatus[] STATUSES = RegistrationStatus.values();
+
+    private DomainCodec() {}
+
+    // --- Records ---
+
+    public static void writeEvent(ByteBuffer buffer, Event event) {
+        buffer.put(switch (event) {
+            case Concert ignored -> CONCERT;
+            case Conference ignored -> CONFERENCE;
+            case Exhibition ignored -> EXHIBITION;
+            case Workshop ignored -> WORKSHOP;
+        });
+        writeUuid(buffer, event.id().value());
+        writeString(buffer, event.name());
+        writeDateTime(buffer, event.startTime());
+        writeDateTime(buffer, event.endTime());
+        writeString(buffer, event.location().name());
+        writeString(buffer, event.location().address());
+        writeVarInt(buffer, event.maxAttendees());
+        switch (event) {
+            case Concert c -> {
+                writeString(buffer, c.artist());
+                writeString(buffer, c.genre());
+                writeMoney(buffer, c.ticketPrice());
+            }
+            case Conference c -> {
+                writeStrings(buffer, c.speakers());
+                writeStrings(buffer, c.topics());
+                writeMoney(buffer, c.registrationFee());
+            }
+            case Exhibition e -> {
+                writeString(buffer, e.theme());
+                writeStrings(buffer, e.exhibitors());
+                writeMoney(buffer, e.entryFee());
+            }
+            case Workshop w -> {
+                writeString(buffer, w.instructor());
+                writeString(buffer, w.skillLevel());
+                writeMoney(buffer, w.participationFee());
+                writeVarInt(buffer, w.maxParticipants());
+            }
+        }
+    }
+
+    public static Event readEvent(ByteBuffer buffer) {
+        byte tag = buffer.get();
+        EventId id = new EventId(readUuid(buffer));
+        String name = readString(buffer);
+        LocalDateTime startTime = readDateTime(buffer);
+        LocalDateTime endTime = readDateTime(buffer);
+        Location location = new Location(readString(buffer), readString(buffer));
+        int maxAttendees = readVarInt(buffer);
+        return switch (tag) {
+            case CONCERT -> new Concert(id, name, startTime, endTime, location, maxAttendees,
+                    readString(buffer), readString(buffer), readMoney(buffer));
+            case CONFERENCE -> new Conference(id, name, startTime, endTime, location, maxAttendees,
+                    readStrings(buffer), readStrings(buffer), readMoney(buffer));
+            case EXHIBITION -> new Exhibition(id, name, startTime, endTime, location, maxAttendees,
+                    readString(buffer), readStrings(buffer), readMoney(buffer));
+            case WORKSHOP -> new Workshop(id, name, startTime, endTime, location, maxAttendees,
+                    readString(buffer), readString(buffer), readMoney(buffer), readVarInt(buffer));
+            default -> throw new IllegalArgumentException("Unknown event type tag: " + tag);
+        };
+    }
+
+    // A registration carries its event inline; see the snapshot format for sharing events between registrations.
+    public static void writeRegistration(ByteBuffer buffer, Registration registration) {
+        writeUuid(buffer, registration.id());
+        writeEvent(buffer, registration.event());
+        writeAttendee(buffer, registration.attendee());
+        writeDateTime(buffer, registration.registrationTime());
+        writeStatus(buffer, registration.status());
+    }
+
+    public static Registration readRegistration(ByteBuffer buffer) {
+        return new Registration(readUuid(buffer), readEvent(buffer), readAttendee(buffer), readDateTime(buffer),
+                readStatus(buffer));
+    }
+
+    public static void writeAttendee(ByteBuffer buffer, Attendee attendee) {
+        writeUuid(buffer, attendee.id());
+        writeString(buffer, attendee.name());
+        writeString(buffer, attendee.email());
+        writeString(buffer, attendee.phone());
+    }
+
+    public static Attendee readAttendee(ByteBuffer buffer) {
+        return new Attendee(readUuid(buffer), readString(buffer), readString(buffer), readString(buffer));
+    }
+
+    public static void writeMoney(ByteBuffer buffer, Money money) {
+        if (money == null) throw new IllegalArgumentException("Money cannot be null");
+        long unscaled;
+        try {
+            unscaled = money.amount().unscaledValue().longValueExact();
+        } catch (ArithmeticException e) {
+            throw new IllegalArgumentException("Amount does not fit in an unscaled long: " + money.amount(), e);
+        }
+        writeVarLong(buffer, unscaled);
+        writeVarLong(buffer, money.amount().scale());
+        String code = money.currency().getCurrencyCode();
+        buffer.put((byte) code.charAt(0)).put((byte) code.charAt(1)).put((byte) code.charAt(2));
+    }
+
+    public static Money readMoney(ByteBuffer buffer) {
+        long unscaled = readVarLong(buffer);
+        int scale = (int) readVarLong(buffer);
+        char[] code = {(char) buffer.get(), (char) buffer.get(), (char) buffer.get()};
+        return new Money(BigDecimal.valueOf(unscaled, scale), Currency.getInstance(new String(code)));
+    }
+
+    public static void writeStatus(ByteBuffer buffer, RegistrationStatus status) {
+        buffer.put((byte) status.ordinal());
+    }
+
+    public static RegistrationStatus readStatus(ByteBuffer buffer) {
+        byte ordinal = buffer.get();
+        if (ordinal < 0 || ordinal >= STATUSES.length) throw new IllegalArgumentException("Unknown registration status: " + ordinal);
+        return STATUSES[ordinal];
+    }
+
+    // --- Fields ---
+
+    public static void writeUuid(ByteBuffer buffer, UUID uuid) {
+        buffer.putLong(uuid.getMostSignificantBits()).putLong(uuid.getLeastSignificantBits());
+    }
+
+    public static UUID readUuid(ByteBuffer buffer) {
+        return new UUID(buffer.getLong(), buffer.getLong());
+    }
+
+    public static void writeDateTime(ByteBuffer buffer, LocalDateTime dateTime) {
+        writeVarLong(buffer, dateTime.toEpochSecond(ZoneOffset.UTC));
+        writeVarInt(buffer, dateTime.getNano());
+    }
+
+    public static LocalDateTime readDateTime(ByteBuffer buffer) {
+        return LocalDateTime.ofEpochSecond(readVarLong(buffer), readVarInt(buffer), ZoneOffset.UTC);
+    }
+
+    public static void writeString(ByteBuffer buffer, String value) {
+        if (value == null) {
+            writeVarInt(buffer, 0);
+            return;
+        }
+        int length = value.length();
+        int utf8Length = utf8Length(value);
+        writeVarInt(buffer, utf8Length + 1);
+        if (utf8Length == length) {
+            for (int i = 0; i < length; i++) buffer.put((byte) value.charAt(i));
+            return;
+        }
+        for (int i = 0; i < length; i++) {
+            char c = value.charAt(i);
+            if (c < 0x80) {
+                buffer.put((byte) c);
+            } else if (c < 0x800) {
+                buffer.put((byte) (0xC0 | c >> 6)).put((byte) (0x80 | c & 0x3F));
+            } else if (!Character.isSurrogate(c)) {
+                buffer.put((byte) (0xE0 | c >> 12)).put((byte) (0x80 | c >> 6 & 0x3F)).put((byte) (0x80 | c & 0x3F));
+            } else if (isSurrogatePair(value, i)) {
+                int codePoint = Character.toCodePoint(c, value.charAt(++i));
+                buffer.put((byte) (0xF0 | codePoint >> 18)).put((byte) (0x80 | codePoint >> 12 & 0x3F))
+                        .put((byte) (0x80 | codePoint >> 6 & 0x3F)).put((byte) (0x80 | codePoint & 0x3F));
+            } else {
+                // Unpaired surrogate: replaced like String.getBytes(UTF_8) does.
+                buffer.put((byte) '?');
+            }
+        }
+    }
+
+    public static String readString(ByteBuffer buffer) {
+        int header = readVarInt(buffer);
+        if (header == 0) return null;
+        int length = header - 1;
+        if (length > buffer.remaining()) throw new BufferUnderflowException();
+        int position = buffer.position();
+        if (buffer.hasArray()) {
+            buffer.position(position + length);
+            return new String(buffer.array(), buffer.arrayOffset() + position, length, StandardCharsets.UTF_8);
+        }
+        char[] chars = new char[length];
+        int count = 0;
+        int end = position + length;
+        while (buffer.position() < end) {
+            int b = buffer.get() & 0xFF;
+            if (b < 0x80) {
+                chars[count++] = (char) b;
+            } else if (b < 0xE0) {
+                chars[count++] = (char) ((b & 0x1F) << 6 | buffer.get() & 0x3F);
+            } else if (b < 0xF0) {
+                chars[count++] = (char) ((b & 0x0F) << 12 | (buffer.get() & 0x3F) << 6 | buffer.get() & 0x3F);
+            } else {
+                int codePoint = (b & 0x07) << 18 | (buffer.get() & 0x3F) << 12 | (buffer.get() & 0x3F) << 6 | buffer.get() & 0x3F;
+                count += Character.toChars(codePoint, chars, count);
+            }
+        }
+        return new String(chars, 0, count);
+    }
+
+    public static void writeVarInt(ByteBuffer buffer, int value) {
+        while ((value & ~0x7F) != 0) {
+            buffer.put((byte) (value & 0x7F | 0x80));
+            value >>>= 7;
+        }
+        buffer.put((byte) value);
+    }
+
+    public static int readVarInt(ByteBuffer buffer) {
+        int value = 0;
+        for (int shift = 0; shift < 32; shift += 7) {
+            byte b = buffer.get();
+            value |= (b & 0x7F) << shift;
+            if (b >= 0) return value;
+        }
+        throw new IllegalArgumentException("Malformed varint");
+    }
+
+    // Zigzag-encoded so small negative values stay short.
+    public static void writeVarLong(ByteBuffer buffer, long value) {
+        long zigzag = value << 1 ^ value >> 63;
+        while ((zigzag & ~0x7FL) != 0) {
+            buffer.put((byte) (zigzag & 0x7F | 0x80));
+            zigzag >>>= 7;
+        }
+        buffer.put((byte) zigzag);
+    }
+
+    public static long readVarLong(ByteBuffer buffer) {
+        long zigzag = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            byte b = buffer.get();
+            zigzag |= (long) (b & 0x7F) << shift;
+            if (b >= 0) return zigzag >>> 1 ^ -(zigzag & 1);
+        }
+        throw new IllegalArgumentException("Malformed varlong");
+    }
+
+    // --- Sizes ---
+
+    public static int encodedSize(Event event) {
+        int size = 1 + 16 + sizeOf(event.name()) + sizeOf(event.startTime()) + sizeOf(event.endTime())
+                + sizeOf(event.location().name()) + sizeOf(event.location().address()) + sizeOfVarInt(event.maxAttendees());
+        return size + switch (event) {
+            case Concert c -> sizeOf(c.artist()) + sizeOf(c.genre()) + encodedSize(c.ticketPrice());
+            case Conference c -> sizeOf(c.speakers()) + sizeOf(c.topics()) + encodedSize(c.registrationFee());
+            case Exhibition e -> sizeOf(e.theme()) + sizeOf(e.exhibitors()) + encodedSize(e.entryFee());
+            case Workshop w -> sizeOf(w.instructor()) + sizeOf(w.skillLevel()) + encodedSize(w.participationFee())
+                    + sizeOfVarInt(w.maxParticipants());
+        };
+    }
+
+    public static int encodedSize(Registration registration) {
+        return 16 + encodedSize(registration.event()) + encodedSize(registration.attendee())
+                + sizeOf(registration.registrationTime()) + 1;
+    }
+
+    public static int encodedSize(Attendee attendee) {
+        return 16 + sizeOf(attendee.name()) + sizeOf(attendee.email()) + sizeOf(attendee.phone());
+    }
+
+    public static int encodedSize(Money money) {
+        return sizeOfVarLong(money.amount().unscaledValue().longValue()) + sizeOfVarLong(money.amount().scale()) + 3;
+    }
+
+    public static int sizeOf(String value) {
+        if (value == null) return 1;
+        int utf8Length = utf8Length(value);
+        return sizeOfVarInt(utf8Length + 1) + utf8Length;
+    }
+
+    public static int sizeOf(LocalDateTime dateTime) {
+        return sizeOfVarLong(dateTime.toEpochSecond(ZoneOffset.UTC)) + sizeOfVarInt(dateTime.getNano());
+    }
+
+    public static int sizeOfVarInt(int value) {
+        return value == 0 ? 1 : (38 - Integer.numberOfLeadingZeros(value)) / 7;
+    }
+
+    public static int sizeOfVarLong(long value) {
+        long zigzag = value << 1 ^ value >> 63;
+        return zigzag == 0 ? 1 : (70 - Long.numberOfLeadingZeros(zigzag)) / 7;
+    }
+
+    private static int sizeOf(List<String> values) {
+        int size = sizeOfVarInt(values.size());
+        for (String value : values) size += sizeOf(value);
+        return size;
+    }
+
+    private static void writeStrings(ByteBuffer buffer, List<String> values) {
+        writeVarInt(buffer, values.size());
+        for (String value : values) writeString(buffer, value);
+    }
+
+    private static List<String> readStrings(ByteBuffer buffer) {
+        int size = readVarInt(buffer);
+        if (size > buffer.remaining()) throw new BufferUnderflowException();
+        List<String> values = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) values.add(readString(buffer));
+        return values;
+    }
+
+    private static int utf8Length(String value) {
+        int length = value.length();
+        int utf8Length = length;
+        for (int i = 0; i < length; i++) {
+            char c = value.charAt(i);
+            if (c < 0x80) continue;
+            if (c < 0x800) {
+                utf8Length += 1;
+            } else if (!Character.isSurrogate(c)) {
+                utf8Length += 2;
+            } else if (isSurrogatePair(value, i)) {
+                utf8Length += 2;
+                i++;
+            }
+        }
+        return utf8Length;
+    }
+
+    private static boolean isSurrogatePair(String value, int index) {
+        return Character.isHighSurrogate(value.charAt(index)) && index + 1 < value.length()
+                && Character.isLowSurrogate(value.charAt(index + 1));
+    }
+}
@@ -1,8 +1,9 @@
 package com.example.core.domain;
 
+import java.io.Serializable;
 import java.time.LocalDateTime;
 
-public sealed interface Event permits Concert, Conference, Exhibition, Workshop {
+public sealed interface Event extends Serializable permits Concert, Conference, Exhibition, Workshop {
     EventId id();
     String name();
     LocalDateTime startTime();
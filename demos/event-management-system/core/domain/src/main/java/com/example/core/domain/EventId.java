@@ -1,8 +1,9 @@
 package com.example.core.domain;
 
+import java.io.Serializable;
 import java.util.UUID;
 
-public record EventId(UUID value) {
+public record EventId(UUID value) implements Serializable {
     public EventId {
         if (value == null) throw new IllegalArgumentException("Event ID cannot be null");
     }
@@ -1,17 +1,89 @@
 package com.example.core.domain;
 
+import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.Currency;
+import java.util.List;
+import java.util.UUID;
 
+/**
+ * The checks behind the domain record constructors. Each {@code check} method returns every {@link ValidationError}
+ * the given fields would trip as a bit set, 0 meaning the record can be built, without throwing or allocating.
+ * Importers can screen rows with them and construct only those that return 0, so rejected rows never pay for an
+ * exception and accepted rows never throw.
+ */
 public final class EventValidations {
     private EventValidations() {}
 
     public static void validateEvent(String name, LocalDateTime startTime, LocalDateTime endTime,
                                      Location location, int maxAttendees) {
-        if (name == null || name.isBlank()) throw new IllegalArgumentException("Event name cannot be null or blank");
-        if (startTime == null) throw new IllegalArgumentException("Start time cannot be null");
-        if (endTime == null) throw new IllegalArgumentException("End time cannot be null");
-        if (endTime.isBefore(startTime)) throw new IllegalArgumentException("End time cannot be before start time");
-        if (location == null) throw new IllegalArgumentException("Location cannot be null");
-        if (maxAttendees <= 0) throw new IllegalArgumentException("Maximum attendees must be positive");
-    }
-}
\ No newline at end of file
+        ValidationError.throwFirst(checkEvent(name, startTime, endTime, location, maxAttendees));
+    }
+
+    public static long checkEvent(String name, LocalDateTime startTime, LocalDateTime endTime,
+                                  Location location, int maxAttendees) {
+        long errors = 0;
+        if (name == null || name.isBlank()) errors |= ValidationError.EVENT_NAME_BLANK.bit();
+        if (startTime == null) errors |= ValidationError.START_TIME_MISSING.bit();
+        if (endTime == null) errors |= ValidationError.END_TIME_MISSING.bit();
+        if (startTime != null && endTime != null && endTime.isBefore(startTime)) errors |= ValidationError.END_BEFORE_START.bit();
+        if (location == null) errors |= ValidationError.LOCATION_MISSING.bit();
+        if (maxAttendees <= 0) errors |= ValidationError.MAX_ATTENDEES_NOT_POSITIVE.bit();
+        return errors;
+    }
+
+    public static long checkConcert(String name, LocalDateTime startTime, LocalDateTime endTime, Location location,
+                                    int maxAttendees, String artist) {
+        long errors = checkEvent(name, startTime, endTime, location, maxAttendees);
+        if (artist == null || artist.isBlank()) errors |= ValidationError.ARTIST_BLANK.bit();
+        return errors;
+    }
+
+    public static long checkConference(String name, LocalDateTime startTime, LocalDateTime endTime, Location location,
+                                       int maxAttendees, List<String> speakers, List<String> topics) {
+        long errors = checkEvent(name, startTime, endTime, location, maxAttendees);
+        if (speakers == null || speakers.isEmpty()) errors |= ValidationError.SPEAKERS_EMPTY.bit();
+        if (topics == null || topics.isEmpty()) errors |= ValidationError.TOPICS_EMPTY.bit();
+        return errors;
+    }
+
+    public static long checkExhibition(String name, LocalDateTime startTime, LocalDateTime endTime, Location location,
+                                       int maxAttendees, String theme, List<String> exhibitors) {
+        long errors = checkEvent(name, startTime, endTime, location, maxAttendees);
+        if (theme == null || theme.isBlank()) errors |= ValidationError.THEME_BLANK.bit();
+        if (exhibitors == null || exhibitors.isEmpty()) errors |= ValidationError.EXHIBITORS_EMPTY.bit();
+        return errors;
+    }
+
+    public static long checkWorkshop(String name, LocalDateTime startTime, LocalDateTime endTime, Location location,
+                                     int maxAttendees, String instructor, String skillLevel, int maxParticipants) {
+        long errors = checkEvent(name, startTime, endTime, location, maxAttendees);
+        if (instructor == null || instructor.isBlank()) errors |= ValidationError.INSTRUCTOR_BLANK.bit();
+        if (skillLevel == null || skillLevel.isBlank()) errors |= ValidationError.SKILL_LEVEL_BLANK.bit();
+        if (maxParticipants <= 0) errors |= ValidationError.MAX_PARTICIPANTS_NOT_POSITIVE.bit();
+        return errors;
+    }
+
+    public static long checkAttendee(UUID id, String name, String email) {
+        long errors = 0;
+        if (id == null) errors |= ValidationError.ATTENDEE_ID_MISSING.bit();
+        if (name == null || name.isBlank()) errors |= ValidationError.ATTENDEE_NAME_BLANK.bit();
+        if (email == null || email.isBlank() || !email.contains("@")) errors |= ValidationError.EMAIL_INVALID.bit();
+        return errors;
+    }
+
+    public static long checkLocation(String name, String address) {
+        long errors = 0;
+        if (name == null || name.isBlank()) errors |= ValidationError.LOCATION_NAME_BLANK.bit();
+        if (address == null || address.isBlank()) errors |= ValidationError.ADDRESS_BLANK.bit();
+        return errors;
+    }
+
+    public static long checkMoney(BigDecimal amount, Currency currency) {
+        long errors = 0;
+        if (amount == null) errors |= ValidationError.AMOUNT_MISSING.bit();
+        if (currency == null) errors |= ValidationError.CURRENCY_MISSING.bit();
+        if (amount != null && amount.signum() < 0) errors |= ValidationError.AMOUNT_NEGATIVE.bit();
+        return errors;
+    }
+}
@@ -7,9 +7,9 @@ public record Exhibition(EventId id, String name, LocalDateTime startTime, Local
                          Location location, int maxAttendees, String theme, List<String> exhibitors,
                          Money entryFee) implements Event {
     public Exhibition {
-        if (theme == null || theme.isBlank()) throw new IllegalArgumentException("Theme cannot be null or blank");
-        if (exhibitors == null || exhibitors.isEmpty()) throw new IllegalArgumentException("Exhibitors list cannot be null or empty");
-        EventValidations.validateEvent(name, startTime, endTime, location, maxAttendees);
-        exhibitors = List.copyOf(exhibitors);
+        ValidationError.throwFirst(EventValidations.checkExhibition(name, startTime, endTime, location, maxAttendees, theme, exhibitors));
+        location = Flyweights.location(location);
+        theme = Flyweights.text(theme);
+        exhibitors = Flyweights.texts(exhibitors);
     }
 }
\ No newline at end of file
@@ -0,0 +1,34 @@
+package com.example.core.domain;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Shared instances for the highly repeated parts of events: locations and descriptive strings such as artists,
+ * genres, skill levels, speakers, topics and exhibitors. Event constructors route those fields through here, so
+ * events built by hand, by the CLI or by a decoder all end up sharing them.
+ * Set {@code -Dcom.example.core.domain.interning=false} to turn interning off.
+ */
+final class Flyweights {
+    private static final boolean ENABLED = !"false".equals(System.getProperty("com.example.core.domain.interning"));
+    private static final Interner<Location> LOCATIONS = new Interner<>(1 << 16);
+    private static final Interner<String> TEXTS = new Interner<>(1 << 16);
+
+    private Flyweights() {}
+
+    static Location location(Location location) {
+        return ENABLED ? LOCATIONS.intern(location) : location;
+    }
+
+    static String text(String text) {
+        return ENABLED ? TEXTS.intern(text) : text;
+    }
+
+    // Returns an unmodifiable copy with every element interned, like List.copyOf.
+    static List<String> texts(List<String> texts) {
+        if (!ENABLED) return List.copyOf(texts);
+        List<String> interned = new ArrayList<>(texts.size());
+        for (String text : texts) interned.add(TEXTS.intern(text));
+        return List.copyOf(interned);
+    }
+}
@@ -0,0 +1,29 @@
+package com.example.core.domain;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Bounded, lock-free canonicalizing cache: equal values passed to {@link #intern} share one instance while it
+ * stays cached. Entries live in a fixed direct-mapped table, so a collision replaces the older entry. Memory stays
+ * bounded and interning never blocks, at the cost of occasionally keeping a duplicate.
+ */
+public final class Interner<T> {
+    private final AtomicReferenceArray<T> table;
+    private final int mask;
+
+    public Interner(int capacity) {
+        if (capacity <= 0 || Integer.bitCount(capacity) != 1) throw new IllegalArgumentException("Capacity must be a positive power of two");
+        this.table = new AtomicReferenceArray<>(capacity);
+        this.mask = capacity - 1;
+    }
+
+    public T intern(T value) {
+        if (value == null) return null;
+        int hash = value.hashCode();
+        int index = (hash ^ hash >>> 16) & mask;
+        T cached = table.getAcquire(index);
+        if (value.equals(cached)) return cached;
+        table.setRelease(index, value);
+        return value;
+    }
+}
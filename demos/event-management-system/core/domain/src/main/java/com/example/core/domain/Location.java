@@ -1,8 +1,9 @@
 package com.example.core.domain;
 
-public record Location(String name, String address) {
+import java.io.Serializable;
+
+public record Location(String name, String address) implements Serializable {
     public Location {
-        if (name == null || name.isBlank()) throw new IllegalArgumentException("Location name cannot be null or blank");
-        if (address == null || address.isBlank()) throw new IllegalArgumentException("Address cannot be null or blank");
+        ValidationError.throwFirst(EventValidations.checkLocation(name, address));
     }
 }
\ No newline at end of file
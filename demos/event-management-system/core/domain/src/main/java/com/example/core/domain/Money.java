@@ -1,12 +1,11 @@
 package com.example.core.domain;
 
+import java.io.Serializable;
 import java.math.BigDecimal;
 import java.util.Currency;
 
-public record Money(BigDecimal amount, Currency currency) {
+public record Money(BigDecimal amount, Currency currency) implements Serializable {
     public Money {
-        if (amount == null) throw new IllegalArgumentException("Amount cannot be null");
-        if (currency == null) throw new IllegalArgumentException("Currency cannot be null");
-        if (amount.compareTo(BigDecimal.ZERO) < 0) throw new IllegalArgumentException("Amount cannot be negative");
+        ValidationError.throwFirst(EventValidations.checkMoney(amount, currency));
     }
 }
\ No newline at end of file
@@ -1,10 +1,11 @@
 package com.example.core.domain;
 
+import java.io.Serializable;
 import java.time.LocalDateTime;
 import java.util.UUID;
 
 public record Registration(UUID id, Event event, Attendee attendee, LocalDateTime registrationTime,
-                           RegistrationStatus status) {
+                           RegistrationStatus status) implements Serializable {
     public Registration {
         if (id == null) throw new IllegalArgumentException("Registration ID cannot be null");
         if (event == null) throw new IllegalArgumentException("Event cannot be null");
@@ -0,0 +1,61 @@
+package com.example.core.domain;
+
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * Reasons a domain record can be rejected. The checks in {@link EventValidations} return them as a bit set in a
+ * {@code long}, one bit per constant, so rows can be validated without allocating or throwing. Constants are in the
+ * order the record constructors check them: the constructor reports the lowest set bit.
+ */
+public enum ValidationError {
+    ARTIST_BLANK("Artist cannot be null or blank"),
+    SPEAKERS_EMPTY("Speakers list cannot be null or empty"),
+    TOPICS_EMPTY("Topics list cannot be null or empty"),
+    THEME_BLANK("Theme cannot be null or blank"),
+    EXHIBITORS_EMPTY("Exhibitors list cannot be null or empty"),
+    INSTRUCTOR_BLANK("Instructor cannot be null or blank"),
+    SKILL_LEVEL_BLANK("Skill level cannot be null or blank"),
+    MAX_PARTICIPANTS_NOT_POSITIVE("Maximum participants must be positive"),
+    EVENT_NAME_BLANK("Event name cannot be null or blank"),
+    START_TIME_MISSING("Start time cannot be null"),
+    END_TIME_MISSING("End time cannot be null"),
+    END_BEFORE_START("End time cannot be before start time"),
+    LOCATION_MISSING("Location cannot be null"),
+    MAX_ATTENDEES_NOT_POSITIVE("Maximum attendees must be positive"),
+    ATTENDEE_ID_MISSING("Attendee ID cannot be null"),
+    ATTENDEE_NAME_BLANK("Name cannot be null or blank"),
+    EMAIL_INVALID("Valid email is required"),
+    LOCATION_NAME_BLANK("Location name cannot be null or blank"),
+    ADDRESS_BLANK("Address cannot be null or blank"),
+    AMOUNT_MISSING("Amount cannot be null"),
+    CURRENCY_MISSING("Currency cannot be null"),
+    AMOUNT_NEGATIVE("Amount cannot be negative");
+
+    private static final ValidationError[] VALUES = values();
+
+    private final String message;
+
+    ValidationError(String message) {
+        this.message = message;
+    }
+
+    public String message() {
+        return message;
+    }
+
+    public long bit() {
+        return 1L << ordinal();
+    }
+
+    public static Set<ValidationError> decode(long errors) {
+        Set<ValidationError> decoded = EnumSet.noneOf(ValidationError.class);
+        for (long rest = errors; rest != 0; rest &= rest - 1) decoded.add(VALUES[Long.numberOfTrailingZeros(rest)]);
+        return decoded;
+    }
+
+    // Throws for the first error the constructor would have hit; does nothing for 0.
+    static void throwFirst(long errors) {
+        if (errors != 0) throw new IllegalArgumentException(VALUES[Long.numberOfTrailingZeros(errors)].message);
+    }
+}
@@ -6,9 +6,10 @@ public record Workshop(EventId id, String name, LocalDateTime startTime, LocalDa
                        Location location, int maxAttendees, String instructor, String skillLevel,
                        Money participationFee, int maxParticipants) implements Event {
     public Workshop {
-        if (instructor == null || instructor.isBlank()) throw new IllegalArgumentException("Instructor cannot be null or blank");
-        if (skillLevel == null || skillLevel.isBlank()) throw new IllegalArgumentException("Skill level cannot be null or blank");
-        if (maxParticipants <= 0) throw new IllegalArgumentException("Maximum participants must be positive");
-        EventValidations.validateEvent(name, startTime, endTime, location, maxAttendees);
+        ValidationError.throwFirst(EventValidations.checkWorkshop(name, startTime, endTime, location, maxAttendees,
+                instructor, skillLevel, maxParticipants));
+        location = Flyweights.location(location);
+        instructor = Flyweights.text(instructor);
+        skillLevel = Flyweights.text(skillLevel);
     }
 }
\ No newline at end of file
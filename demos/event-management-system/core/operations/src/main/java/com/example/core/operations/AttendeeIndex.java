@@ -0,0 +1,58 @@
+package com.example.core.operations;
+
+import com.example.core.domain.Event;
+import com.example.core.domain.EventId;
+import com.example.core.domain.RegistrationStatus;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Per-event set of registered attendee emails, so duplicate registrations are rejected in constant time: a claim
+ * is a single insert into the event's concurrent set, sized from the event's capacity. Emails are compared after
+ * trimming and lower-casing.
+ */
+public final class AttendeeIndex {
+    private static final int MAX_PRESIZE = 1 << 16;
+
+    private final Map<EventId, Set<String>> attendees = new ConcurrentHashMap<>();
+
+    // Claims the email for the event; false if it is already registered.
+    public boolean tryClaim(Event event, String email) {
+        return attendeesFor(event).add(normalize(email));
+    }
+
+    // Unconditional claim, used when loading registrations that were admitted earlier.
+    public void claim(Event event, String email) {
+        attendeesFor(event).add(normalize(email));
+    }
+
+    public void release(EventId eventId, String email) {
+        Set<String> emails = attendees.get(eventId);
+        if (emails != null) emails.remove(normalize(email));
+    }
+
+    public boolean contains(EventId eventId, String email) {
+        Set<String> emails = attendees.get(eventId);
+        return emails != null && emails.contains(normalize(email));
+    }
+
+    public int size(EventId eventId) {
+        Set<String> emails = attendees.get(eventId);
+        return emails == null ? 0 : emails.size();
+    }
+
+    // Every registration except a cancelled one keeps its attendee's email claimed.
+    static boolean holdsEmail(RegistrationStatus status) {
+        return status != RegistrationStatus.CANCELLED;
+    }
+
+    static String normalize(String email) {
+        return email.strip().toLowerCase(Locale.ROOT);
+    }
+
+    private Set<String> attendeesFor(Event event) {
+        return attendees.computeIfAbsent(event.id(), id -> ConcurrentHashMap.newKeySet(Math.min(event.maxAttendees(), MAX_PRESIZE)));
+    }
+}
@@ -0,0 +1,75 @@
+package com.example.core.operations;
+
+import com.example.core.domain.Event;
+import com.example.core.domain.EventId;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Lock-free seat reservation per event. Each event owns its own counter and reservations
+ * are bounded by a compare-and-set loop, so capacity is never exceeded under contention
+ * and unrelated events never touch the same memory.
+ */
+public final class CapacityReservations {
+    private final Map<EventId, AtomicInteger> reserved = new ConcurrentHashMap<>();
+
+    public boolean tryReserve(Event event) {
+        return tryReserve(event.id(), event.maxAttendees());
+    }
+
+    public boolean tryReserve(EventId eventId, int capacity) {
+        AtomicInteger seats = seatsFor(eventId);
+        int current = seats.get();
+        while (current < capacity) {
+            int witness = seats.compareAndExchange(current, current + 1);
+            if (witness == current) return true;
+            current = witness;
+        }
+        return false;
+    }
+
+    // Reserves up to the requested number of seats in one step and returns how many were granted.
+    public int tryReserve(EventId eventId, int capacity, int requested) {
+        if (requested <= 0) return 0;
+        AtomicInteger seats = seatsFor(eventId);
+        int current = seats.get();
+        while (current < capacity) {
+            int granted = Math.min(requested, capacity - current);
+            int witness = seats.compareAndExchange(current, current + granted);
+            if (witness == current) return granted;
+            current = witness;
+        }
+        return 0;
+    }
+
+    // Unconditional claim, used when loading registrations that were admitted earlier.
+    public void claim(EventId eventId) {
+        seatsFor(eventId).incrementAndGet();
+    }
+
+    public void release(EventId eventId) {
+        AtomicInteger seats = reserved.get(eventId);
+        if (seats == null) return;
+        int current = seats.get();
+        while (current > 0) {
+            int witness = seats.compareAndExchange(current, current - 1);
+            if (witness == current) return;
+            current = witness;
+        }
+    }
+
+    public int reserved(EventId eventId) {
+        AtomicInteger seats = reserved.get(eventId);
+        return seats == null ? 0 : seats.get();
+    }
+
+    public int remaining(Event event) {
+        return Math.max(0, event.maxAttendees() - reserved(event.id()));
+    }
+
+    private AtomicInteger seatsFor(EventId eventId) {
+        AtomicInteger seats = reserved.get(eventId);
+        return seats != null ? seats : reserved.computeIfAbsent(eventId, id -> new AtomicInteger());
+    }
+}
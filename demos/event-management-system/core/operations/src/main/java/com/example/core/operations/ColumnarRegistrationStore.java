@@ -0,0 +1,276 @@
+package com.example.core.operations;
+
+import com.example.core.domain.Event;
+import com.example.core.domain.EventId;
+import com.example.core.domain.Registration;
+import com.example.core.domain.RegistrationStatus;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.Currency;
+import java.util.UUID;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Heap {@link RegistrationTable} with one primitive array per column, so scans and aggregations walk
+ * contiguous memory instead of chasing {@link Registration} object graphs.
+ * Appends and status updates take a write lock; scans share a read lock.
+ */
+public final class ColumnarRegistrationStore implements RegistrationTable {
+    private static final RegistrationStatus[] STATUSES = RegistrationStatus.values();
+    private static final int SECONDS_PER_HOUR = 3600;
+    private static final int MAX_HOURS = Integer.MAX_VALUE / SECONDS_PER_HOUR;
+
+    private final RegistrationDictionary dictionary;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private long[] idHigh;
+    private long[] idLow;
+    private int[] eventOrdinals;
+    private int[] attendeeOrdinals;
+    private long[] registeredAt;
+    private byte[] statuses;
+    private long[] fees;
+    private int size;
+
+    public ColumnarRegistrationStore(Currency currency) {
+        this(currency, 1024);
+    }
+
+    public ColumnarRegistrationStore(Currency currency, int initialCapacity) {
+        if (initialCapacity <= 0) throw new IllegalArgumentException("Initial capacity must be positive");
+        this.dictionary = new RegistrationDictionary(currency);
+        idHigh = new long[initialCapacity];
+        idLow = new long[initialCapacity];
+        eventOrdinals = new int[initialCapacity];
+        attendeeOrdinals = new int[initialCapacity];
+        registeredAt = new long[initialCapacity];
+        statuses = new byte[initialCapacity];
+        fees = new long[initialCapacity];
+    }
+
+    @Override
+    public Currency currency() {
+        return dictionary.currency();
+    }
+
+    @Override
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return size;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public int append(Registration registration) {
+        lock.writeLock().lock();
+        try {
+            int eventOrdinal = dictionary.eventOrdinal(registration.event());
+            if (size == statuses.length) grow();
+            int row = size;
+            idHigh[row] = registration.id().getMostSignificantBits();
+            idLow[row] = registration.id().getLeastSignificantBits();
+            eventOrdinals[row] = eventOrdinal;
+            attendeeOrdinals[row] = dictionary.attendeeOrdinal(registration.attendee());
+            registeredAt[row] = registration.registrationTime().toEpochSecond(ZoneOffset.UTC);
+            statuses[row] = (byte) registration.status().ordinal();
+            fees[row] = dictionary.eventFee(eventOrdinal);
+            size++;
+            return row;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void updateStatus(int row, RegistrationStatus status) {
+        lock.writeLock().lock();
+        try {
+            checkRow(row);
+            statuses[row] = (byte) status.ordinal();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public Registration registration(int row) {
+        lock.readLock().lock();
+        try {
+            checkRow(row);
+            return new Registration(new UUID(idHigh[row], idLow[row]), dictionary.event(eventOrdinals[row]),
+                    dictionary.attendee(attendeeOrdinals[row]),
+                    LocalDateTime.ofEpochSecond(registeredAt[row], 0, ZoneOffset.UTC), STATUSES[statuses[row]]);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public int eventCount() {
+        lock.readLock().lock();
+        try {
+            return dictionary.eventCount();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public Event event(int eventOrdinal) {
+        lock.readLock().lock();
+        try {
+            return dictionary.event(eventOrdinal);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public int eventOrdinal(EventId id) {
+        lock.readLock().lock();
+        try {
+            return dictionary.existingEventOrdinal(id);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public long count(RowFilter filter) {
+        lock.readLock().lock();
+        try {
+            long count = 0;
+            for (int i = 0; i < size; i++) {
+                if (filter.test(eventOrdinals[i], attendeeOrdinals[i], registeredAt[i], STATUSES[statuses[i]], fees[i])) count++;
+            }
+            return count;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public long sumFees(RowFilter filter) {
+        lock.readLock().lock();
+        try {
+            long sum = 0;
+            for (int i = 0; i < size; i++) {
+                if (filter.test(eventOrdinals[i], attendeeOrdinals[i], registeredAt[i], STATUSES[statuses[i]], fees[i])) {
+                    sum = Math.addExact(sum, fees[i]);
+                }
+            }
+            return sum;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public long[] revenueByStatus() {
+        lock.readLock().lock();
+        try {
+            long[] totals = new long[STATUSES.length];
+            for (int i = 0; i < size; i++) totals[statuses[i]] = Math.addExact(totals[statuses[i]], fees[i]);
+            return totals;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public BigDecimal exactFee(int eventOrdinal) {
+        lock.readLock().lock();
+        try {
+            return dictionary.exactFee(eventOrdinal);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public BigDecimal sumFeeAmounts(RowFilter filter) {
+        lock.readLock().lock();
+        try {
+            long sum = 0;
+            BigDecimal exact = BigDecimal.ZERO;
+            for (int i = 0; i < size; i++) {
+                if (filter.test(eventOrdinals[i], attendeeOrdinals[i], registeredAt[i], STATUSES[statuses[i]], fees[i])) {
+                    sum = Math.addExact(sum, fees[i]);
+                    exact = dictionary.addExactFee(exact, eventOrdinals[i]);
+                }
+            }
+            return dictionary.amount(sum, exact);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public BigDecimal[] revenueAmountsByStatus() {
+        lock.readLock().lock();
+        try {
+            long[] minorUnits = new long[STATUSES.length];
+            BigDecimal[] exact = new BigDecimal[STATUSES.length];
+            Arrays.fill(exact, BigDecimal.ZERO);
+            for (int i = 0; i < size; i++) {
+                minorUnits[statuses[i]] = Math.addExact(minorUnits[statuses[i]], fees[i]);
+                exact[statuses[i]] = dictionary.addExactFee(exact[statuses[i]], eventOrdinals[i]);
+            }
+            BigDecimal[] totals = new BigDecimal[STATUSES.length];
+            for (int s = 0; s < totals.length; s++) totals[s] = dictionary.amount(minorUnits[s], exact[s]);
+            return totals;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public int[] countByEvent() {
+        lock.readLock().lock();
+        try {
+            int[] counts = new int[dictionary.eventCount()];
+            for (int i = 0; i < size; i++) counts[eventOrdinals[i]]++;
+            return counts;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public int[] registrationsPerHour(LocalDateTime from, int hours) {
+        if (hours <= 0 || hours > MAX_HOURS) throw new IllegalArgumentException("Hours must be between 1 and " + MAX_HOURS);
+        long start = from.toEpochSecond(ZoneOffset.UTC);
+        long span = (long) hours * SECONDS_PER_HOUR;
+        lock.readLock().lock();
+        try {
+            int[] counts = new int[hours];
+            for (int i = 0; i < size; i++) {
+                long offset = registeredAt[i] - start;
+                // One unsigned comparison covers both bounds; in range, the offset fits an int.
+                if (Long.compareUnsigned(offset, span) < 0) counts[(int) offset / SECONDS_PER_HOUR]++;
+            }
+            return counts;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void checkRow(int row) {
+        if (row < 0 || row >= size) throw new IndexOutOfBoundsException("Row " + row + " out of range for size " + size);
+    }
+
+    private void grow() {
+        int capacity = statuses.length + (statuses.length >> 1) + 1;
+        idHigh = Arrays.copyOf(idHigh, capacity);
+        idLow = Arrays.copyOf(idLow, capacity);
+        eventOrdinals = Arrays.copyOf(eventOrdinals, capacity);
+        attendeeOrdinals = Arrays.copyOf(attendeeOrdinals, capacity);
+        registeredAt = Arrays.copyOf(registeredAt, capacity);
+        statuses = Arrays.copyOf(statuses, capacity);
+        fees = Arrays.copyOf(fees, capacity);
+    }
+}
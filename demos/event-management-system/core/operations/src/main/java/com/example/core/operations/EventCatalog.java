@@ -0,0 +1,145 @@
+package com.example.core.operations;
+
+import com.example.core.domain.Event;
+import com.example.core.domain.EventId;
+import com.example.core.domain.Location;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Predicate;
+
+/**
+ * Event store with secondary indexes on id, start time, location and concrete event type.
+ * Time-range lookups walk only the events starting inside the range, so they cost O(log n + k).
+ */
+public final class EventCatalog {
+    private final Map<EventId, Event> byId = new LinkedHashMap<>();
+    private final NavigableMap<LocalDateTime, Map<EventId, Event>> byStartTime = new TreeMap<>();
+    private final Map<Location, Map<EventId, Event>> byLocation = new HashMap<>();
+    private final Map<Class<? extends Event>, Map<EventId, Event>> byType = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    public EventCatalog() {}
+
+    public EventCatalog(Collection<? extends Event> events) {
+        events.forEach(this::add);
+    }
+
+    public void add(Event event) {
+        if (event == null) throw new IllegalArgumentException("Event cannot be null");
+        lock.writeLock().lock();
+        try {
+            Event previous = byId.put(event.id(), event);
+            if (previous != null) unindex(previous);
+            byStartTime.computeIfAbsent(event.startTime(), k -> new LinkedHashMap<>()).put(event.id(), event);
+            byLocation.computeIfAbsent(event.location(), k -> new LinkedHashMap<>()).put(event.id(), event);
+            byType.computeIfAbsent(event.getClass(), k -> new LinkedHashMap<>()).put(event.id(), event);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public Optional<Event> remove(EventId id) {
+        lock.writeLock().lock();
+        try {
+            Event removed = byId.remove(id);
+            if (removed != null) unindex(removed);
+            return Optional.ofNullable(removed);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public Optional<Event> findById(EventId id) {
+        lock.readLock().lock();
+        try {
+            return Optional.ofNullable(byId.get(id));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public List<Event> findByTimeRange(LocalDateTime start, LocalDateTime end) {
+        lock.readLock().lock();
+        try {
+            if (end.isBefore(start)) return List.of();
+            // An event inside [start, end] must also start inside it, so the start-time index bounds the scan.
+            List<Event> result = new ArrayList<>();
+            for (Map<EventId, Event> bucket : byStartTime.subMap(start, true, end, true).values()) {
+                for (Event event : bucket.values()) {
+                    if (!event.endTime().isAfter(end)) result.add(event);
+                }
+            }
+            return List.copyOf(result);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public List<Event> findByLocation(Location location) {
+        lock.readLock().lock();
+        try {
+            return List.copyOf(byLocation.getOrDefault(location, Map.of()).values());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public <E extends Event> List<E> findByType(Class<E> type) {
+        lock.readLock().lock();
+        try {
+            return byType.getOrDefault(type, Map.of()).values().stream().map(type::cast).toList();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public List<Event> search(Predicate<Event> criteria) {
+        lock.readLock().lock();
+        try {
+            return byId.values().stream().filter(criteria).toList();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public List<Event> events() {
+        lock.readLock().lock();
+        try {
+            return List.copyOf(byId.values());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return byId.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void unindex(Event event) {
+        removeFrom(byStartTime, event.startTime(), event.id());
+        removeFrom(byLocation, event.location(), event.id());
+        removeFrom(byType, event.getClass(), event.id());
+    }
+
+    private static <K> void removeFrom(Map<K, Map<EventId, Event>> index, K key, EventId id) {
+        Map<EventId, Event> bucket = index.get(key);
+        if (bucket == null) return;
+        bucket.remove(id);
+        if (bucket.isEmpty()) index.remove(key);
+    }
+}
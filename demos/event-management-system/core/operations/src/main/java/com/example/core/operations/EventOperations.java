@@ -1,6 +1,7 @@
 package com.example.core.operations;
 
 import com.example.core.domain.Event;
+import com.example.core.domain.EventId;
 import com.example.core.domain.Concert;
 import com.example.core.domain.Conference;
 import com.example.core.domain.Exhibition;
@@ -8,6 +9,7 @@ import com.example.core.domain.Workshop;
 import com.example.core.domain.Money;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 import java.util.function.Predicate;
 
 public final class EventOperations {
@@ -17,10 +19,26 @@ public final class EventOperations {
         return events.stream().filter(criteria).toList();
     }
 
+    public static List<Event> searchEvents(List<Event> events, Predicate<Event> criteria, SearchOptions options) {
+        return ParallelEventSearch.search(events, criteria, options);
+    }
+
     public static List<Event> findEventsByTimeRange(List<Event> events, LocalDateTime start, LocalDateTime end) {
         return searchEvents(events, e -> !e.startTime().isBefore(start) && !e.endTime().isAfter(end));
     }
 
+    public static List<Event> searchEvents(EventCatalog catalog, Predicate<Event> criteria) {
+        return catalog.search(criteria);
+    }
+
+    public static List<Event> findEventsByTimeRange(EventCatalog catalog, LocalDateTime start, LocalDateTime end) {
+        return catalog.findByTimeRange(start, end);
+    }
+
+    public static Optional<Event> findEventById(EventCatalog catalog, EventId id) {
+        return catalog.findById(id);
+    }
+
     public static boolean hasAvailableCapacity(Event event, int currentAttendees) {
         return currentAttendees < event.maxAttendees();
     }
@@ -0,0 +1,294 @@
+package com.example.core.operations;
+
+import com.example.core.common.utilities.journal.Journal;
+import com.example.core.domain.Attendee;
+import com.example.core.domain.Event;
+import com.example.core.domain.Registration;
+import com.example.core.domain.RegistrationStatus;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Durable in-memory state: an {@link EventCatalog}, the registrations, their {@link RegistrationLedger}, a
+ * {@link RevenueView} and an {@link AttendeeIndex} that turns away a second registration by the same email for the
+ * same event.
+ * Every change is written to a {@link RegistrationJournal} before it is applied. {@link #snapshot()} writes the
+ * whole state to a {@link StateSnapshot} and drops the journal segments it covers, so {@link #open} loads the
+ * latest snapshot and replays only the journal tail written after it.
+ */
+public final class EventStateStore implements AutoCloseable {
+    static final String SNAPSHOT_FILE = "snapshot.bin";
+    static final String JOURNAL_DIRECTORY = "journal";
+
+    private final Path snapshotFile;
+    private final RegistrationJournal journal;
+    private final EventCatalog catalog = new EventCatalog();
+    private final Map<UUID, Registration> registrations;
+    private final RegistrationLedger ledger = new RegistrationLedger();
+    private final AttendeeIndex attendees = new AttendeeIndex();
+    private final RevenueView revenue = new RevenueView();
+    // Changes hold the read lock from journal append to apply; a snapshot takes the write lock to capture a consistent cut.
+    private final ReentrantReadWriteLock cutLock = new ReentrantReadWriteLock();
+    private final ReentrantLock statusLock = new ReentrantLock();
+    // Makes the existence check and the journal append of addEvent one step, so an event is never journaled twice.
+    private final ReentrantLock eventLock = new ReentrantLock();
+    private final ReentrantLock snapshotLock = new ReentrantLock();
+    private ScheduledExecutorService snapshotter;
+    private volatile IOException lastSnapshotFailure;
+
+    private EventStateStore(Path snapshotFile, RegistrationJournal journal, int expectedRegistrations) {
+        this.snapshotFile = snapshotFile;
+        this.journal = journal;
+        // Sized from the snapshot header so loading millions of registrations never rehashes.
+        this.registrations = new ConcurrentHashMap<>(Math.max(16, expectedRegistrations + expectedRegistrations / 8));
+        // Every ledger transition, including a rollback, moves revenue with it.
+        ledger.addListener(revenue::transition);
+    }
+
+    public static EventStateStore open(Path directory) throws IOException {
+        return open(directory, Journal.Options.defaults(directory.resolve(JOURNAL_DIRECTORY)));
+    }
+
+    public static EventStateStore open(Path directory, Journal.Options journalOptions) throws IOException {
+        Files.createDirectories(directory);
+        Path snapshotFile = directory.resolve(SNAPSHOT_FILE);
+        EventStateStore store = new EventStateStore(snapshotFile, new RegistrationJournal(Journal.open(journalOptions)),
+                StateSnapshot.registrationCount(snapshotFile));
+        try {
+            store.recover();
+        } catch (IOException | RuntimeException e) {
+            store.journal.close();
+            throw e;
+        }
+        return store;
+    }
+
+    public void addEvent(Event event) throws IOException {
+        if (event == null) throw new IllegalArgumentException("Event cannot be null");
+        cutLock.readLock().lock();
+        eventLock.lock();
+        try {
+            if (catalog.findById(event.id()).isPresent()) throw new IllegalArgumentException("Event already exists: " + event.id().value());
+            journal.recordEventCreated(event);
+            catalog.add(event);
+        } finally {
+            eventLock.unlock();
+            cutLock.readLock().unlock();
+        }
+    }
+
+    public Optional<Registration> register(Event event, Attendee attendee) throws IOException {
+        Registration registration = RegistrationOperations.createRegistration(event, attendee, RegistrationStatus.CONFIRMED);
+        return addRegistration(registration) ? Optional.of(registration) : Optional.empty();
+    }
+
+    // Records a registration if its event still has capacity for it and its attendee's email is not registered yet.
+    public boolean addRegistration(Registration registration) throws IOException {
+        if (catalog.findById(registration.event().id()).isEmpty()) {
+            throw new IllegalArgumentException("Unknown event: " + registration.event().id().value());
+        }
+        boolean claims = AttendeeIndex.holdsEmail(registration.status());
+        cutLock.readLock().lock();
+        try {
+            if (claims && !attendees.tryClaim(registration.event(), registration.attendee().email())) return false;
+            if (!ledger.tryRecord(registration)) {
+                if (claims) attendees.release(registration.event().id(), registration.attendee().email());
+                return false;
+            }
+            try {
+                journal.recordCreated(registration);
+            } catch (IOException e) {
+                ledger.forget(registration);
+                if (claims) attendees.release(registration.event().id(), registration.attendee().email());
+                throw e;
+            }
+            // Counted before it becomes visible, so a status change can never subtract its fee first.
+            revenue.record(registration);
+            registrations.put(registration.id(), registration);
+            return true;
+        } finally {
+            cutLock.readLock().unlock();
+        }
+    }
+
+    public Registration updateStatus(UUID registrationId, RegistrationStatus status) throws IOException {
+        cutLock.readLock().lock();
+        statusLock.lock();
+        try {
+            Registration current = registrations.get(registrationId);
+            if (current == null) throw new IllegalArgumentException("Unknown registration: " + registrationId);
+            Event event = current.event();
+            String email = current.attendee().email();
+            // Reinstating a cancelled registration has to win the email back first.
+            boolean reclaims = !AttendeeIndex.holdsEmail(current.status()) && AttendeeIndex.holdsEmail(status);
+            if (reclaims && !attendees.tryClaim(event, email)) {
+                throw new IllegalStateException(email + " is already registered for " + event.name());
+            }
+            Registration updated;
+            try {
+                updated = RegistrationOperations.updateStatus(current, status, ledger);
+            } catch (IllegalStateException e) {
+                if (reclaims) attendees.release(event.id(), email);
+                throw e;
+            }
+            try {
+                journal.recordStatusChange(updated);
+            } catch (IOException e) {
+                if (reclaims) attendees.release(event.id(), email);
+                // A seat given up may have been taken since; the ledger then no longer matches the registrations.
+                if (!ledger.transition(updated, current.status())) {
+                    throw new IllegalStateException("Journal write failed and the seat of registration " + registrationId
+                            + " could not be restored; the ledger is out of step with the registrations", e);
+                }
+                throw e;
+            }
+            if (AttendeeIndex.holdsEmail(current.status()) && !AttendeeIndex.holdsEmail(status)) attendees.release(event.id(), email);
+            registrations.put(registrationId, updated);
+            return updated;
+        } finally {
+            statusLock.unlock();
+            cutLock.readLock().unlock();
+        }
+    }
+
+    public EventCatalog catalog() {
+        return catalog;
+    }
+
+    public RegistrationLedger ledger() {
+        return ledger;
+    }
+
+    public AttendeeIndex attendees() {
+        return attendees;
+    }
+
+    public RevenueView revenue() {
+        return revenue;
+    }
+
+    public List<Event> events() {
+        return catalog.events();
+    }
+
+    public List<Registration> registrations() {
+        return new ArrayList<>(registrations.values());
+    }
+
+    public Optional<Registration> findRegistration(UUID registrationId) {
+        return Optional.ofNullable(registrations.get(registrationId));
+    }
+
+    // Writes a snapshot of the current state and discards the journal segments it makes redundant.
+    public void snapshot() throws IOException {
+        snapshotLock.lock();
+        try {
+            long sequence;
+            List<Event> events;
+            List<Registration> captured;
+            cutLock.writeLock().lock();
+            try {
+                sequence = journal.lastSequence();
+                events = catalog.events();
+                captured = new ArrayList<>(registrations.values());
+            } finally {
+                cutLock.writeLock().unlock();
+            }
+            StateSnapshot.write(snapshotFile, sequence, events, captured);
+            journal.truncateUpTo(sequence);
+        } finally {
+            snapshotLock.unlock();
+        }
+    }
+
+    public void startPeriodicSnapshots(Duration interval) {
+        if (interval == null || interval.isNegative() || interval.isZero()) {
+            throw new IllegalArgumentException("Snapshot interval must be positive");
+        }
+        snapshotLock.lock();
+        try {
+            if (snapshotter != null) throw new IllegalStateException("Periodic snapshots already started");
+            snapshotter = Executors.newSingleThreadScheduledExecutor(Thread.ofVirtual().name("state-snapshot").factory());
+            snapshotter.scheduleWithFixedDelay(() -> {
+                try {
+                    snapshot();
+                    lastSnapshotFailure = null;
+                } catch (IOException e) {
+                    lastSnapshotFailure = e;
+                }
+            }, interval.toMillis(), interval.toMillis(), TimeUnit.MILLISECONDS);
+        } finally {
+            snapshotLock.unlock();
+        }
+    }
+
+    // The failure of the most recent periodic snapshot, if it failed; the next run retries.
+    public Optional<IOException> lastSnapshotFailure() {
+        return Optional.ofNullable(lastSnapshotFailure);
+    }
+
+    @Override
+    public void close() {
+        ScheduledExecutorService executor;
+        snapshotLock.lock();
+        try {
+            executor = snapshotter;
+            snapshotter = null;
+        } finally {
+            snapshotLock.unlock();
+        }
+        if (executor != null) executor.close();
+        journal.close();
+    }
+
+    private void recover() throws IOException {
+        long sequence = StateSnapshot.read(snapshotFile, catalog::add, this::load);
+        journal.replay(sequence, id -> catalog.findById(id).orElse(null), new RegistrationJournal.Listener() {
+            @Override
+            public void onEventCreated(long sequence, Event event) {
+                catalog.add(event);
+            }
+
+            @Override
+            public void onCreated(long sequence, Registration registration) {
+                load(registration);
+            }
+
+            @Override
+            public void onStatusChanged(long sequence, UUID registrationId, RegistrationStatus status) {
+                Registration current = registrations.get(registrationId);
+                if (current == null) {
+                    throw new UncheckedIOException(new IOException("Journal entry " + sequence + " changes unknown registration " + registrationId));
+                }
+                ledger.transition(current, status);
+                if (AttendeeIndex.holdsEmail(status)) {
+                    attendees.claim(current.event(), current.attendee().email());
+                } else {
+                    attendees.release(current.event().id(), current.attendee().email());
+                }
+                registrations.put(registrationId, RegistrationOperations.updateStatus(current, status));
+            }
+        });
+    }
+
+    private void load(Registration registration) {
+        ledger.record(registration);
+        if (AttendeeIndex.holdsEmail(registration.status())) attendees.claim(registration.event(), registration.attendee().email());
+        revenue.record(registration);
+        registrations.put(registration.id(), registration);
+    }
+}
@@ -1,10 +1,13 @@
 package com.example.core.operations;
 
+import com.example.core.domain.CompactMoney;
 import com.example.core.domain.Money;
 import java.math.BigDecimal;
 import java.util.List;
 
 public final class MoneyOperations {
+    private static final BigDecimal MAX_MINOR_UNITS = BigDecimal.valueOf(Long.MAX_VALUE);
+
     private MoneyOperations() {}
 
     public static Money add(Money a, Money b) {
@@ -28,4 +31,51 @@ public final class MoneyOperations {
         BigDecimal total = amounts.stream().map(Money::amount).reduce(BigDecimal.ZERO, BigDecimal::add);
         return new Money(total, currency);
     }
+
+    public static CompactMoney toCompact(Money money) {
+        int fractionDigits = money.currency().getDefaultFractionDigits();
+        try {
+            long minorUnits = money.amount().movePointRight(fractionDigits).longValueExact();
+            return new CompactMoney(minorUnits, CompactMoney.codeOf(money.currency()));
+        } catch (ArithmeticException e) {
+            throw new IllegalArgumentException("Amount " + money.amount() + " is not representable in minor units of " + money.currency(), e);
+        }
+    }
+
+    public static boolean isCompactable(Money money) {
+        if (!CompactMoney.supports(money.currency())) return false;
+        int fractionDigits = money.currency().getDefaultFractionDigits();
+        BigDecimal minorUnits = money.amount().movePointRight(fractionDigits);
+        return minorUnits.signum() == 0
+                || (minorUnits.stripTrailingZeros().scale() <= 0 && minorUnits.compareTo(MAX_MINOR_UNITS) <= 0);
+    }
+
+    public static Money toMoney(CompactMoney money) {
+        java.util.Currency currency = money.currency();
+        return new Money(BigDecimal.valueOf(money.minorUnits(), currency.getDefaultFractionDigits()), currency);
+    }
+
+    public static CompactMoney add(CompactMoney a, CompactMoney b) {
+        if (a.currencyCode() != b.currencyCode()) throw new IllegalArgumentException("Cannot add different currencies");
+        return new CompactMoney(Math.addExact(a.minorUnits(), b.minorUnits()), a.currencyCode());
+    }
+
+    public static CompactMoney subtract(CompactMoney a, CompactMoney b) {
+        if (a.currencyCode() != b.currencyCode()) throw new IllegalArgumentException("Cannot subtract different currencies");
+        long result = a.minorUnits() - b.minorUnits();
+        if (result < 0) throw new IllegalArgumentException("Result would be negative");
+        return new CompactMoney(result, a.currencyCode());
+    }
+
+    public static CompactMoney multiply(CompactMoney money, long quantity) {
+        if (quantity < 0) throw new IllegalArgumentException("Quantity cannot be negative");
+        return new CompactMoney(Math.multiplyExact(money.minorUnits(), quantity), money.currencyCode());
+    }
+
+    // Sums raw minor units in one pass; callers guarantee a single currency.
+    public static long sumMinorUnits(long[] minorUnits, int from, int to) {
+        long total = 0;
+        for (int i = from; i < to; i++) total = Math.addExact(total, minorUnits[i]);
+        return total;
+    }
 }
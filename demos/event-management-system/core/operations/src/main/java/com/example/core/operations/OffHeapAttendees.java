@@ -0,0 +1,155 @@
+package com.example.core.operations;
+
+import com.example.core.domain.Attendee;
+import com.example.core.domain.DomainCodec;
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.nio.ByteBuffer;
+import java.util.Objects;
+
+import static java.lang.foreign.ValueLayout.JAVA_INT;
+import static java.lang.foreign.ValueLayout.JAVA_LONG;
+
+/**
+ * Attendee ordinals for {@link OffHeapRegistrationStore}, kept in native memory so distinct attendees add nothing to
+ * the heap. Each attendee is stored once in its {@link DomainCodec} encoding; an open-addressing table of ordinals,
+ * probed linearly by attendee id, finds them again. Not thread-safe; the store guards it with its own lock.
+ */
+final class OffHeapAttendees implements AutoCloseable {
+    // Per ordinal: the attendee id, then where its encoding starts in the data region and how many bytes it takes.
+    private static final long RECORD_SIZE = 32;
+    private static final long RECORD_ID_HIGH = 0;
+    private static final long RECORD_ID_LOW = 8;
+    private static final long RECORD_OFFSET = 16;
+    private static final long RECORD_LENGTH = 24;
+    // Slots hold ordinal + 1, so the zeroed memory a fresh table starts with reads as empty.
+    private static final int EMPTY = 0;
+    private static final int MAX_SLOTS = 1 << 30;
+    // Regions start no larger than this many attendees need and double from there.
+    private static final int MAX_PRESIZE = 1 << 16;
+
+    private final Region records;
+    private final Region data;
+    private Region slots;
+    private int mask;
+    private int count;
+    private long dataBytes;
+
+    OffHeapAttendees(int initialCapacity) {
+        if (initialCapacity <= 0) throw new IllegalArgumentException("Initial capacity must be positive");
+        int presize = Math.max(Math.min(initialCapacity, MAX_PRESIZE), 8);
+        int slotCount = Integer.highestOneBit(presize - 1) << 2;
+        records = new Region(presize * RECORD_SIZE);
+        data = new Region(presize * 64L);
+        slots = new Region(slotCount * JAVA_INT.byteSize());
+        mask = slotCount - 1;
+    }
+
+    int count() {
+        return count;
+    }
+
+    int ordinal(Attendee attendee) {
+        long high = attendee.id().getMostSignificantBits();
+        long low = attendee.id().getLeastSignificantBits();
+        long slot = find(high, low);
+        int existing = slots.segment.get(JAVA_INT, slot);
+        if (existing != EMPTY) return existing - 1;
+        // Keeps the table at most half full, so probes stay short.
+        if (count == MAX_SLOTS / 2) throw new IllegalStateException("Attendee dictionary is full");
+        int length = DomainCodec.encodedSize(attendee);
+        data.ensure(dataBytes + length);
+        records.ensure((count + 1) * RECORD_SIZE);
+        DomainCodec.writeAttendee(data.segment.asSlice(dataBytes, length).asByteBuffer(), attendee);
+        long record = count * RECORD_SIZE;
+        records.segment.set(JAVA_LONG, record + RECORD_ID_HIGH, high);
+        records.segment.set(JAVA_LONG, record + RECORD_ID_LOW, low);
+        records.segment.set(JAVA_LONG, record + RECORD_OFFSET, dataBytes);
+        records.segment.set(JAVA_LONG, record + RECORD_LENGTH, length);
+        slots.segment.set(JAVA_INT, slot, count + 1);
+        dataBytes += length;
+        int added = count++;
+        if (count > (mask + 1) / 2) rehash();
+        return added;
+    }
+
+    Attendee attendee(int ordinal) {
+        return DomainCodec.readAttendee(encoded(ordinal).asByteBuffer());
+    }
+
+    int encodedSize(int ordinal) {
+        return (int) encoded(ordinal).byteSize();
+    }
+
+    void copyEncoded(int ordinal, ByteBuffer buffer) {
+        buffer.put(encoded(ordinal).asByteBuffer());
+    }
+
+    @Override
+    public void close() {
+        records.arena.close();
+        data.arena.close();
+        slots.arena.close();
+    }
+
+    private MemorySegment encoded(int ordinal) {
+        long record = Objects.checkIndex(ordinal, count) * RECORD_SIZE;
+        return data.segment.asSlice(records.segment.get(JAVA_LONG, record + RECORD_OFFSET),
+                records.segment.get(JAVA_LONG, record + RECORD_LENGTH));
+    }
+
+    // Byte offset of the slot holding this id, or of the empty slot where it belongs.
+    private long find(long high, long low) {
+        int index = hash(high, low) & mask;
+        while (true) {
+            int stored = slots.segment.get(JAVA_INT, index * JAVA_INT.byteSize());
+            if (stored == EMPTY) return index * JAVA_INT.byteSize();
+            long record = (stored - 1) * RECORD_SIZE;
+            if (records.segment.get(JAVA_LONG, record + RECORD_ID_HIGH) == high
+                    && records.segment.get(JAVA_LONG, record + RECORD_ID_LOW) == low) {
+                return index * JAVA_INT.byteSize();
+            }
+            index = (index + 1) & mask;
+        }
+    }
+
+    private void rehash() {
+        int slotCount = (mask + 1) * 2;
+        Region grown = new Region(slotCount * JAVA_INT.byteSize());
+        Region old = slots;
+        slots = grown;
+        mask = slotCount - 1;
+        for (int ordinal = 0; ordinal < count; ordinal++) {
+            long record = ordinal * RECORD_SIZE;
+            long slot = find(records.segment.get(JAVA_LONG, record + RECORD_ID_HIGH),
+                    records.segment.get(JAVA_LONG, record + RECORD_ID_LOW));
+            slots.segment.set(JAVA_INT, slot, ordinal + 1);
+        }
+        old.arena.close();
+    }
+
+    private static int hash(long high, long low) {
+        return (int) ((high ^ low) * 0x9E3779B97F4A7C15L >>> 32);
+    }
+
+    // A native segment that doubles, copying its contents, when asked for more room than it has.
+    private static final class Region {
+        private Arena arena;
+        private MemorySegment segment;
+
+        Region(long bytes) {
+            arena = Arena.ofShared();
+            segment = arena.allocate(bytes, JAVA_LONG.byteAlignment());
+        }
+
+        void ensure(long bytes) {
+            if (bytes <= segment.byteSize()) return;
+            Arena grownArena = Arena.ofShared();
+            MemorySegment grown = grownArena.allocate(Math.max(bytes, segment.byteSize() * 2), JAVA_LONG.byteAlignment());
+            MemorySegment.copy(segment, 0, grown, 0, segment.byteSize());
+            arena.close();
+            arena = grownArena;
+            segment = grown;
+        }
+    }
+}
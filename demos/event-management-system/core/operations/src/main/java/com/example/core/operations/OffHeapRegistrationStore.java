@@ -0,0 +1,552 @@
+package com.example.core.operations;
+
+import com.example.core.domain.DomainCodec;
+import com.example.core.domain.Event;
+import com.example.core.domain.EventId;
+import com.example.core.domain.Registration;
+import com.example.core.domain.RegistrationStatus;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemoryLayout;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.StructLayout;
+import java.math.BigDecimal;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.Currency;
+import java.util.UUID;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import static java.lang.foreign.MemoryLayout.PathElement.groupElement;
+import static java.lang.foreign.ValueLayout.JAVA_BYTE;
+import static java.lang.foreign.ValueLayout.JAVA_INT;
+import static java.lang.foreign.ValueLayout.JAVA_LONG;
+
+/**
+ * {@link RegistrationTable} whose rows live outside the Java heap in fixed {@link #ROW} records, so a large table
+ * adds nothing for the garbage collector to trace or copy. {@link #allocate} keeps the rows in native memory;
+ * {@link #open} maps them from a file so they survive restarts. Attendees are kept in native memory as well, in
+ * {@link OffHeapAttendees}, so the heap does not grow with them; only the event dictionary, which is small, stays on
+ * the heap. A file-backed table rebuilds both dictionaries from {@value #DICTIONARY_FILE} on open.
+ * <p>
+ * A file-backed table is durable up to the last {@link #force()}: that appends new dictionary entries to
+ * {@value #DICTIONARY_FILE}, then records the row count in the header of {@value #ROWS_FILE}. Rows appended after
+ * it are dropped on reopen. {@link #close()} forces.
+ */
+public final class OffHeapRegistrationStore implements RegistrationTable, AutoCloseable {
+    public static final StructLayout ROW = MemoryLayout.structLayout(
+            JAVA_LONG.withName("idHigh"),
+            JAVA_LONG.withName("idLow"),
+            JAVA_LONG.withName("registeredAt"),
+            JAVA_LONG.withName("fee"),
+            JAVA_INT.withName("eventOrdinal"),
+            JAVA_INT.withName("attendeeOrdinal"),
+            JAVA_BYTE.withName("status"),
+            MemoryLayout.paddingLayout(7));
+    static final String ROWS_FILE = "rows.bin";
+    static final String DICTIONARY_FILE = "dictionary.bin";
+
+    private static final long ROW_SIZE = ROW.byteSize();
+    private static final long ID_HIGH = ROW.byteOffset(groupElement("idHigh"));
+    private static final long ID_LOW = ROW.byteOffset(groupElement("idLow"));
+    private static final long REGISTERED_AT = ROW.byteOffset(groupElement("registeredAt"));
+    private static final long FEE = ROW.byteOffset(groupElement("fee"));
+    private static final long EVENT_ORDINAL = ROW.byteOffset(groupElement("eventOrdinal"));
+    private static final long ATTENDEE_ORDINAL = ROW.byteOffset(groupElement("attendeeOrdinal"));
+    private static final long STATUS = ROW.byteOffset(groupElement("status"));
+
+    // File header: magic, version, committed rows, events, attendees, dictionary bytes and currency code.
+    private static final int MAGIC = 0x454D5254;
+    private static final int VERSION = 1;
+    private static final long HEADER_SIZE = 64;
+    private static final long HEADER_ROWS = 8;
+    private static final long HEADER_EVENTS = 16;
+    private static final long HEADER_ATTENDEES = 20;
+    private static final long HEADER_DICTIONARY_BYTES = 24;
+    private static final long HEADER_CURRENCY = 32;
+
+    private static final byte EVENT_ENTRY = 1;
+    private static final byte ATTENDEE_ENTRY = 2;
+    private static final int BUFFER_SIZE = 1 << 20;
+    private static final RegistrationStatus[] STATUSES = RegistrationStatus.values();
+    private static final int SECONDS_PER_HOUR = 3600;
+    private static final int MAX_HOURS = Integer.MAX_VALUE / SECONDS_PER_HOUR;
+
+    private final RegistrationDictionary dictionary;
+    private final OffHeapAttendees attendees;
+    private final FileChannel rowsChannel;
+    private final FileChannel dictionaryChannel;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private Arena arena;
+    // Header followed by the rows; the header is unused for native tables.
+    private MemorySegment segment;
+    private long capacity;
+    private int size;
+    private int savedEvents;
+    private int savedAttendees;
+    private long dictionaryBytes;
+
+    private OffHeapRegistrationStore(RegistrationDictionary dictionary, OffHeapAttendees attendees, FileChannel rowsChannel,
+                                     FileChannel dictionaryChannel) {
+        this.dictionary = dictionary;
+        this.attendees = attendees;
+        this.rowsChannel = rowsChannel;
+        this.dictionaryChannel = dictionaryChannel;
+    }
+
+    public static OffHeapRegistrationStore allocate(Currency currency, int initialCapacity) {
+        if (initialCapacity <= 0) throw new IllegalArgumentException("Initial capacity must be positive");
+        OffHeapRegistrationStore store = new OffHeapRegistrationStore(new RegistrationDictionary(currency),
+                new OffHeapAttendees(initialCapacity), null, null);
+        store.arena = Arena.ofShared();
+        store.segment = store.arena.allocate(HEADER_SIZE + initialCapacity * ROW_SIZE, JAVA_LONG.byteAlignment());
+        store.capacity = initialCapacity;
+        return store;
+    }
+
+    public static OffHeapRegistrationStore open(Path directory, Currency currency) throws IOException {
+        return open(directory, currency, 1024);
+    }
+
+    public static OffHeapRegistrationStore open(Path directory, Currency currency, int initialCapacity) throws IOException {
+        if (initialCapacity <= 0) throw new IllegalArgumentException("Initial capacity must be positive");
+        Files.createDirectories(directory);
+        FileChannel rowsChannel = FileChannel.open(directory.resolve(ROWS_FILE),
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        FileChannel dictionaryChannel = null;
+        OffHeapRegistrationStore store = null;
+        try {
+            dictionaryChannel = FileChannel.open(directory.resolve(DICTIONARY_FILE),
+                    StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+            store = new OffHeapRegistrationStore(new RegistrationDictionary(currency), new OffHeapAttendees(initialCapacity),
+                    rowsChannel, dictionaryChannel);
+            store.recover(Math.max(initialCapacity, (rowsChannel.size() - HEADER_SIZE) / ROW_SIZE));
+            return store;
+        } catch (IOException | RuntimeException e) {
+            if (store != null) {
+                store.attendees.close();
+                if (store.arena != null) store.arena.close();
+            }
+            if (dictionaryChannel != null) dictionaryChannel.close();
+            rowsChannel.close();
+            throw e;
+        }
+    }
+
+    @Override
+    public Currency currency() {
+        return dictionary.currency();
+    }
+
+    @Override
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return size;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public int append(Registration registration) {
+        lock.writeLock().lock();
+        try {
+            if (size == Integer.MAX_VALUE) throw new IllegalStateException("Registration table is full");
+            int eventOrdinal = dictionary.eventOrdinal(registration.event());
+            int attendeeOrdinal = attendees.ordinal(registration.attendee());
+            if (size == capacity) grow();
+            long base = offset(size);
+            segment.set(JAVA_LONG, base + ID_HIGH, registration.id().getMostSignificantBits());
+            segment.set(JAVA_LONG, base + ID_LOW, registration.id().getLeastSignificantBits());
+            segment.set(JAVA_LONG, base + REGISTERED_AT, registration.registrationTime().toEpochSecond(ZoneOffset.UTC));
+            segment.set(JAVA_LONG, base + FEE, dictionary.eventFee(eventOrdinal));
+            segment.set(JAVA_INT, base + EVENT_ORDINAL, eventOrdinal);
+            segment.set(JAVA_INT, base + ATTENDEE_ORDINAL, attendeeOrdinal);
+            segment.set(JAVA_BYTE, base + STATUS, (byte) registration.status().ordinal());
+            return size++;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void updateStatus(int row, RegistrationStatus status) {
+        lock.writeLock().lock();
+        try {
+            checkRow(row);
+            segment.set(JAVA_BYTE, offset(row) + STATUS, (byte) status.ordinal());
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public Registration registration(int row) {
+        lock.readLock().lock();
+        try {
+            checkRow(row);
+            long base = offset(row);
+            return new Registration(new UUID(segment.get(JAVA_LONG, base + ID_HIGH), segment.get(JAVA_LONG, base + ID_LOW)),
+                    dictionary.event(segment.get(JAVA_INT, base + EVENT_ORDINAL)),
+                    attendees.attendee(segment.get(JAVA_INT, base + ATTENDEE_ORDINAL)),
+                    LocalDateTime.ofEpochSecond(segment.get(JAVA_LONG, base + REGISTERED_AT), 0, ZoneOffset.UTC),
+                    STATUSES[segment.get(JAVA_BYTE, base + STATUS)]);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public int eventCount() {
+        lock.readLock().lock();
+        try {
+            return dictionary.eventCount();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public Event event(int eventOrdinal) {
+        lock.readLock().lock();
+        try {
+            return dictionary.event(eventOrdinal);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public int eventOrdinal(EventId id) {
+        lock.readLock().lock();
+        try {
+            return dictionary.existingEventOrdinal(id);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public long count(RowFilter filter) {
+        lock.readLock().lock();
+        try {
+            long count = 0;
+            MemorySegment rows = segment;
+            for (long base = HEADER_SIZE, end = offset(size); base < end; base += ROW_SIZE) {
+                if (test(rows, filter, base)) count++;
+            }
+            return count;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public long sumFees(RowFilter filter) {
+        lock.readLock().lock();
+        try {
+            long sum = 0;
+            MemorySegment rows = segment;
+            for (long base = HEADER_SIZE, end = offset(size); base < end; base += ROW_SIZE) {
+                if (test(rows, filter, base)) sum = Math.addExact(sum, rows.get(JAVA_LONG, base + FEE));
+            }
+            return sum;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public long[] revenueByStatus() {
+        lock.readLock().lock();
+        try {
+            long[] totals = new long[STATUSES.length];
+            MemorySegment rows = segment;
+            for (long base = HEADER_SIZE, end = offset(size); base < end; base += ROW_SIZE) {
+                byte status = rows.get(JAVA_BYTE, base + STATUS);
+                totals[status] = Math.addExact(totals[status], rows.get(JAVA_LONG, base + FEE));
+            }
+            return totals;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public BigDecimal exactFee(int eventOrdinal) {
+        lock.readLock().lock();
+        try {
+            return dictionary.exactFee(eventOrdinal);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public BigDecimal sumFeeAmounts(RowFilter filter) {
+        lock.readLock().lock();
+        try {
+            long sum = 0;
+            BigDecimal exact = BigDecimal.ZERO;
+            MemorySegment rows = segment;
+            for (long base = HEADER_SIZE, end = offset(size); base < end; base += ROW_SIZE) {
+                if (test(rows, filter, base)) {
+                    sum = Math.addExact(sum, rows.get(JAVA_LONG, base + FEE));
+                    exact = dictionary.addExactFee(exact, rows.get(JAVA_INT, base + EVENT_ORDINAL));
+                }
+            }
+            return dictionary.amount(sum, exact);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public BigDecimal[] revenueAmountsByStatus() {
+        lock.readLock().lock();
+        try {
+            long[] minorUnits = new long[STATUSES.length];
+            BigDecimal[] exact = new BigDecimal[STATUSES.length];
+            Arrays.fill(exact, BigDecimal.ZERO);
+            MemorySegment rows = segment;
+            for (long base = HEADER_SIZE, end = offset(size); base < end; base += ROW_SIZE) {
+                byte status = rows.get(JAVA_BYTE, base + STATUS);
+                minorUnits[status] = Math.addExact(minorUnits[status], rows.get(JAVA_LONG, base + FEE));
+                exact[status] = dictionary.addExactFee(exact[status], rows.get(JAVA_INT, base + EVENT_ORDINAL));
+            }
+            BigDecimal[] totals = new BigDecimal[STATUSES.length];
+            for (int s = 0; s < totals.length; s++) totals[s] = dictionary.amount(minorUnits[s], exact[s]);
+            return totals;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public int[] countByEvent() {
+        lock.readLock().lock();
+        try {
+            int[] counts = new int[dictionary.eventCount()];
+            MemorySegment rows = segment;
+            for (long base = HEADER_SIZE, end = offset(size); base < end; base += ROW_SIZE) {
+                counts[rows.get(JAVA_INT, base + EVENT_ORDINAL)]++;
+            }
+            return counts;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public int[] registrationsPerHour(LocalDateTime from, int hours) {
+        if (hours <= 0 || hours > MAX_HOURS) throw new IllegalArgumentException("Hours must be between 1 and " + MAX_HOURS);
+        long start = from.toEpochSecond(ZoneOffset.UTC);
+        long span = (long) hours * SECONDS_PER_HOUR;
+        lock.readLock().lock();
+        try {
+            int[] counts = new int[hours];
+            MemorySegment rows = segment;
+            for (long base = HEADER_SIZE, end = offset(size); base < end; base += ROW_SIZE) {
+                long offset = rows.get(JAVA_LONG, base + REGISTERED_AT) - start;
+                if (Long.compareUnsigned(offset, span) < 0) counts[(int) offset / SECONDS_PER_HOUR]++;
+            }
+            return counts;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // Makes everything appended so far survive a restart. Does nothing for native tables.
+    public void force() throws IOException {
+        if (rowsChannel == null) return;
+        lock.writeLock().lock();
+        try {
+            saveDictionary();
+            segment.force();
+            segment.set(JAVA_LONG, HEADER_ROWS, size);
+            segment.set(JAVA_INT, HEADER_EVENTS, savedEvents);
+            segment.set(JAVA_INT, HEADER_ATTENDEES, savedAttendees);
+            segment.set(JAVA_LONG, HEADER_DICTIONARY_BYTES, dictionaryBytes);
+            segment.asSlice(0, HEADER_SIZE).force();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void close() {
+        lock.writeLock().lock();
+        try {
+            if (!arena.scope().isAlive()) return;
+            try {
+                force();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            } finally {
+                arena.close();
+                attendees.close();
+                closeChannels();
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private static boolean test(MemorySegment rows, RowFilter filter, long base) {
+        return filter.test(rows.get(JAVA_INT, base + EVENT_ORDINAL), rows.get(JAVA_INT, base + ATTENDEE_ORDINAL),
+                rows.get(JAVA_LONG, base + REGISTERED_AT), STATUSES[rows.get(JAVA_BYTE, base + STATUS)],
+                rows.get(JAVA_LONG, base + FEE));
+    }
+
+    private static long offset(int row) {
+        return HEADER_SIZE + row * ROW_SIZE;
+    }
+
+    private void checkRow(int row) {
+        if (row < 0 || row >= size) throw new IndexOutOfBoundsException("Row " + row + " out of range for size " + size);
+    }
+
+    private void grow() {
+        long grown = capacity + (capacity >> 1) + 1;
+        Arena grownArena = Arena.ofShared();
+        try {
+            MemorySegment grownSegment;
+            if (rowsChannel == null) {
+                grownSegment = grownArena.allocate(HEADER_SIZE + grown * ROW_SIZE, JAVA_LONG.byteAlignment());
+                MemorySegment.copy(segment, 0, grownSegment, 0, offset(size));
+            } else {
+                // Mapping past the end extends the file; the rows already in it stay where they are.
+                grownSegment = rowsChannel.map(FileChannel.MapMode.READ_WRITE, 0, HEADER_SIZE + grown * ROW_SIZE, grownArena);
+            }
+            arena.close();
+            arena = grownArena;
+            segment = grownSegment;
+            capacity = grown;
+        } catch (IOException e) {
+            grownArena.close();
+            throw new UncheckedIOException(e);
+        } catch (RuntimeException e) {
+            grownArena.close();
+            throw e;
+        }
+    }
+
+    private void recover(long initialCapacity) throws IOException {
+        boolean created = rowsChannel.size() == 0;
+        arena = Arena.ofShared();
+        segment = rowsChannel.map(FileChannel.MapMode.READ_WRITE, 0, HEADER_SIZE + initialCapacity * ROW_SIZE, arena);
+        capacity = initialCapacity;
+        byte[] currencyCode = dictionary.currency().getCurrencyCode().getBytes(StandardCharsets.US_ASCII);
+        if (created) {
+            segment.set(JAVA_INT, 0, MAGIC);
+            segment.set(JAVA_INT, 4, VERSION);
+            MemorySegment.copy(currencyCode, 0, segment, JAVA_BYTE, HEADER_CURRENCY, currencyCode.length);
+            segment.asSlice(0, HEADER_SIZE).force();
+            return;
+        }
+        if (segment.get(JAVA_INT, 0) != MAGIC) throw new IOException("Not a registration table: " + ROWS_FILE);
+        int version = segment.get(JAVA_INT, 4);
+        if (version != VERSION) throw new IOException("Unsupported registration table version " + version);
+        byte[] storedCode = segment.asSlice(HEADER_CURRENCY, currencyCode.length).toArray(JAVA_BYTE);
+        if (!dictionary.currency().getCurrencyCode().equals(new String(storedCode, StandardCharsets.US_ASCII))) {
+            throw new IllegalArgumentException("Registration table is in " + new String(storedCode, StandardCharsets.US_ASCII)
+                    + ", not " + dictionary.currency());
+        }
+        long rows = segment.get(JAVA_LONG, HEADER_ROWS);
+        if (rows > capacity) throw new IOException("Registration table header claims " + rows + " rows beyond the file");
+        loadDictionary(segment.get(JAVA_INT, HEADER_EVENTS), segment.get(JAVA_INT, HEADER_ATTENDEES),
+                segment.get(JAVA_LONG, HEADER_DICTIONARY_BYTES));
+        size = (int) rows;
+    }
+
+    private void loadDictionary(int events, int attendeeEntries, long bytes) throws IOException {
+        if (dictionaryChannel.size() < bytes) throw new IOException("Dictionary is shorter than the table header records");
+        // Drop entries written by a force that never reached the header.
+        dictionaryChannel.truncate(bytes);
+        ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE).limit(0);
+        long position = 0;
+        while (savedEvents + savedAttendees < events + attendeeEntries) {
+            int start = buffer.position();
+            try {
+                byte tag = buffer.get();
+                switch (tag) {
+                    case EVENT_ENTRY -> {
+                        dictionary.eventOrdinal(DomainCodec.readEvent(buffer));
+                        savedEvents++;
+                    }
+                    case ATTENDEE_ENTRY -> {
+                        attendees.ordinal(DomainCodec.readAttendee(buffer));
+                        savedAttendees++;
+                    }
+                    default -> throw new IOException("Unknown dictionary entry " + tag);
+                }
+            } catch (BufferUnderflowException e) {
+                buffer.position(start);
+                if (position == bytes) throw new IOException("Dictionary ends before the entries the table header records");
+                if (start == 0 && buffer.limit() == buffer.capacity()) {
+                    buffer = ByteBuffer.allocate(buffer.capacity() * 2).put(buffer).flip();
+                }
+                buffer.compact();
+                buffer.limit((int) Math.min(buffer.capacity(), buffer.position() + bytes - position));
+                int read = dictionaryChannel.read(buffer, position);
+                if (read <= 0) throw new IOException("Dictionary ends before the entries the table header records");
+                position += read;
+                buffer.flip();
+            }
+        }
+        if (savedEvents != events || savedAttendees != attendeeEntries) throw new IOException("Dictionary does not match the table header");
+        dictionaryBytes = bytes;
+    }
+
+    private void saveDictionary() throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+        long position = dictionaryBytes;
+        for (int i = savedEvents; i < dictionary.eventCount(); i++) {
+            Event event = dictionary.event(i);
+            position = ensureRoom(buffer, 1 + DomainCodec.encodedSize(event), position);
+            DomainCodec.writeEvent(buffer.put(EVENT_ENTRY), event);
+        }
+        for (int i = savedAttendees; i < attendees.count(); i++) {
+            // Copied as stored: the native dictionary already holds each attendee in its DomainCodec encoding.
+            position = ensureRoom(buffer, 1 + attendees.encodedSize(i), position);
+            attendees.copyEncoded(i, buffer.put(ATTENDEE_ENTRY));
+        }
+        position = flush(buffer, position);
+        dictionaryChannel.force(false);
+        savedEvents = dictionary.eventCount();
+        savedAttendees = attendees.count();
+        dictionaryBytes = position;
+    }
+
+    private long ensureRoom(ByteBuffer buffer, int size, long position) throws IOException {
+        if (size > buffer.capacity()) throw new IOException("Dictionary entry of " + size + " bytes exceeds the write buffer");
+        return buffer.remaining() < size ? flush(buffer, position) : position;
+    }
+
+    private long flush(ByteBuffer buffer, long position) throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) position += dictionaryChannel.write(buffer, position);
+        buffer.clear();
+        return position;
+    }
+
+    private void closeChannels() {
+        if (rowsChannel == null) return;
+        try {
+            dictionaryChannel.close();
+            rowsChannel.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
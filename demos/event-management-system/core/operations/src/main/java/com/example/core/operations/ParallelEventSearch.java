@@ -0,0 +1,93 @@
+package com.example.core.operations;
+
+import com.example.core.domain.Event;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Predicate;
+
+/**
+ * Fork/join predicate scan over an event list. Leaves scan contiguous index ranges, so ordered
+ * results are a plain concatenation. With a limit, ordered leaves stop after {@code limit} local
+ * matches and unordered leaves stop as soon as the shared match count reaches the limit.
+ */
+final class ParallelEventSearch {
+    private static final int MIN_LEAF_SIZE = 1_024;
+
+    private ParallelEventSearch() {}
+
+    static List<Event> search(List<Event> events, Predicate<Event> criteria, SearchOptions options) {
+        if (options.limit() == 0) return List.of();
+        if (events.size() < options.parallelThreshold()) return sequential(events, criteria, options.limit());
+        List<Event> source = events instanceof RandomAccess ? events : Arrays.asList(events.toArray(Event[]::new));
+        int leafSize = Math.max(MIN_LEAF_SIZE, source.size() / (options.pool().getParallelism() * 4));
+        AtomicInteger matches = options.ordered() ? null : new AtomicInteger();
+        List<Event> result = options.pool().invoke(
+                new SearchTask(source, criteria, 0, source.size(), leafSize, options.limit(), matches));
+        return result.size() > options.limit() ? List.copyOf(result.subList(0, options.limit())) : List.copyOf(result);
+    }
+
+    private static List<Event> sequential(List<Event> events, Predicate<Event> criteria, int limit) {
+        return events.stream().filter(criteria).limit(limit).toList();
+    }
+
+    private static final class SearchTask extends RecursiveTask<List<Event>> {
+        private final List<Event> events;
+        private final Predicate<Event> criteria;
+        private final int from;
+        private final int to;
+        private final int leafSize;
+        private final int limit;
+        private final AtomicInteger sharedMatches;
+
+        SearchTask(List<Event> events, Predicate<Event> criteria, int from, int to, int leafSize, int limit,
+                   AtomicInteger sharedMatches) {
+            this.events = events;
+            this.criteria = criteria;
+            this.from = from;
+            this.to = to;
+            this.leafSize = leafSize;
+            this.limit = limit;
+            this.sharedMatches = sharedMatches;
+        }
+
+        @Override
+        protected List<Event> compute() {
+            if (to - from <= leafSize) return scan();
+            int mid = (from + to) >>> 1;
+            SearchTask right = new SearchTask(events, criteria, mid, to, leafSize, limit, sharedMatches);
+            right.fork();
+            List<Event> left = new SearchTask(events, criteria, from, mid, leafSize, limit, sharedMatches).compute();
+            // An ordered left half that already holds the limit makes the right half irrelevant.
+            if (sharedMatches == null && left.size() >= limit && right.tryUnfork()) return left;
+            List<Event> rightResult = right.join();
+            if (left.isEmpty()) return rightResult;
+            if (rightResult.isEmpty()) return left;
+            List<Event> merged = new ArrayList<>(left.size() + rightResult.size());
+            merged.addAll(left);
+            merged.addAll(rightResult);
+            return merged;
+        }
+
+        private List<Event> scan() {
+            List<Event> found = new ArrayList<>();
+            for (int i = from; i < to; i++) {
+                if (sharedMatches != null && sharedMatches.get() >= limit) break;
+                Event event = events.get(i);
+                if (!criteria.test(event)) continue;
+                if (sharedMatches == null) {
+                    found.add(event);
+                    if (found.size() >= limit) break;
+                } else if (sharedMatches.incrementAndGet() <= limit) {
+                    found.add(event);
+                } else {
+                    break;
+                }
+            }
+            return found;
+        }
+    }
+}
@@ -0,0 +1,111 @@
+package com.example.core.operations;
+
+import com.example.core.domain.Attendee;
+import com.example.core.domain.Event;
+import com.example.core.domain.EventId;
+import com.example.core.domain.Money;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Currency;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Ordinal assignment for the events and attendees referenced by a {@link RegistrationTable}, along with each
+ * event's fee in minor units. A fee finer than a minor unit is kept exactly in a side column instead, with zero
+ * minor units, as {@link RevenueView} does. Not thread-safe; tables guard it with their own lock.
+ */
+final class RegistrationDictionary {
+    private final Currency currency;
+    private final List<Event> events = new ArrayList<>();
+    private final Map<EventId, Integer> eventOrdinals = new HashMap<>();
+    private long[] eventFees = new long[16];
+    // Null until some event's fee does not fit in minor units.
+    private BigDecimal[] exactFees;
+    private final List<Attendee> attendees = new ArrayList<>();
+    private final Map<UUID, Integer> attendeeOrdinals = new HashMap<>();
+
+    RegistrationDictionary(Currency currency) {
+        if (currency == null) throw new IllegalArgumentException("Currency cannot be null");
+        this.currency = currency;
+    }
+
+    Currency currency() {
+        return currency;
+    }
+
+    int eventOrdinal(Event event) {
+        Integer ordinal = eventOrdinals.get(event.id());
+        if (ordinal != null) return ordinal;
+        Money fee = EventOperations.getEventFee(event);
+        if (!fee.currency().equals(currency)) {
+            throw new IllegalArgumentException("Event fee in " + fee.currency() + " does not match table currency " + currency);
+        }
+        boolean compact = MoneyOperations.isCompactable(fee);
+        long minorUnits = compact ? MoneyOperations.toCompact(fee).minorUnits() : 0;
+        int added = events.size();
+        events.add(event);
+        eventOrdinals.put(event.id(), added);
+        if (added == eventFees.length) {
+            eventFees = Arrays.copyOf(eventFees, added * 2);
+            if (exactFees != null) exactFees = Arrays.copyOf(exactFees, added * 2);
+        }
+        eventFees[added] = minorUnits;
+        if (!compact) {
+            if (exactFees == null) exactFees = new BigDecimal[eventFees.length];
+            exactFees[added] = fee.amount();
+        }
+        return added;
+    }
+
+    int existingEventOrdinal(EventId id) {
+        Integer ordinal = eventOrdinals.get(id);
+        return ordinal == null ? -1 : ordinal;
+    }
+
+    int attendeeOrdinal(Attendee attendee) {
+        Integer ordinal = attendeeOrdinals.get(attendee.id());
+        if (ordinal != null) return ordinal;
+        int added = attendees.size();
+        attendees.add(attendee);
+        attendeeOrdinals.put(attendee.id(), added);
+        return added;
+    }
+
+    Event event(int ordinal) {
+        return events.get(ordinal);
+    }
+
+    long eventFee(int ordinal) {
+        return eventFees[ordinal];
+    }
+
+    // Null unless the event's fee is finer than a minor unit.
+    BigDecimal exactFee(int ordinal) {
+        return exactFees == null ? null : exactFees[ordinal];
+    }
+
+    BigDecimal addExactFee(BigDecimal total, int ordinal) {
+        BigDecimal exact = exactFee(ordinal);
+        return exact == null ? total : total.add(exact);
+    }
+
+    BigDecimal amount(long minorUnits, BigDecimal exact) {
+        return BigDecimal.valueOf(minorUnits, Math.max(0, currency.getDefaultFractionDigits())).add(exact);
+    }
+
+    Attendee attendee(int ordinal) {
+        return attendees.get(ordinal);
+    }
+
+    int eventCount() {
+        return events.size();
+    }
+
+    int attendeeCount() {
+        return attendees.size();
+    }
+}
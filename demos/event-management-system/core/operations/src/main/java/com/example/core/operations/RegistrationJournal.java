@@ -0,0 +1,103 @@
+package com.example.core.operations;
+
+import com.example.core.common.utilities.journal.Journal;
+import com.example.core.domain.Attendee;
+import com.example.core.domain.DomainCodec;
+import com.example.core.domain.Event;
+import com.example.core.domain.EventId;
+import com.example.core.domain.Registration;
+import com.example.core.domain.RegistrationStatus;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * Durable log of event creations, registration creations and status transitions on top of a {@link Journal}.
+ * Replaying the journal in order rebuilds every registration in its latest status.
+ */
+public final class RegistrationJournal implements AutoCloseable {
+    public interface Listener {
+        void onCreated(long sequence, Registration registration);
+        void onStatusChanged(long sequence, UUID registrationId, RegistrationStatus status);
+
+        default void onEventCreated(long sequence, Event event) {}
+    }
+
+    private static final byte CREATED = 1;
+    private static final byte STATUS_CHANGED = 2;
+    private static final byte EVENT_CREATED = 3;
+
+    private final Journal journal;
+
+    public RegistrationJournal(Journal journal) {
+        if (journal == null) throw new IllegalArgumentException("Journal cannot be null");
+        this.journal = journal;
+    }
+
+    public long recordCreated(Registration registration) throws IOException {
+        Attendee attendee = registration.attendee();
+        byte[] payload = new byte[1 + 16 * 2 + DomainCodec.encodedSize(attendee)
+                + DomainCodec.sizeOf(registration.registrationTime()) + 1];
+        ByteBuffer buffer = ByteBuffer.wrap(payload);
+        buffer.put(CREATED);
+        DomainCodec.writeUuid(buffer, registration.id());
+        DomainCodec.writeUuid(buffer, registration.event().id().value());
+        DomainCodec.writeAttendee(buffer, attendee);
+        DomainCodec.writeDateTime(buffer, registration.registrationTime());
+        DomainCodec.writeStatus(buffer, registration.status());
+        return journal.append(payload);
+    }
+
+    public long recordStatusChange(Registration updated) throws IOException {
+        byte[] payload = new byte[1 + 16 + 1];
+        ByteBuffer buffer = ByteBuffer.wrap(payload);
+        buffer.put(STATUS_CHANGED);
+        DomainCodec.writeUuid(buffer, updated.id());
+        DomainCodec.writeStatus(buffer, updated.status());
+        return journal.append(payload);
+    }
+
+    public long recordEventCreated(Event event) throws IOException {
+        byte[] payload = new byte[1 + DomainCodec.encodedSize(event)];
+        ByteBuffer buffer = ByteBuffer.wrap(payload);
+        buffer.put(EVENT_CREATED);
+        DomainCodec.writeEvent(buffer, event);
+        return journal.append(payload);
+    }
+
+    public void replay(long afterSequence, Function<EventId, Event> events, Listener listener) throws IOException {
+        journal.replay(afterSequence, (sequence, payload) -> {
+            switch (payload.get()) {
+                case CREATED -> {
+                    UUID id = DomainCodec.readUuid(payload);
+                    EventId eventId = new EventId(DomainCodec.readUuid(payload));
+                    Attendee attendee = DomainCodec.readAttendee(payload);
+                    LocalDateTime registeredAt = DomainCodec.readDateTime(payload);
+                    RegistrationStatus status = DomainCodec.readStatus(payload);
+                    Event event = events.apply(eventId);
+                    if (event == null) throw new IOException("Journal entry " + sequence + " references unknown event " + eventId.value());
+                    listener.onCreated(sequence, new Registration(id, event, attendee, registeredAt, status));
+                }
+                case STATUS_CHANGED -> listener.onStatusChanged(sequence, DomainCodec.readUuid(payload), DomainCodec.readStatus(payload));
+                case EVENT_CREATED -> listener.onEventCreated(sequence, DomainCodec.readEvent(payload));
+                default -> throw new IOException("Unknown journal entry type at sequence " + sequence);
+            }
+        });
+    }
+
+    public long lastSequence() {
+        return journal.lastSequence();
+    }
+
+    // Drops journal segments made redundant by a snapshot covering entries up to the given sequence.
+    public void truncateUpTo(long sequence) throws IOException {
+        journal.truncateUpTo(sequence);
+    }
+
+    @Override
+    public void close() {
+        journal.close();
+    }
+}
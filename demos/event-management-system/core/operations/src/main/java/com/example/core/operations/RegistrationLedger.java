@@ -0,0 +1,119 @@
+package com.example.core.operations;
+
+import com.example.core.domain.Event;
+import com.example.core.domain.EventId;
+import com.example.core.domain.Registration;
+import com.example.core.domain.RegistrationStatus;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+/**
+ * Per-event registration counters, one slot per {@link RegistrationStatus}.
+ * Counts are adjusted incrementally on creation and status transitions, so reads never rescan registrations.
+ * Seats are held through {@link CapacityReservations}, which keeps admission atomic under concurrency.
+ * Every transition it applies, including a {@link Waitlist} handing a seat over, is passed to its {@link Listener}s,
+ * so views such as {@link RevenueView} stay in step without each caller updating them.
+ */
+public final class RegistrationLedger {
+    // Called after the counts change, with the registration still in its old status; may run on any thread.
+    @FunctionalInterface
+    public interface Listener {
+        void onTransition(Registration registration, RegistrationStatus newStatus);
+    }
+
+    private static final int STATUS_COUNT = RegistrationStatus.values().length;
+
+    private final Map<EventId, AtomicIntegerArray> counts = new ConcurrentHashMap<>();
+    private final CapacityReservations seats = new CapacityReservations();
+    private final List<Listener> listeners = new CopyOnWriteArrayList<>();
+
+    public void addListener(Listener listener) {
+        if (listener == null) throw new IllegalArgumentException("Listener cannot be null");
+        listeners.add(listener);
+    }
+
+    public boolean tryRecord(Registration registration) {
+        if (holdsSeat(registration.status()) && !seats.tryReserve(registration.event())) return false;
+        countsFor(registration.event().id()).incrementAndGet(registration.status().ordinal());
+        return true;
+    }
+
+    // Reserves up to the requested seats as CONFIRMED registrations and returns how many were granted.
+    public int tryRecordConfirmed(Event event, int requested) {
+        int granted = seats.tryReserve(event.id(), event.maxAttendees(), requested);
+        if (granted > 0) countsFor(event.id()).addAndGet(RegistrationStatus.CONFIRMED.ordinal(), granted);
+        return granted;
+    }
+
+    public void record(Registration registration) {
+        if (holdsSeat(registration.status())) seats.claim(registration.event().id());
+        countsFor(registration.event().id()).incrementAndGet(registration.status().ordinal());
+    }
+
+    // Undoes a tryRecord or record whose registration was never persisted.
+    void forget(Registration registration) {
+        if (holdsSeat(registration.status())) seats.release(registration.event().id());
+        countsFor(registration.event().id()).decrementAndGet(registration.status().ordinal());
+    }
+
+    public boolean transition(Registration registration, RegistrationStatus newStatus) {
+        RegistrationStatus oldStatus = registration.status();
+        if (oldStatus == newStatus) return true;
+        Event event = registration.event();
+        if (!holdsSeat(oldStatus) && holdsSeat(newStatus) && !seats.tryReserve(event)) return false;
+        if (holdsSeat(oldStatus) && !holdsSeat(newStatus)) seats.release(event.id());
+        AtomicIntegerArray eventCounts = countsFor(event.id());
+        eventCounts.decrementAndGet(oldStatus.ordinal());
+        eventCounts.incrementAndGet(newStatus.ordinal());
+        publish(registration, newStatus);
+        return true;
+    }
+
+    // Moves a held seat from a registration that gives it up to a waiting one, without ever releasing it.
+    void handOver(Registration from, RegistrationStatus newStatus, Registration to) {
+        AtomicIntegerArray eventCounts = countsFor(from.event().id());
+        eventCounts.decrementAndGet(from.status().ordinal());
+        eventCounts.incrementAndGet(newStatus.ordinal());
+        eventCounts.decrementAndGet(to.status().ordinal());
+        eventCounts.incrementAndGet(RegistrationStatus.CONFIRMED.ordinal());
+        publish(from, newStatus);
+        publish(to, RegistrationStatus.CONFIRMED);
+    }
+
+    public int count(EventId eventId, RegistrationStatus status) {
+        AtomicIntegerArray eventCounts = counts.get(eventId);
+        return eventCounts == null ? 0 : eventCounts.get(status.ordinal());
+    }
+
+    // Seats held: confirmed registrations plus those already checked in.
+    public int confirmedCount(EventId eventId) {
+        return seats.reserved(eventId);
+    }
+
+    public int remainingCapacity(Event event) {
+        return seats.remaining(event);
+    }
+
+    public int totalCount(EventId eventId) {
+        AtomicIntegerArray eventCounts = counts.get(eventId);
+        if (eventCounts == null) return 0;
+        int total = 0;
+        for (int i = 0; i < STATUS_COUNT; i++) total += eventCounts.get(i);
+        return total;
+    }
+
+    static boolean holdsSeat(RegistrationStatus status) {
+        return status == RegistrationStatus.CONFIRMED || status == RegistrationStatus.ATTENDED;
+    }
+
+    private void publish(Registration registration, RegistrationStatus newStatus) {
+        for (Listener listener : listeners) listener.onTransition(registration, newStatus);
+    }
+
+    private AtomicIntegerArray countsFor(EventId eventId) {
+        return counts.computeIfAbsent(eventId, id -> new AtomicIntegerArray(STATUS_COUNT));
+    }
+}
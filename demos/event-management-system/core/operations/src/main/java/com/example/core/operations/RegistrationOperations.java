@@ -1,12 +1,16 @@
 package com.example.core.operations;
 
+import com.example.core.common.utilities.completion.OperationResult;
 import com.example.core.domain.Attendee;
 import com.example.core.domain.Event;
 import com.example.core.domain.Money;
 import com.example.core.domain.Registration;
 import com.example.core.domain.RegistrationStatus;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Currency;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -22,6 +26,31 @@ public final class RegistrationOperations {
                 registration.registrationTime(), newStatus);
     }
 
+    public static Registration updateStatus(Registration registration, RegistrationStatus newStatus, RegistrationLedger ledger) {
+        if (!ledger.transition(registration, newStatus)) {
+            throw new IllegalStateException("No capacity available for " + registration.event().name());
+        }
+        return updateStatus(registration, newStatus);
+    }
+
+    // Like updateStatus with a ledger, but a seat given up goes to the head of the event's waitlist.
+    public static StatusChange updateStatus(Registration registration, RegistrationStatus newStatus,
+                                            RegistrationLedger ledger, Waitlist waitlist) {
+        RegistrationStatus oldStatus = registration.status();
+        if (oldStatus == newStatus) return new StatusChange(registration, Optional.empty());
+        if (RegistrationLedger.holdsSeat(oldStatus) && !RegistrationLedger.holdsSeat(newStatus)) {
+            Registration promoted = waitlist.release(registration, newStatus, ledger);
+            return new StatusChange(updateStatus(registration, newStatus), Optional.ofNullable(promoted));
+        }
+        if (oldStatus == RegistrationStatus.PENDING) {
+            if (!waitlist.leave(registration, newStatus, ledger)) {
+                throw new IllegalStateException("No capacity available for " + registration.event().name());
+            }
+            return new StatusChange(updateStatus(registration, newStatus), Optional.empty());
+        }
+        return new StatusChange(updateStatus(registration, newStatus, ledger), Optional.empty());
+    }
+
     public static Money calculateTotalRevenue(List<Registration> registrations) {
         List<Money> fees = registrations.stream()
                 .filter(r -> r.status() == RegistrationStatus.CONFIRMED || r.status() == RegistrationStatus.ATTENDED)
@@ -30,10 +59,52 @@ public final class RegistrationOperations {
         return MoneyOperations.sum(fees);
     }
 
+    public static Map<Currency, Money> calculateRevenueByCurrency(Iterable<Registration> registrations) {
+        return RevenueAggregator.aggregate(registrations);
+    }
+
     public static Optional<Registration> registerForEvent(Event event, Attendee attendee, List<Registration> existingRegistrations) {
-        if (!EventOperations.hasAvailableCapacity(event, existingRegistrations.size())) {
+        long seatsTaken = existingRegistrations.stream()
+                .filter(r -> r.event().id().equals(event.id()) && RegistrationLedger.holdsSeat(r.status()))
+                .count();
+        if (!EventOperations.hasAvailableCapacity(event, (int) seatsTaken)) {
             return Optional.empty();
         }
         return Optional.of(createRegistration(event, attendee, RegistrationStatus.CONFIRMED));
     }
+
+    public static Optional<Registration> registerForEvent(Event event, Attendee attendee, RegistrationLedger ledger) {
+        Registration registration = createRegistration(event, attendee, RegistrationStatus.CONFIRMED);
+        return ledger.tryRecord(registration) ? Optional.of(registration) : Optional.empty();
+    }
+
+    // Rejects an attendee whose email is already registered for the event, as well as a full event.
+    public static Optional<Registration> registerForEvent(Event event, Attendee attendee, RegistrationLedger ledger, AttendeeIndex attendees) {
+        if (!attendees.tryClaim(event, attendee.email())) return Optional.empty();
+        Optional<Registration> registration = registerForEvent(event, attendee, ledger);
+        if (registration.isEmpty()) attendees.release(event.id(), attendee.email());
+        return registration;
+    }
+
+    // Confirms the attendee if the event has a seat, otherwise returns a PENDING registration queued on the waitlist.
+    public static Registration registerOrWaitlist(Event event, Attendee attendee, RegistrationLedger ledger, Waitlist waitlist) {
+        return waitlist.join(event, attendee, ledger);
+    }
+
+    public static List<OperationResult<Registration>> registerBatch(Event event, List<Attendee> attendees, RegistrationLedger ledger) {
+        int granted = ledger.tryRecordConfirmed(event, attendees.size());
+        List<OperationResult<Registration>> results = new ArrayList<>(attendees.size());
+        LocalDateTime registeredAt = LocalDateTime.now();
+        for (int i = 0; i < granted; i++) {
+            results.add(new OperationResult.Success<>(
+                    new Registration(UUID.randomUUID(), event, attendees.get(i), registeredAt, RegistrationStatus.CONFIRMED)));
+        }
+        if (granted < attendees.size()) {
+            // One shared failure for the unfilled tail; nothing distinguishes the rejected attendees.
+            OperationResult<Registration> noCapacity = new OperationResult.Failure<>(
+                    new IllegalStateException("No capacity available for " + event.name()));
+            for (int i = granted; i < attendees.size(); i++) results.add(noCapacity);
+        }
+        return results;
+    }
 }
@@ -0,0 +1,64 @@
+package com.example.core.operations;
+
+import com.example.core.domain.Event;
+import com.example.core.domain.EventId;
+import com.example.core.domain.Registration;
+import com.example.core.domain.RegistrationStatus;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Currency;
+
+/**
+ * Registrations laid out for scans instead of object graphs. Each row holds an event ordinal, an attendee ordinal,
+ * the registration time in UTC epoch seconds, the status and the event fee in minor units of the table's currency;
+ * events and attendees are stored once and referenced by ordinal. Rows are addressed by the index {@link #append}
+ * returns. Registration times are kept to the second.
+ * <p>
+ * A fee finer than a minor unit is recorded as zero in its rows and kept exactly per event; the minor-unit
+ * aggregates leave it out, and {@link #sumFeeAmounts} and {@link #revenueAmountsByStatus} include it.
+ */
+public interface RegistrationTable {
+    @FunctionalInterface
+    interface RowFilter {
+        boolean test(int eventOrdinal, int attendeeOrdinal, long registeredAt, RegistrationStatus status, long feeMinorUnits);
+    }
+
+    Currency currency();
+
+    int size();
+
+    int append(Registration registration);
+
+    void updateStatus(int row, RegistrationStatus status);
+
+    Registration registration(int row);
+
+    int eventCount();
+
+    Event event(int eventOrdinal);
+
+    // The ordinal of a known event, or -1.
+    int eventOrdinal(EventId id);
+
+    long count(RowFilter filter);
+
+    long sumFees(RowFilter filter);
+
+    // Fee totals in minor units, indexed by status ordinal.
+    long[] revenueByStatus();
+
+    // The event's fee if it is finer than a minor unit, otherwise null.
+    BigDecimal exactFee(int eventOrdinal);
+
+    // Like sumFees, as an amount of the table's currency that includes fees finer than a minor unit.
+    BigDecimal sumFeeAmounts(RowFilter filter);
+
+    // Like revenueByStatus, as amounts of the table's currency that include fees finer than a minor unit.
+    BigDecimal[] revenueAmountsByStatus();
+
+    // Row counts indexed by event ordinal.
+    int[] countByEvent();
+
+    // Row counts per hour for the given number of hours starting at {@code from}.
+    int[] registrationsPerHour(LocalDateTime from, int hours);
+}
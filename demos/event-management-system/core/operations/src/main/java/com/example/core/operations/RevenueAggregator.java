@@ -0,0 +1,107 @@
+package com.example.core.operations;
+
+import com.example.core.domain.Event;
+import com.example.core.domain.Money;
+import com.example.core.domain.Registration;
+import com.example.core.domain.RegistrationStatus;
+import java.math.BigDecimal;
+import java.util.Collections;
+import java.util.Currency;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+/**
+ * Single-pass, per-currency revenue accumulator. Fees representable in minor units are summed as
+ * {@code long}s; only fees with sub-minor-unit precision fall back to {@link BigDecimal}.
+ * Each event's fee is resolved once and cached by identity, so every further registration costs one add.
+ * Instances are not thread-safe.
+ */
+public final class RevenueAggregator {
+    private final Map<Currency, Accumulator> totals = new HashMap<>(4);
+    private final Map<Event, Fee> fees = new IdentityHashMap<>();
+    private Event lastEvent;
+    private Fee lastFee;
+
+    public static Map<Currency, Money> aggregate(Iterable<Registration> registrations) {
+        RevenueAggregator aggregator = new RevenueAggregator();
+        for (Registration registration : registrations) aggregator.add(registration);
+        return aggregator.totals();
+    }
+
+    public static boolean countsAsRevenue(RegistrationStatus status) {
+        return status == RegistrationStatus.CONFIRMED || status == RegistrationStatus.ATTENDED;
+    }
+
+    public RevenueAggregator add(Registration registration) {
+        if (countsAsRevenue(registration.status())) addFee(registration.event());
+        return this;
+    }
+
+    public Map<Currency, Money> totals() {
+        Map<Currency, Money> result = new HashMap<>(totals.size() * 2);
+        totals.forEach((currency, accumulator) -> result.put(currency, accumulator.toMoney(currency)));
+        return Collections.unmodifiableMap(result);
+    }
+
+    private void addFee(Event event) {
+        if (event != lastEvent) {
+            lastFee = fees.computeIfAbsent(event, this::resolveFee);
+            lastEvent = event;
+        }
+        if (lastFee.exactAmount() == null) {
+            lastFee.accumulator().addMinorUnits(lastFee.minorUnits());
+        } else {
+            lastFee.accumulator().addExact(lastFee.exactAmount());
+        }
+    }
+
+    private Fee resolveFee(Event event) {
+        Money fee = EventOperations.getEventFee(event);
+        Accumulator accumulator = totals.computeIfAbsent(fee.currency(), Accumulator::new);
+        return MoneyOperations.isCompactable(fee)
+                ? new Fee(accumulator, MoneyOperations.toCompact(fee).minorUnits(), null)
+                : new Fee(accumulator, 0, fee.amount());
+    }
+
+    private record Fee(Accumulator accumulator, long minorUnits, BigDecimal exactAmount) {}
+
+    private static final class Accumulator {
+        private final int fractionDigits;
+        private long minorUnits;
+        private boolean hasMinorUnits;
+        private BigDecimal exact;
+
+        Accumulator(Currency currency) {
+            this.fractionDigits = currency.getDefaultFractionDigits();
+        }
+
+        void addMinorUnits(long amount) {
+            long sum = minorUnits + amount;
+            if (((minorUnits ^ sum) & (amount ^ sum)) < 0) {
+                // Spill into the exact total rather than overflow.
+                spill();
+                sum = amount;
+            }
+            minorUnits = sum;
+            hasMinorUnits = true;
+        }
+
+        void addExact(BigDecimal amount) {
+            exact = exact == null ? amount : exact.add(amount);
+        }
+
+        Money toMoney(Currency currency) {
+            BigDecimal total = exact == null ? BigDecimal.ZERO : exact;
+            if (hasMinorUnits) {
+                total = total.add(BigDecimal.valueOf(minorUnits, fractionDigits));
+            }
+            return new Money(total, currency);
+        }
+
+        private void spill() {
+            addExact(BigDecimal.valueOf(minorUnits, fractionDigits));
+            minorUnits = 0;
+        }
+    }
+}
@@ -0,0 +1,116 @@
+package com.example.core.operations;
+
+import com.example.core.domain.Event;
+import com.example.core.domain.EventId;
+import com.example.core.domain.Money;
+import com.example.core.domain.Registration;
+import com.example.core.domain.RegistrationStatus;
+import java.math.BigDecimal;
+import java.util.Collections;
+import java.util.Currency;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Revenue totals per currency, per event and per event type, kept current as registrations are created and change
+ * status instead of being recomputed from every registration. A fee is added when a registration enters a status
+ * that {@link RevenueAggregator#countsAsRevenue counts as revenue} and subtracted when it leaves one; registering
+ * {@link #transition} as a {@link RegistrationLedger.Listener} applies the ledger's transitions as they happen.
+ * Thread-safe; each total is a single atomic, so a read never observes a fee removed before it was added.
+ */
+public final class RevenueView {
+    private final Map<EventId, Fee> fees = new ConcurrentHashMap<>();
+    private final Map<Currency, Total> byCurrency = new ConcurrentHashMap<>();
+    private final Map<EventId, Total> byEvent = new ConcurrentHashMap<>();
+    private final Map<TypeKey, Total> byType = new ConcurrentHashMap<>();
+
+    public static RevenueView of(Iterable<Registration> registrations) {
+        RevenueView view = new RevenueView();
+        for (Registration registration : registrations) view.record(registration);
+        return view;
+    }
+
+    public void record(Registration registration) {
+        if (RevenueAggregator.countsAsRevenue(registration.status())) feeFor(registration.event()).apply(1);
+    }
+
+    public void transition(Registration registration, RegistrationStatus newStatus) {
+        boolean counted = RevenueAggregator.countsAsRevenue(registration.status());
+        boolean counts = RevenueAggregator.countsAsRevenue(newStatus);
+        if (counted != counts) feeFor(registration.event()).apply(counts ? 1 : -1);
+    }
+
+    public Map<Currency, Money> totals() {
+        Map<Currency, Money> result = new HashMap<>(byCurrency.size() * 2);
+        byCurrency.forEach((currency, total) -> result.put(currency, total.toMoney()));
+        return Collections.unmodifiableMap(result);
+    }
+
+    public Money total(Currency currency) {
+        Total total = byCurrency.get(currency);
+        return total == null ? new Money(BigDecimal.ZERO, currency) : total.toMoney();
+    }
+
+    public Money eventTotal(Event event) {
+        Total total = byEvent.get(event.id());
+        return total == null ? new Money(BigDecimal.ZERO, EventOperations.getEventFee(event).currency()) : total.toMoney();
+    }
+
+    public Map<Currency, Money> typeTotals(Class<? extends Event> type) {
+        Map<Currency, Money> result = new HashMap<>();
+        byType.forEach((key, total) -> {
+            if (key.type() == type) result.put(key.currency(), total.toMoney());
+        });
+        return Collections.unmodifiableMap(result);
+    }
+
+    private Fee feeFor(Event event) {
+        Fee fee = fees.get(event.id());
+        return fee != null ? fee : fees.computeIfAbsent(event.id(), id -> resolveFee(event));
+    }
+
+    private Fee resolveFee(Event event) {
+        Money fee = EventOperations.getEventFee(event);
+        Currency currency = fee.currency();
+        Total[] totals = {
+                byCurrency.computeIfAbsent(currency, Total::new),
+                byEvent.computeIfAbsent(event.id(), id -> new Total(currency)),
+                byType.computeIfAbsent(new TypeKey(event.getClass(), currency), key -> new Total(currency))
+        };
+        return MoneyOperations.isCompactable(fee)
+                ? new Fee(totals, MoneyOperations.toCompact(fee).minorUnits(), null)
+                : new Fee(totals, 0, fee.amount());
+    }
+
+    private record TypeKey(Class<?> type, Currency currency) {}
+
+    private record Fee(Total[] totals, long minorUnits, BigDecimal exactAmount) {
+        void apply(int sign) {
+            for (Total total : totals) {
+                if (exactAmount == null) {
+                    total.minorUnits.addAndGet(sign * minorUnits);
+                } else {
+                    total.exact.accumulateAndGet(sign > 0 ? exactAmount : exactAmount.negate(), BigDecimal::add);
+                }
+            }
+        }
+    }
+
+    private static final class Total {
+        private final Currency currency;
+        private final AtomicLong minorUnits = new AtomicLong();
+        private final AtomicReference<BigDecimal> exact = new AtomicReference<>(BigDecimal.ZERO);
+
+        Total(Currency currency) {
+            this.currency = currency;
+        }
+
+        Money toMoney() {
+            BigDecimal amount = BigDecimal.valueOf(minorUnits.get(), Math.max(0, currency.getDefaultFractionDigits()));
+            return new Money(amount.add(exact.get()), currency);
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package com.example.core.operations;
+
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Tuning for {@link EventOperations#searchEvents(java.util.List, java.util.function.Predicate, SearchOptions)}.
+ * Lists smaller than {@code parallelThreshold} are searched sequentially; {@code limit} stops the
+ * search once that many matches are found, and {@code ordered} keeps matches in list order.
+ */
+public record SearchOptions(ForkJoinPool pool, int parallelThreshold, boolean ordered, int limit) {
+    public static final int DEFAULT_PARALLEL_THRESHOLD = 10_000;
+
+    public SearchOptions {
+        if (pool == null) throw new IllegalArgumentException("Pool cannot be null");
+        if (parallelThreshold < 1) throw new IllegalArgumentException("Parallel threshold must be positive");
+        if (limit < 0) throw new IllegalArgumentException("Limit cannot be negative");
+    }
+
+    public static SearchOptions defaults() {
+        return new SearchOptions(ForkJoinPool.commonPool(), DEFAULT_PARALLEL_THRESHOLD, true, Integer.MAX_VALUE);
+    }
+
+    public SearchOptions withPool(ForkJoinPool pool) {
+        return new SearchOptions(pool, parallelThreshold, ordered, limit);
+    }
+
+    public SearchOptions withParallelThreshold(int parallelThreshold) {
+        return new SearchOptions(pool, parallelThreshold, ordered, limit);
+    }
+
+    public SearchOptions withOrdered(boolean ordered) {
+        return new SearchOptions(pool, parallelThreshold, ordered, limit);
+    }
+
+    public SearchOptions withLimit(int limit) {
+        return new SearchOptions(pool, parallelThreshold, ordered, limit);
+    }
+}
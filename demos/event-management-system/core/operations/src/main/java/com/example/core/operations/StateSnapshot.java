@@ -0,0 +1,175 @@
+package com.example.core.operations;
+
+import com.example.core.domain.DomainCodec;
+import com.example.core.domain.Event;
+import com.example.core.domain.EventId;
+import com.example.core.domain.Registration;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.zip.CRC32C;
+
+/**
+ * Compact binary image of events and registrations, tagged with the journal sequence it covers.
+ * Values are encoded with {@link DomainCodec}; registrations refer to their event by position in the file
+ * rather than repeating it.
+ * Files are written to a temporary sibling and atomically moved into place, so a reader sees either the
+ * previous snapshot or the complete new one.
+ */
+final class StateSnapshot {
+    private static final int MAGIC = 0x454D5353;
+    private static final int VERSION = 2;
+    private static final int HEADER_SIZE = Integer.BYTES * 4 + Long.BYTES;
+    private static final int BUFFER_SIZE = 1 << 20;
+
+    private StateSnapshot() {}
+
+    static void write(Path file, long sequence, Collection<Event> events, Collection<Registration> registrations) throws IOException {
+        Path temporary = file.resolveSibling(file.getFileName() + ".tmp");
+        try (FileChannel channel = FileChannel.open(temporary, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            Output out = new Output(channel);
+            out.reserve(HEADER_SIZE).putInt(MAGIC).putInt(VERSION).putLong(sequence)
+                    .putInt(events.size()).putInt(registrations.size());
+            Map<EventId, Integer> positions = new HashMap<>(events.size() * 2);
+            for (Event event : events) {
+                positions.put(event.id(), positions.size());
+                DomainCodec.writeEvent(out.reserve(DomainCodec.encodedSize(event)), event);
+            }
+            for (Registration registration : registrations) {
+                Integer position = positions.get(registration.event().id());
+                if (position == null) throw new IOException("Registration " + registration.id() + " references an event missing from the snapshot");
+                ByteBuffer buffer = out.reserve(16 + DomainCodec.sizeOfVarInt(position)
+                        + DomainCodec.encodedSize(registration.attendee()) + DomainCodec.sizeOf(registration.registrationTime()) + 1);
+                DomainCodec.writeUuid(buffer, registration.id());
+                DomainCodec.writeVarInt(buffer, position);
+                DomainCodec.writeAttendee(buffer, registration.attendee());
+                DomainCodec.writeDateTime(buffer, registration.registrationTime());
+                DomainCodec.writeStatus(buffer, registration.status());
+            }
+            out.finish();
+            channel.force(true);
+        }
+        Files.move(temporary, file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    // The number of registrations in the snapshot, read from its header, or 0 if there is none.
+    static int registrationCount(Path file) throws IOException {
+        if (!Files.exists(file)) return 0;
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+            while (header.hasRemaining()) {
+                if (channel.read(header) < 0) throw new EOFException("Truncated snapshot header: " + file);
+            }
+            return header.getInt(HEADER_SIZE - Integer.BYTES);
+        }
+    }
+
+    // Streams the snapshot into the consumers and returns the journal sequence it covers, or 0 if there is none.
+    static long read(Path file, Consumer<? super Event> events, Consumer<? super Registration> registrations) throws IOException {
+        if (!Files.exists(file)) return 0;
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            Input in = new Input(channel);
+            if (in.read(ByteBuffer::getInt) != MAGIC) throw new IOException("Not a snapshot file: " + file);
+            int version = in.read(ByteBuffer::getInt);
+            if (version != VERSION) throw new IOException("Unsupported snapshot version " + version);
+            long sequence = in.read(ByteBuffer::getLong);
+            Event[] byPosition = new Event[in.read(ByteBuffer::getInt)];
+            int registrationCount = in.read(ByteBuffer::getInt);
+            for (int i = 0; i < byPosition.length; i++) {
+                byPosition[i] = in.read(DomainCodec::readEvent);
+                events.accept(byPosition[i]);
+            }
+            Function<ByteBuffer, Registration> decoder = buffer -> new Registration(DomainCodec.readUuid(buffer),
+                    byPosition[DomainCodec.readVarInt(buffer)], DomainCodec.readAttendee(buffer),
+                    DomainCodec.readDateTime(buffer), DomainCodec.readStatus(buffer));
+            for (int i = 0; i < registrationCount; i++) {
+                registrations.accept(in.read(decoder));
+            }
+            if (!in.checksumMatches()) throw new IOException("Snapshot checksum mismatch: " + file);
+            return sequence;
+        }
+    }
+
+    // Buffered channel writer that checksums everything it flushes and appends the checksum on finish.
+    private static final class Output {
+        private final FileChannel channel;
+        private final ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+        private final CRC32C crc = new CRC32C();
+
+        Output(FileChannel channel) {
+            this.channel = channel;
+        }
+
+        ByteBuffer reserve(int size) throws IOException {
+            if (size > BUFFER_SIZE) throw new IOException("Snapshot record of " + size + " bytes exceeds the write buffer");
+            if (buffer.remaining() < size) flush();
+            return buffer;
+        }
+
+        void finish() throws IOException {
+            flush();
+            buffer.putInt((int) crc.getValue()).flip();
+            while (buffer.hasRemaining()) channel.write(buffer);
+        }
+
+        private void flush() throws IOException {
+            buffer.flip();
+            crc.update(buffer.duplicate());
+            while (buffer.hasRemaining()) channel.write(buffer);
+            buffer.clear();
+        }
+    }
+
+    // Buffered channel reader: a value cut off at the end of the buffer is retried after refilling.
+    private static final class Input {
+        private final FileChannel channel;
+        private ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE).limit(0);
+        private final CRC32C crc = new CRC32C();
+
+        Input(FileChannel channel) {
+            this.channel = channel;
+        }
+
+        <T> T read(Function<ByteBuffer, T> decoder) throws IOException {
+            while (true) {
+                int start = buffer.position();
+                try {
+                    return decoder.apply(buffer);
+                } catch (BufferUnderflowException e) {
+                    buffer.position(start);
+                    refill();
+                }
+            }
+        }
+
+        // Checks the trailing checksum against every byte consumed before it.
+        boolean checksumMatches() throws IOException {
+            while (buffer.remaining() < Integer.BYTES) refill();
+            crc.update(buffer.array(), 0, buffer.position());
+            return buffer.getInt() == (int) crc.getValue();
+        }
+
+        private void refill() throws IOException {
+            crc.update(buffer.array(), 0, buffer.position());
+            buffer.compact();
+            if (!buffer.hasRemaining()) {
+                buffer = ByteBuffer.allocate(buffer.capacity() * 2).put(buffer.flip());
+            }
+            int read = channel.read(buffer);
+            buffer.flip();
+            if (read < 0) throw new EOFException("Truncated snapshot");
+        }
+    }
+}
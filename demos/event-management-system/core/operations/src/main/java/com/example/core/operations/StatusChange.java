@@ -0,0 +1,14 @@
+package com.example.core.operations;
+
+import com.example.core.domain.Registration;
+import java.util.Optional;
+
+/**
+ * The outcome of a status update that may promote a waitlisted registration into the seat it frees.
+ */
+public record StatusChange(Registration updated, Optional<Registration> promoted) {
+    public StatusChange {
+        if (updated == null) throw new IllegalArgumentException("Updated registration cannot be null");
+        if (promoted == null) throw new IllegalArgumentException("Promoted registration cannot be null; use Optional.empty()");
+    }
+}
@@ -0,0 +1,118 @@
+package com.example.core.operations;
+
+import com.example.core.domain.Attendee;
+import com.example.core.domain.Event;
+import com.example.core.domain.EventId;
+import com.example.core.domain.Registration;
+import com.example.core.domain.RegistrationStatus;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Per-event FIFO of {@code PENDING} registrations for sold-out events. A registration that gives up a seat hands
+ * it straight to the head of the queue, so the seat is never free for a newcomer to take in between.
+ * Joining and handing over share a per-event lock, which keeps an attendee from being queued just after the last
+ * waiting seat was released. Withdrawn entries are dropped lazily when they reach the head.
+ */
+public final class Waitlist {
+    private final Map<EventId, Queue> queues = new ConcurrentHashMap<>();
+
+    public int size(EventId eventId) {
+        Queue queue = queues.get(eventId);
+        if (queue == null) return 0;
+        queue.lock.lock();
+        try {
+            return queue.members.size();
+        } finally {
+            queue.lock.unlock();
+        }
+    }
+
+    // Waiting registrations in promotion order.
+    public List<Registration> entries(EventId eventId) {
+        Queue queue = queues.get(eventId);
+        if (queue == null) return List.of();
+        queue.lock.lock();
+        try {
+            List<Registration> entries = new ArrayList<>(queue.members.size());
+            for (Registration registration : queue.entries) {
+                if (queue.members.contains(registration.id())) entries.add(registration);
+            }
+            return entries;
+        } finally {
+            queue.lock.unlock();
+        }
+    }
+
+    // Confirms the attendee if a seat is free, otherwise records and queues a PENDING registration.
+    Registration join(Event event, Attendee attendee, RegistrationLedger ledger) {
+        Registration confirmed = RegistrationOperations.createRegistration(event, attendee, RegistrationStatus.CONFIRMED);
+        if (ledger.tryRecord(confirmed)) return confirmed;
+        Queue queue = queueFor(event.id());
+        queue.lock.lock();
+        try {
+            // Seats released to an empty queue may have appeared since the first attempt.
+            if (ledger.tryRecord(confirmed)) return confirmed;
+            Registration pending = RegistrationOperations.updateStatus(confirmed, RegistrationStatus.PENDING);
+            ledger.record(pending);
+            queue.entries.addLast(pending);
+            queue.members.add(pending.id());
+            return pending;
+        } finally {
+            queue.lock.unlock();
+        }
+    }
+
+    // Applies a transition that gives up a seat and returns the registration promoted into it, or null.
+    Registration release(Registration registration, RegistrationStatus newStatus, RegistrationLedger ledger) {
+        Queue queue = queueFor(registration.event().id());
+        queue.lock.lock();
+        try {
+            Registration next;
+            while ((next = queue.entries.pollFirst()) != null && !queue.members.remove(next.id())) {
+                // Withdrawn while waiting.
+            }
+            if (next == null) {
+                ledger.transition(registration, newStatus);
+                return null;
+            }
+            ledger.handOver(registration, newStatus, next);
+            return RegistrationOperations.updateStatus(next, RegistrationStatus.CONFIRMED);
+        } finally {
+            queue.lock.unlock();
+        }
+    }
+
+    // Applies a transition out of PENDING and drops the registration from the queue; false if no seat was free.
+    boolean leave(Registration registration, RegistrationStatus newStatus, RegistrationLedger ledger) {
+        Queue queue = queueFor(registration.event().id());
+        queue.lock.lock();
+        try {
+            if (!ledger.transition(registration, newStatus)) return false;
+            // Keep withdrawn entries from piling up behind a head that is rarely promoted.
+            if (queue.members.remove(registration.id()) && queue.entries.size() > 2 * queue.members.size() + 64) {
+                queue.entries.removeIf(entry -> !queue.members.contains(entry.id()));
+            }
+            return true;
+        } finally {
+            queue.lock.unlock();
+        }
+    }
+
+    private Queue queueFor(EventId eventId) {
+        return queues.computeIfAbsent(eventId, id -> new Queue());
+    }
+
+    private static final class Queue {
+        private final ReentrantLock lock = new ReentrantLock();
+        private final ArrayDeque<Registration> entries = new ArrayDeque<>();
+        private final Set<UUID> members = new HashSet<>();
+    }
+}
@@ -1,16 +1,28 @@
 package com.example.core.operations;
 
+import com.example.core.common.utilities.journal.Journal;
 import com.example.core.common.utilities.operations.OperationContext;
+import com.example.core.common.utilities.operations.BoundedOperationsTaskScope;
+import com.example.core.common.utilities.operations.ConcurrencyLimit;
 import com.example.core.common.utilities.operations.OperationsTaskScope;
 import com.example.core.common.utilities.completion.OperationResult;
 import com.example.core.common.utilities.completion.TaskCompletionHandler;
 import com.example.core.domain.*;
 
+import java.io.IOException;
 import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadLocalRandom;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
 /**
@@ -25,12 +37,28 @@ public class EventManagementDemoTest {
     private static final Map<String, AtomicInteger> VALID_COUNTS = new HashMap<>();
     private static final Map<String, AtomicInteger> INVALID_COUNTS = new HashMap<>();
 
-    public static void main(String[] args) throws InterruptedException, ExecutionException {
+    public static void main(String[] args) throws InterruptedException, ExecutionException, IOException {
         System.out.println("Running property-based tests...");
         testRegistrationCapacity();
+        testRegistrationLedger();
+        testConcurrentCapacityReservation();
+        testDuplicateRegistration();
+        testWaitlistPromotion();
+        testBatchRegistration();
+        testRegistrationJournal();
+        testStateStoreRecovery();
+        testDomainCodec();
+        testFlyweights();
+        testColumnarStore();
+        testOffHeapStore();
+        testSubMinorUnitFees();
         testRevenueCalculation();
+        testRevenueView();
+        testCompactMoney();
         testEventTimeRangeFilter();
+        testParallelSearch();
         testEventTypeSafety();
+        testBulkValidation();
         printSummaryReport();
         System.out.println("All property tests passed!");
     }
@@ -83,17 +111,575 @@ public class EventManagementDemoTest {
         System.out.println("Capacity test passed!");
     }
 
+    private static void testRegistrationLedger() {
+        System.out.println("Testing registration ledger...");
+        Concert concert = generateRandomConcert("Ledger Test Concerts");
+        Concert other = generateRandomConcert("Ledger Test Concerts");
+        RegistrationLedger ledger = new RegistrationLedger();
+        List<Registration> registrations = new ArrayList<>();
+
+        RegistrationOperations.registerForEvent(other, generateRandomAttendee("Ledger Test Attendees"), ledger);
+        for (int i = 0; i < concert.maxAttendees(); i++) {
+            registrations.add(RegistrationOperations.registerForEvent(concert, generateRandomAttendee("Ledger Test Attendees"), ledger)
+                    .orElseThrow(() -> new AssertionError("Registration within capacity should succeed")));
+        }
+        assert ledger.confirmedCount(concert.id()) == concert.maxAttendees() : "Ledger should count every confirmation";
+        assert ledger.confirmedCount(other.id()) == 1 : "Ledger counts must be scoped per event";
+        Optional<Registration> overflow = RegistrationOperations.registerForEvent(concert, generateRandomAttendee("Ledger Test Attendees"), ledger);
+        assert overflow.isEmpty() : "Ledger should reject registrations beyond capacity";
+
+        RegistrationOperations.updateStatus(registrations.getFirst(), RegistrationStatus.CANCELLED, ledger);
+        assert ledger.count(concert.id(), RegistrationStatus.CANCELLED) == 1 : "Cancellation should be counted";
+        assert ledger.confirmedCount(concert.id()) == concert.maxAttendees() - 1 : "Cancellation should free a seat";
+        Optional<Registration> reseated = RegistrationOperations.registerForEvent(concert, generateRandomAttendee("Ledger Test Attendees"), ledger);
+        assert reseated.isPresent() : "Freed seat should be available again";
+        assert ledger.totalCount(concert.id()) == concert.maxAttendees() + 1 : "Total should include cancelled registrations";
+        System.out.println("Registration ledger test passed!");
+    }
+
+    private static void testConcurrentCapacityReservation() throws InterruptedException {
+        System.out.println("Testing concurrent capacity reservation...");
+        int capacity = 1_000;
+        int contenders = 20_000;
+        LocalDateTime start = LocalDateTime.now().plusDays(1);
+        Concert concert = new Concert(EventId.generate(), "On-Sale Stress", start, start.plusHours(3),
+                generateRandomLocation("Stress Test Locations"), capacity, "Headliner", "Rock",
+                generateRandomMoney("Stress Test Ticket Prices"));
+        RegistrationLedger ledger = new RegistrationLedger();
+        AtomicInteger admitted = new AtomicInteger();
+
+        try (var scope = new OperationsTaskScope<>("OnSaleStress", new OperationContext.NonTransactional(),
+                new TaskCompletionHandler<Boolean>() {
+                    @Override public void onSuccess(Boolean value) { if (value) admitted.incrementAndGet(); }
+                    @Override public void onFailure(Throwable t) { throw new AssertionError("Unexpected failure: " + t); }
+                })) {
+            for (int i = 0; i < contenders; i++) {
+                Attendee attendee = new Attendee(UUID.randomUUID(), "Fan-" + i, "fan" + i + "@example.com", null);
+                scope.fork(() -> new OperationResult.Success<>(
+                        RegistrationOperations.registerForEvent(concert, attendee, ledger).isPresent()));
+            }
+            scope.join();
+        }
+        assert admitted.get() == capacity : "Expected exactly " + capacity + " admissions, got " + admitted.get();
+        assert ledger.confirmedCount(concert.id()) == capacity : "Reserved seats oversold: " + ledger.confirmedCount(concert.id());
+        assert ledger.count(concert.id(), RegistrationStatus.CONFIRMED) == capacity : "Status counts drifted from reservations";
+        System.out.println("Concurrent capacity reservation test passed!");
+    }
+
+    private static void testDuplicateRegistration() throws InterruptedException {
+        System.out.println("Testing duplicate registration detection...");
+        Concert concert = generateRandomConcert("Dedup Test Concerts");
+        Concert other = generateRandomConcert("Dedup Test Concerts");
+        RegistrationLedger ledger = new RegistrationLedger();
+        AttendeeIndex attendees = new AttendeeIndex();
+        Attendee first = new Attendee(UUID.randomUUID(), "First", "fan@example.com", null);
+        Attendee again = new Attendee(UUID.randomUUID(), "Again", " FAN@Example.com ", null);
+
+        Optional<Registration> registered = RegistrationOperations.registerForEvent(concert, first, ledger, attendees);
+        assert registered.isPresent() : "First registration should succeed";
+        Optional<Registration> duplicate = RegistrationOperations.registerForEvent(concert, again, ledger, attendees);
+        assert duplicate.isEmpty() : "Same email should be rejected";
+        assert ledger.confirmedCount(concert.id()) == 1 : "A rejected duplicate should not hold a seat";
+        Optional<Registration> elsewhere = RegistrationOperations.registerForEvent(other, again, ledger, attendees);
+        assert elsewhere.isPresent() : "Other events should accept the email";
+        attendees.release(concert.id(), "fan@example.com");
+        assert !attendees.contains(concert.id(), "fan@example.com") : "Released email should be free";
+        boolean reclaimed = attendees.tryClaim(concert, "Fan@example.com");
+        assert reclaimed : "Released email should be claimable again";
+
+        Concert festival = new Concert(EventId.generate(), "Festival", concert.startTime(), concert.endTime(),
+                concert.location(), 200_000, "Headliners", "Mixed", concert.ticketPrice());
+        for (int i = 0; i < 100_000; i++) attendees.claim(festival, "guest" + i + "@example.com");
+        for (int i = 0; i < 100_000; i++) {
+            assert attendees.contains(festival.id(), "guest" + i + "@example.com") : "Claimed email missing";
+            assert !attendees.contains(festival.id(), "visitor" + i + "@example.com") : "Unclaimed email reported";
+        }
+
+        Concert onSale = new Concert(EventId.generate(), "Dedup Stress", concert.startTime(), concert.endTime(),
+                concert.location(), 10_000, "Headliner", "Rock", concert.ticketPrice());
+        AtomicInteger admitted = new AtomicInteger();
+        try (var scope = new OperationsTaskScope<>("DedupStress", new OperationContext.NonTransactional(),
+                new TaskCompletionHandler<Boolean>() {
+                    @Override public void onSuccess(Boolean value) { if (value) admitted.incrementAndGet(); }
+                    @Override public void onFailure(Throwable t) { throw new AssertionError("Unexpected failure: " + t); }
+                })) {
+            for (int i = 0; i < 5_000; i++) {
+                Attendee attendee = new Attendee(UUID.randomUUID(), "Fan-" + i, "fan" + (i % 500) + "@example.com", null);
+                scope.fork(() -> new OperationResult.Success<>(
+                        RegistrationOperations.registerForEvent(onSale, attendee, ledger, attendees).isPresent()));
+            }
+            scope.join();
+        }
+        assert admitted.get() == 500 : "Each email should register exactly once, got " + admitted.get();
+        assert ledger.confirmedCount(onSale.id()) == 500 : "Seats should match distinct emails";
+        System.out.println("Duplicate registration detection test passed!");
+    }
+
+    private static void testWaitlistPromotion() throws InterruptedException {
+        System.out.println("Testing waitlist promotion...");
+        LocalDateTime start = LocalDateTime.now().plusDays(1);
+        int capacity = 200;
+        Concert concert = new Concert(EventId.generate(), "Sold Out", start, start.plusHours(3),
+                generateRandomLocation("Waitlist Test Locations"), capacity, "Headliner", "Rock",
+                generateRandomMoney("Waitlist Test Ticket Prices"));
+        RegistrationLedger ledger = new RegistrationLedger();
+        Waitlist waitlist = new Waitlist();
+        List<Registration> confirmed = new ArrayList<>();
+        for (int i = 0; i < capacity; i++) {
+            Attendee attendee = new Attendee(UUID.randomUUID(), "Fan-" + i, "fan" + i + "@example.com", null);
+            confirmed.add(RegistrationOperations.registerOrWaitlist(concert, attendee, ledger, waitlist));
+        }
+        assert confirmed.stream().allMatch(r -> r.status() == RegistrationStatus.CONFIRMED) : "Seats should be confirmed first";
+        for (int i = 0; i < 1_000; i++) {
+            Attendee attendee = new Attendee(UUID.randomUUID(), "Waiting-" + i, "waiting" + i + "@example.com", null);
+            Registration pending = RegistrationOperations.registerOrWaitlist(concert, attendee, ledger, waitlist);
+            assert pending.status() == RegistrationStatus.PENDING : "Sold-out events should waitlist";
+        }
+        List<Registration> queued = waitlist.entries(concert.id());
+        assert queued.size() == 1_000 && waitlist.size(concert.id()) == 1_000 : "Waitlist should hold every late attendee";
+
+        // The head withdraws; the next in line takes its place.
+        Registration withdrawn = RegistrationOperations.updateStatus(queued.get(0), RegistrationStatus.CANCELLED, ledger, waitlist).updated();
+        assert withdrawn.status() == RegistrationStatus.CANCELLED && waitlist.size(concert.id()) == 999 : "Withdrawal should leave the queue";
+
+        Set<UUID> promoted = ConcurrentHashMap.newKeySet();
+        try (var scope = new OperationsTaskScope<>("CancelStress", new OperationContext.NonTransactional(),
+                new TaskCompletionHandler<StatusChange>() {
+                    @Override public void onSuccess(StatusChange value) {
+                        Registration next = value.promoted().orElseThrow(() -> new AssertionError("Every cancellation should promote"));
+                        assert next.status() == RegistrationStatus.CONFIRMED : "Promoted registrations should be confirmed";
+                        boolean first = promoted.add(next.id());
+                        assert first : "A waitlisted registration was promoted twice";
+                    }
+                    @Override public void onFailure(Throwable t) { throw new AssertionError("Unexpected failure: " + t); }
+                })) {
+            for (Registration registration : confirmed) {
+                scope.fork(() -> new OperationResult.Success<>(
+                        RegistrationOperations.updateStatus(registration, RegistrationStatus.CANCELLED, ledger, waitlist)));
+            }
+            scope.join();
+        }
+        Set<UUID> expected = queued.subList(1, capacity + 1).stream().map(Registration::id).collect(Collectors.toSet());
+        assert promoted.equals(expected) : "Promotion should follow the waitlist order";
+        assert ledger.confirmedCount(concert.id()) == capacity : "Handing over seats should never free or oversell one";
+        assert ledger.count(concert.id(), RegistrationStatus.PENDING) == 1_000 - 1 - capacity : "Pending count drifted";
+        assert waitlist.size(concert.id()) == 1_000 - 1 - capacity : "Promoted registrations should leave the waitlist";
+
+        // With a revenue view listening to the ledger, the cancelled seat leaves revenue and the promoted one joins it.
+        Concert single = new Concert(EventId.generate(), "Single Seat", start, start.plusHours(3),
+                generateRandomLocation("Waitlist Test Locations"), 1, "Headliner", "Rock", new Money(new BigDecimal("40.00"), USD));
+        Registration seated = RegistrationOperations.registerOrWaitlist(single,
+                new Attendee(UUID.randomUUID(), "Seated", "seated@example.com", null), ledger, waitlist);
+        Registration waiting = RegistrationOperations.registerOrWaitlist(single,
+                new Attendee(UUID.randomUUID(), "Waiting", "waiting@example.com", null), ledger, waitlist);
+        RevenueView revenue = RevenueView.of(List.of(seated, waiting));
+        Money fee = new Money(new BigDecimal("40.00"), USD);
+        assert revenue.eventTotal(single).equals(fee) : "Only the seated registration counts";
+        ledger.addListener(revenue::transition);
+        StatusChange change = RegistrationOperations.updateStatus(seated, RegistrationStatus.CANCELLED, ledger, waitlist);
+        assert revenue.eventTotal(single).equals(fee) : "Promotion should replace the cancelled fee: " + revenue.eventTotal(single);
+        RegistrationOperations.updateStatus(change.promoted().orElseThrow(), RegistrationStatus.CANCELLED, ledger);
+        assert revenue.eventTotal(single).amount().signum() == 0 : "Cancelling the promoted seat should clear revenue";
+        System.out.println("Waitlist promotion test passed!");
+    }
+
+    private static void testBatchRegistration() {
+        System.out.println("Testing batch registration...");
+        Concert concert = generateRandomConcert("Batch Test Concerts");
+        RegistrationLedger ledger = new RegistrationLedger();
+        int preRegistered = RANDOM.nextInt(concert.maxAttendees());
+        for (int i = 0; i < preRegistered; i++) {
+            RegistrationOperations.registerForEvent(concert, generateRandomAttendee("Batch Test Attendees"), ledger).orElseThrow();
+        }
+        List<Attendee> group = new ArrayList<>();
+        int groupSize = concert.maxAttendees() + RANDOM.nextInt(10);
+        for (int i = 0; i < groupSize; i++) group.add(generateRandomAttendee("Batch Test Attendees"));
+
+        List<OperationResult<Registration>> results = RegistrationOperations.registerBatch(concert, group, ledger);
+        int expectedFilled = concert.maxAttendees() - preRegistered;
+        assert results.size() == groupSize : "Every attendee needs an outcome";
+        for (int i = 0; i < groupSize; i++) {
+            switch (results.get(i)) {
+                case OperationResult.Success<Registration> success -> {
+                    assert i < expectedFilled : "Attendee " + i + " registered beyond remaining capacity";
+                    assert success.value().attendee() == group.get(i) : "Registration out of attendee order";
+                }
+                case OperationResult.Failure<Registration> failure -> {
+                    assert i >= expectedFilled : "Attendee " + i + " rejected while capacity remained";
+                    assert failure.error() instanceof IllegalStateException : "Unexpected failure " + failure.error();
+                }
+            }
+        }
+        assert ledger.confirmedCount(concert.id()) == concert.maxAttendees() : "Batch should fill the event exactly";
+        assert ledger.count(concert.id(), RegistrationStatus.CONFIRMED) == concert.maxAttendees() : "Status counts should track the batch";
+        System.out.println("Batch registration test passed!");
+    }
+
+    private static void testRegistrationJournal() throws IOException {
+        System.out.println("Testing registration journal...");
+        Concert concert = generateRandomConcert("Journal Test Concerts");
+        Path directory = Files.createTempDirectory("registration-journal");
+        Journal.Options options = new Journal.Options(directory, 1 << 20, Journal.FsyncPolicy.ALWAYS, Duration.ZERO);
+        Map<UUID, Registration> expected = new HashMap<>();
+        try (RegistrationJournal journal = new RegistrationJournal(Journal.open(options))) {
+            for (int i = 0; i < 100; i++) {
+                Registration registration = RegistrationOperations.createRegistration(
+                        concert, generateRandomAttendee("Journal Test Attendees"), RegistrationStatus.CONFIRMED);
+                journal.recordCreated(registration);
+                if (i % 3 == 0) {
+                    registration = RegistrationOperations.updateStatus(registration, RegistrationStatus.CANCELLED);
+                    journal.recordStatusChange(registration);
+                }
+                expected.put(registration.id(), registration);
+            }
+        }
+
+        Map<UUID, Registration> replayed = new HashMap<>();
+        try (RegistrationJournal journal = new RegistrationJournal(Journal.open(options))) {
+            journal.replay(0, id -> id.equals(concert.id()) ? concert : null, new RegistrationJournal.Listener() {
+                @Override public void onCreated(long sequence, Registration registration) { replayed.put(registration.id(), registration); }
+                @Override public void onStatusChanged(long sequence, UUID id, RegistrationStatus status) {
+                    replayed.computeIfPresent(id, (k, r) -> RegistrationOperations.updateStatus(r, status));
+                }
+            });
+        }
+        assert replayed.equals(expected) : "Replayed registrations differ from recorded ones";
+        try (var files = Files.list(directory)) {
+            for (Path file : files.toList()) Files.delete(file);
+        }
+        Files.delete(directory);
+        System.out.println("Registration journal test passed!");
+    }
+
+    private static void testStateStoreRecovery() throws IOException, InterruptedException {
+        System.out.println("Testing snapshot and journal tail recovery...");
+        Path directory = Files.createTempDirectory("state-store");
+        Journal.Options options = new Journal.Options(directory.resolve("journal"), 1 << 16, Journal.FsyncPolicy.NEVER, Duration.ZERO);
+        List<Event> events = List.of(generateRandomConcert("Store Test Events"), generateRandomConference("Store Test Events"),
+                generateRandomExhibition("Store Test Events"), generateRandomWorkshop("Store Test Events"));
+        Map<UUID, Registration> expected = new HashMap<>();
+        try (EventStateStore store = EventStateStore.open(directory, options)) {
+            for (int i = 0; i < events.size(); i++) {
+                store.addEvent(events.get(i));
+                // Snapshot midway so recovery needs both the snapshot and the journal tail.
+                if (i == 1) store.snapshot();
+                for (int j = 0; j < 200; j++) {
+                    store.register(events.get(i), generateRandomAttendee("Store Test Attendees"))
+                            .ifPresent(r -> expected.put(r.id(), r));
+                }
+            }
+            for (UUID id : new ArrayList<>(expected.keySet()).subList(0, expected.size() / 4)) {
+                expected.put(id, store.updateStatus(id, RegistrationStatus.CANCELLED));
+            }
+        }
+
+        try (EventStateStore store = EventStateStore.open(directory, options)) {
+            assert store.events().equals(events) : "Recovered events differ from added ones";
+            Map<UUID, Registration> recovered = store.registrations().stream()
+                    .collect(Collectors.toMap(Registration::id, r -> r));
+            assert recovered.equals(expected) : "Recovered registrations differ from recorded ones";
+            assertSameTotals(RevenueAggregator.aggregate(expected.values()), store.revenue().totals(), "Recovered revenue view");
+            for (Event event : events) {
+                long seats = expected.values().stream()
+                        .filter(r -> r.event().id().equals(event.id()) && RegistrationLedger.holdsSeat(r.status()))
+                        .count();
+                assert store.ledger().confirmedCount(event.id()) == seats : "Recovered ledger seat count mismatch";
+            }
+            store.snapshot();
+        }
+
+        try (EventStateStore store = EventStateStore.open(directory, options)) {
+            assert store.registrations().size() == expected.size() : "Snapshot-only recovery lost registrations";
+            // Racing additions of one event: exactly one of them journals it.
+            for (int round = 0; round < 20; round++) {
+                Event late = generateRandomConcert("Store Test Events");
+                CountDownLatch start = new CountDownLatch(1);
+                AtomicInteger added = new AtomicInteger();
+                List<Thread> adders = new ArrayList<>();
+                for (int i = 0; i < 16; i++) {
+                    adders.add(Thread.ofPlatform().start(() -> {
+                        try {
+                            start.await();
+                            store.addEvent(late);
+                            added.incrementAndGet();
+                        } catch (IllegalArgumentException expectedDuplicate) {
+                            // Lost the race
+                        } catch (IOException | InterruptedException e) {
+                            throw new AssertionError(e);
+                        }
+                    }));
+                }
+                start.countDown();
+                for (Thread adder : adders) adder.join();
+                assert added.get() == 1 : "Event added " + added.get() + " times";
+            }
+        }
+        try (var paths = Files.walk(directory)) {
+            for (Path path : paths.sorted(Comparator.reverseOrder()).toList()) Files.delete(path);
+        }
+        System.out.println("Snapshot and journal tail recovery test passed!");
+    }
+
+    private static void testDomainCodec() throws IOException {
+        System.out.println("Testing binary domain codec...");
+        List<Event> events = new ArrayList<>();
+        List<Registration> registrations = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            Event event = switch (i % 4) {
+                case 0 -> generateRandomConcert("Codec Test Events");
+                case 1 -> generateRandomConference("Codec Test Events");
+                case 2 -> generateRandomExhibition("Codec Test Events");
+                default -> generateRandomWorkshop("Codec Test Events");
+            };
+            events.add(event);
+            // Multi-byte and surrogate-pair characters plus a null phone exercise the string paths.
+            Attendee attendee = new Attendee(UUID.randomUUID(), "Zoë-\uD83C\uDFB5-" + i, "user" + i + "@example.com",
+                    i % 3 == 0 ? null : "555-" + i);
+            Registration registration = new Registration(UUID.randomUUID(), event, attendee,
+                    LocalDateTime.now().minusDays(RANDOM.nextInt(1000)), RegistrationStatus.values()[i % RegistrationStatus.values().length]);
+            registrations.add(registration);
+
+            ByteBuffer heap = ByteBuffer.allocate(DomainCodec.encodedSize(registration));
+            DomainCodec.writeRegistration(heap, registration);
+            assert !heap.hasRemaining() : "Encoded size does not match bytes written";
+            ByteBuffer direct = ByteBuffer.allocateDirect(heap.capacity()).put(heap.flip()).flip();
+            assert DomainCodec.readRegistration(heap.rewind()).equals(registration) : "Heap buffer round trip failed";
+            assert DomainCodec.readRegistration(direct).equals(registration) : "Direct buffer round trip failed";
+        }
+        for (int i = 0; registrations.size() < 20_000; i++) {
+            Registration source = registrations.get(i);
+            registrations.add(new Registration(UUID.randomUUID(), source.event(), source.attendee(),
+                    source.registrationTime(), source.status()));
+        }
+
+        // Larger than the snapshot buffers, so values straddle refills.
+        Path file = Files.createTempFile("snapshot", ".bin");
+        StateSnapshot.write(file, 42, events, registrations);
+        List<Event> readEvents = new ArrayList<>();
+        List<Registration> readRegistrations = new ArrayList<>();
+        assert StateSnapshot.read(file, readEvents::add, readRegistrations::add) == 42 : "Snapshot sequence lost";
+        assert StateSnapshot.registrationCount(file) == registrations.size() : "Snapshot header count mismatch";
+        assert readEvents.equals(events) && readRegistrations.equals(registrations) : "Snapshot round trip failed";
+        Files.delete(file);
+        System.out.println("Binary domain codec test passed!");
+    }
+
+    private static void testFlyweights() {
+        System.out.println("Testing flyweight interning...");
+        LocalDateTime start = LocalDateTime.now();
+        Money fee = new Money(BigDecimal.TEN, USD);
+        Concert first = new Concert(EventId.generate(), "First", start, start.plusHours(2),
+                new Location(new String("Hall"), new String("1 Main St")), 10, "Artist", new String("Jazz"), fee);
+        Concert second = new Concert(EventId.generate(), "Second", start, start.plusHours(2),
+                new Location(new String("Hall"), new String("1 Main St")), 10, "Artist", new String("Jazz"), fee);
+        assert first.location() == second.location() : "Equal locations should share one instance";
+        assert first.genre() == second.genre() : "Equal genres should share one instance";
+
+        ByteBuffer buffer = ByteBuffer.allocate(DomainCodec.encodedSize(first));
+        DomainCodec.writeEvent(buffer, first);
+        Concert decoded = (Concert) DomainCodec.readEvent(buffer.flip());
+        assert decoded.location() == first.location() && decoded.genre() == first.genre()
+                : "Decoded events should share interned values";
+        System.out.println("Flyweight interning test passed!");
+    }
+
+    private static void testColumnarStore() {
+        System.out.println("Testing columnar registration store...");
+        LocalDateTime from = LocalDateTime.now().withNano(0).minusHours(48);
+        // Whole-cent fees, so the minor-unit aggregates cover every row.
+        List<Event> events = List.of(
+                new Concert(EventId.generate(), "Columnar Concert", from, from.plusHours(3), generateRandomLocation("Columnar Test Locations"),
+                        500, "Artist", "Rock", new Money(new BigDecimal("45.50"), USD)),
+                new Workshop(EventId.generate(), "Columnar Workshop", from, from.plusHours(2), generateRandomLocation("Columnar Test Locations"),
+                        500, "Instructor", "Beginner", new Money(new BigDecimal("120"), USD), 30),
+                new Exhibition(EventId.generate(), "Columnar Exhibition", from, from.plusDays(3), generateRandomLocation("Columnar Test Locations"),
+                        500, "Theme", List.of("Exhibitor"), new Money(new BigDecimal("7.25"), USD)));
+        ColumnarRegistrationStore store = new ColumnarRegistrationStore(USD, 4);
+        List<Registration> registrations = new ArrayList<>();
+        for (int i = 0; i < 1_000; i++) {
+            Registration registration = new Registration(UUID.randomUUID(), events.get(RANDOM.nextInt(events.size())),
+                    generateRandomAttendee("Columnar Test Attendees"), from.plusMinutes(RANDOM.nextInt(60 * 50)),
+                    RegistrationStatus.values()[RANDOM.nextInt(RegistrationStatus.values().length)]);
+            int row = store.append(registration);
+            assert row == i : "Rows should be assigned in append order, got " + row;
+            registrations.add(registration);
+        }
+        for (int row = 0; row < registrations.size(); row += 7) {
+            store.updateStatus(row, RegistrationStatus.CANCELLED);
+            registrations.set(row, RegistrationOperations.updateStatus(registrations.get(row), RegistrationStatus.CANCELLED));
+        }
+
+        for (int row = 0; row < registrations.size(); row++) {
+            assert store.registration(row).equals(registrations.get(row)) : "Row " + row + " does not round trip";
+        }
+        long[] revenue = store.revenueByStatus();
+        int[] perEvent = store.countByEvent();
+        int[] perHour = store.registrationsPerHour(from, 48);
+        for (RegistrationStatus status : RegistrationStatus.values()) {
+            long expected = registrations.stream().filter(r -> r.status() == status)
+                    .mapToLong(r -> MoneyOperations.toCompact(EventOperations.getEventFee(r.event())).minorUnits()).sum();
+            assert revenue[status.ordinal()] == expected : "Revenue mismatch for " + status;
+        }
+        for (Event event : events) {
+            long expected = registrations.stream().filter(r -> r.event().equals(event)).count();
+            int ordinal = store.eventOrdinal(event.id());
+            assert expected == 0 ? ordinal < 0 || perEvent[ordinal] == 0 : perEvent[ordinal] == expected : "Count mismatch for " + event.name();
+        }
+        for (int hour = 0; hour < 48; hour++) {
+            LocalDateTime bucket = from.plusHours(hour);
+            long expected = registrations.stream()
+                    .filter(r -> !r.registrationTime().isBefore(bucket) && r.registrationTime().isBefore(bucket.plusHours(1)))
+                    .count();
+            assert perHour[hour] == expected : "Hourly count mismatch at hour " + hour;
+        }
+        long confirmed = store.count((event, attendee, at, status, fee) -> status == RegistrationStatus.CONFIRMED);
+        assert confirmed == registrations.stream().filter(r -> r.status() == RegistrationStatus.CONFIRMED).count()
+                : "Filtered count mismatch";
+        System.out.println("Columnar registration store test passed!");
+    }
+
+    private static void testOffHeapStore() throws IOException {
+        System.out.println("Testing off-heap registration store...");
+        LocalDateTime from = LocalDateTime.now().withNano(0).minusHours(24);
+        List<Event> events = List.of(
+                new Concert(EventId.generate(), "Off-Heap Concert", from, from.plusHours(3), generateRandomLocation("Off-Heap Test Locations"),
+                        500, "Artist", "Jazz", new Money(new BigDecimal("30.00"), USD)),
+                new Exhibition(EventId.generate(), "Off-Heap Exhibition", from, from.plusDays(2), generateRandomLocation("Off-Heap Test Locations"),
+                        500, "Theme", List.of("Exhibitor"), new Money(new BigDecimal("12.75"), USD)));
+        ColumnarRegistrationStore reference = new ColumnarRegistrationStore(USD);
+        Path directory = Files.createTempDirectory("off-heap-table");
+        try (OffHeapRegistrationStore allocated = OffHeapRegistrationStore.allocate(USD, 4);
+             OffHeapRegistrationStore mapped = OffHeapRegistrationStore.open(directory, USD, 4)) {
+            for (int i = 0; i < 2_000; i++) {
+                // Some attendees register more than once, so the tables must find them again rather than add them.
+                Attendee attendee = i % 7 == 3 ? reference.registration(RANDOM.nextInt(i)).attendee()
+                        : generateRandomAttendee("Off-Heap Test Attendees");
+                Registration registration = new Registration(UUID.randomUUID(), events.get(RANDOM.nextInt(events.size())),
+                        attendee, from.plusMinutes(RANDOM.nextInt(60 * 24)),
+                        RegistrationStatus.values()[RANDOM.nextInt(RegistrationStatus.values().length)]);
+                int row = reference.append(registration);
+                int allocatedRow = allocated.append(registration);
+                int mappedRow = mapped.append(registration);
+                assert allocatedRow == row && mappedRow == row : "Rows should line up";
+                if (i % 5 == 0) {
+                    reference.updateStatus(row, RegistrationStatus.CANCELLED);
+                    allocated.updateStatus(row, RegistrationStatus.CANCELLED);
+                    mapped.updateStatus(row, RegistrationStatus.CANCELLED);
+                }
+            }
+            assertSameTable(reference, allocated, from);
+            assertSameTable(reference, mapped, from);
+        }
+
+        try (OffHeapRegistrationStore reopened = OffHeapRegistrationStore.open(directory, USD)) {
+            assertSameTable(reference, reopened, from);
+            Registration extra = new Registration(UUID.randomUUID(), events.get(0), generateRandomAttendee("Off-Heap Test Attendees"),
+                    from, RegistrationStatus.CONFIRMED);
+            int reopenedRow = reopened.append(extra);
+            int referenceRow = reference.append(extra);
+            assert reopenedRow == referenceRow : "Appends should continue after the recovered rows";
+        }
+        try (OffHeapRegistrationStore reopened = OffHeapRegistrationStore.open(directory, USD)) {
+            assertSameTable(reference, reopened, from);
+        }
+        try {
+            OffHeapRegistrationStore.open(directory, Currency.getInstance("EUR")).close();
+            throw new AssertionError("Opening a table in another currency should fail");
+        } catch (IllegalArgumentException expected) {
+            // Expected
+        }
+
+        // Totals past the range of minor units fail rather than wrap.
+        Concert priceless = new Concert(EventId.generate(), "Priceless Concert", from, from.plusHours(3),
+                generateRandomLocation("Off-Heap Test Locations"), 500, "Artist", "Jazz",
+                new Money(new BigDecimal("60000000000000000.00"), USD));
+        try (OffHeapRegistrationStore allocated = OffHeapRegistrationStore.allocate(USD, 4)) {
+            ColumnarRegistrationStore columnar = new ColumnarRegistrationStore(USD, 4);
+            for (int i = 0; i < 2; i++) {
+                Registration registration = new Registration(UUID.randomUUID(), priceless,
+                        generateRandomAttendee("Off-Heap Test Attendees"), from, RegistrationStatus.CONFIRMED);
+                columnar.append(registration);
+                allocated.append(registration);
+            }
+            for (RegistrationTable table : List.of(columnar, allocated)) {
+                assertOverflows(table::revenueByStatus, "revenueByStatus");
+                assertOverflows(table::revenueAmountsByStatus, "revenueAmountsByStatus");
+                assertOverflows(() -> table.sumFees((event, attendee, at, status, fee) -> true), "sumFees");
+            }
+        }
+        System.out.println("Off-heap registration store test passed!");
+    }
+
+    private static void assertOverflows(Runnable aggregate, String name) {
+        try {
+            aggregate.run();
+            throw new AssertionError(name + " should detect overflow");
+        } catch (ArithmeticException expected) {
+            // Expected
+        }
+    }
+
+    private static void testSubMinorUnitFees() throws IOException {
+        System.out.println("Testing fees finer than a minor unit...");
+        LocalDateTime from = LocalDateTime.now().withNano(0).minusHours(24);
+        Concert fine = new Concert(EventId.generate(), "Sub-Cent Concert", from, from.plusHours(3),
+                generateRandomLocation("Sub-Cent Test Locations"), 500, "Artist", "Jazz", new Money(new BigDecimal("10.005"), USD));
+        Concert whole = new Concert(EventId.generate(), "Whole-Cent Concert", from, from.plusHours(3),
+                generateRandomLocation("Sub-Cent Test Locations"), 500, "Artist", "Jazz", new Money(new BigDecimal("2.50"), USD));
+        List<Registration> registrations = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            registrations.add(new Registration(UUID.randomUUID(), i % 2 == 0 ? fine : whole,
+                    generateRandomAttendee("Sub-Cent Test Attendees"), from.plusMinutes(i), RegistrationStatus.CONFIRMED));
+        }
+        RegistrationTable.RowFilter all = (event, attendee, at, status, fee) -> true;
+        Path directory = Files.createTempDirectory("sub-cent-table");
+        try (OffHeapRegistrationStore mapped = OffHeapRegistrationStore.open(directory, USD, 4)) {
+            ColumnarRegistrationStore columnar = new ColumnarRegistrationStore(USD, 4);
+            for (Registration registration : registrations) {
+                columnar.append(registration);
+                mapped.append(registration);
+            }
+            for (RegistrationTable table : List.of(columnar, mapped)) {
+                assert table.exactFee(table.eventOrdinal(fine.id())).compareTo(new BigDecimal("10.005")) == 0 : "Exact fee should be kept";
+                assert table.exactFee(table.eventOrdinal(whole.id())) == null : "Whole-cent fees stay in minor units";
+                assert table.revenueByStatus()[RegistrationStatus.CONFIRMED.ordinal()] == 5 * 250 : "Minor units leave out exact fees";
+                assert table.sumFeeAmounts(all).compareTo(new BigDecimal("62.525")) == 0 : "Exact sum: " + table.sumFeeAmounts(all);
+                assert table.revenueAmountsByStatus()[RegistrationStatus.CONFIRMED.ordinal()].compareTo(new BigDecimal("62.525")) == 0
+                        : "Exact revenue by status";
+            }
+        }
+        try (OffHeapRegistrationStore reopened = OffHeapRegistrationStore.open(directory, USD)) {
+            assert reopened.sumFeeAmounts(all).compareTo(new BigDecimal("62.525")) == 0 : "Exact fees should survive a reopen";
+        }
+        System.out.println("Sub-minor-unit fee test passed!");
+    }
+
+    private static void assertSameTable(RegistrationTable expected, RegistrationTable actual, LocalDateTime from) {
+        assert actual.size() == expected.size() : "Size mismatch: " + actual.size();
+        for (int row = 0; row < expected.size(); row++) {
+            assert actual.registration(row).equals(expected.registration(row)) : "Row " + row + " does not match";
+        }
+        assert Arrays.equals(actual.revenueByStatus(), expected.revenueByStatus()) : "Revenue mismatch";
+        assert Arrays.equals(actual.countByEvent(), expected.countByEvent()) : "Per-event count mismatch";
+        assert Arrays.equals(actual.registrationsPerHour(from, 24), expected.registrationsPerHour(from, 24)) : "Hourly count mismatch";
+        RegistrationTable.RowFilter pending = (event, attendee, at, status, fee) -> status == RegistrationStatus.PENDING;
+        assert actual.sumFees(pending) == expected.sumFees(pending) : "Filtered sum mismatch";
+        RegistrationTable.RowFilter firstAttendee = (event, attendee, at, status, fee) -> attendee == 0;
+        assert actual.count(firstAttendee) == expected.count(firstAttendee) : "Attendee ordinal mismatch";
+    }
+
     private static void testRevenueCalculation() throws InterruptedException, ExecutionException {
         System.out.println("Testing revenue calculation...");
         Concert concert = generateRandomConcert("Revenue Test Concerts");
         List<Registration> registrations = new ArrayList<>();
         int numRegistrations = RANDOM.nextInt(concert.maxAttendees() + 1);
 
-        try (var scope = new OperationsTaskScope<>("GenerateRegistrations", new OperationContext.NonTransactional(),
+        ConcurrencyLimit limit = ConcurrencyLimit.aimd(16, 4, 256, 2.0);
+        try (var scope = new BoundedOperationsTaskScope<>("GenerateRegistrations", new OperationContext.NonTransactional(),
                 new TaskCompletionHandler<Registration>() {
                     @Override public void onSuccess(Registration value) { registrations.add(value); }
                     @Override public void onFailure(Throwable t) { throw new AssertionError("Unexpected failure: " + t); }
-                })) {
+                }, limit)) {
             for (int i = 0; i < numRegistrations; i++) {
                 scope.fork(() -> new OperationResult.Success<>(RegistrationOperations.createRegistration(
                         concert, generateRandomAttendee("Revenue Test Attendees"),
@@ -101,6 +687,7 @@ public class EventManagementDemoTest {
             }
             scope.join();
         }
+        assert limit.snapshot().inFlight() == 0 : "Every permit should be returned";
 
         Money expectedRevenue = MoneyOperations.sum(
                 registrations.stream()
@@ -110,9 +697,128 @@ public class EventManagementDemoTest {
         );
         Money actualRevenue = RegistrationOperations.calculateTotalRevenue(registrations);
         assert expectedRevenue.amount().equals(actualRevenue.amount()) : "Revenue mismatch: expected " + expectedRevenue + ", got " + actualRevenue;
+
+        Map<Currency, Money> byCurrency = RegistrationOperations.calculateRevenueByCurrency(registrations);
+        Money aggregated = byCurrency.getOrDefault(USD, new Money(BigDecimal.ZERO, USD));
+        assert aggregated.amount().compareTo(expectedRevenue.amount()) == 0 : "Aggregator mismatch: expected " + expectedRevenue + ", got " + aggregated;
+
+        Currency eur = Currency.getInstance("EUR");
+        Concert euroConcert = new Concert(EventId.generate(), "Euro Tour", concert.startTime(), concert.endTime(),
+                concert.location(), concert.maxAttendees(), concert.artist(), concert.genre(), new Money(new BigDecimal("42.50"), eur));
+        List<Registration> mixed = new ArrayList<>(registrations);
+        mixed.add(RegistrationOperations.createRegistration(euroConcert, generateRandomAttendee("Revenue Test Attendees"), RegistrationStatus.CONFIRMED));
+        mixed.add(RegistrationOperations.createRegistration(euroConcert, generateRandomAttendee("Revenue Test Attendees"), RegistrationStatus.ATTENDED));
+        Map<Currency, Money> mixedTotals = RegistrationOperations.calculateRevenueByCurrency(mixed);
+        assert mixedTotals.get(eur).amount().compareTo(new BigDecimal("85.00")) == 0 : "EUR total mismatch: " + mixedTotals;
+        assert mixedTotals.getOrDefault(USD, aggregated).amount().compareTo(expectedRevenue.amount()) == 0 : "USD total disturbed by EUR: " + mixedTotals;
         System.out.println("Revenue test passed!");
     }
 
+    private static void testRevenueView() throws InterruptedException {
+        System.out.println("Testing incremental revenue view...");
+        LocalDateTime start = LocalDateTime.now().plusDays(1);
+        // Random USD fees carry sub-cent digits; the EUR and JPY fees stay in minor units.
+        List<Event> events = List.of(generateRandomConcert("Revenue View Test Events"), generateRandomWorkshop("Revenue View Test Events"),
+                generateRandomConference("Revenue View Test Events"),
+                new Exhibition(EventId.generate(), "Euro Expo", start, start.plusDays(2), generateRandomLocation("Revenue View Test Locations"),
+                        10_000, "Theme", List.of("Exhibitor"), new Money(new BigDecimal("15.50"), Currency.getInstance("EUR"))),
+                new Concert(EventId.generate(), "Tokyo Night", start, start.plusHours(3), generateRandomLocation("Revenue View Test Locations"),
+                        10_000, "Artist", "Pop", new Money(new BigDecimal("3000"), Currency.getInstance("JPY"))));
+        RegistrationStatus[] statuses = RegistrationStatus.values();
+        RevenueView view = new RevenueView();
+        Map<UUID, Registration> latest = new ConcurrentHashMap<>();
+        AtomicInteger reads = new AtomicInteger();
+
+        try (var scope = new OperationsTaskScope<>("RevenueViewStress", new OperationContext.NonTransactional(),
+                new TaskCompletionHandler<Integer>() {
+                    @Override public void onSuccess(Integer value) { }
+                    @Override public void onFailure(Throwable t) { throw new AssertionError("Unexpected failure: " + t); }
+                })) {
+            for (int task = 0; task < 200; task++) {
+                scope.fork(() -> {
+                    ThreadLocalRandom random = ThreadLocalRandom.current();
+                    for (int i = 0; i < 50; i++) {
+                        Registration current = new Registration(UUID.randomUUID(), events.get(random.nextInt(events.size())),
+                                generateRandomAttendee("Revenue View Test Attendees"), LocalDateTime.now(), statuses[random.nextInt(statuses.length)]);
+                        view.record(current);
+                        for (int changes = random.nextInt(5); changes > 0; changes--) {
+                            RegistrationStatus next = statuses[random.nextInt(statuses.length)];
+                            view.transition(current, next);
+                            current = RegistrationOperations.updateStatus(current, next);
+                        }
+                        latest.put(current.id(), current);
+                        // Reads race the writers; a total that went negative would fail to build its Money.
+                        view.totals();
+                        reads.incrementAndGet();
+                    }
+                    return new OperationResult.Success<>(50);
+                });
+            }
+            scope.join();
+        }
+
+        Collection<Registration> registrations = latest.values();
+        assert registrations.size() == 10_000 && reads.get() == 10_000 : "Every task should finish";
+        Map<Currency, Money> expected = RevenueAggregator.aggregate(registrations);
+        assertSameTotals(expected, view.totals(), "Currency totals");
+        expected.forEach((currency, money) -> {
+            assert view.total(currency).amount().compareTo(money.amount()) == 0 : "Single-currency read drifted";
+        });
+        for (Event event : events) {
+            BigDecimal fromScratch = registrations.stream()
+                    .filter(r -> r.event().id().equals(event.id()) && RevenueAggregator.countsAsRevenue(r.status()))
+                    .map(r -> EventOperations.getEventFee(r.event()).amount())
+                    .reduce(BigDecimal.ZERO, BigDecimal::add);
+            assert view.eventTotal(event).amount().compareTo(fromScratch) == 0 : "Event total drifted for " + event.name();
+        }
+        for (Class<? extends Event> type : List.of(Concert.class, Workshop.class, Conference.class, Exhibition.class)) {
+            assertSameTotals(RevenueAggregator.aggregate(registrations.stream().filter(r -> r.event().getClass() == type).toList()),
+                    view.typeTotals(type), type.getSimpleName() + " totals");
+        }
+        System.out.println("Incremental revenue view test passed!");
+    }
+
+    // Compares amounts numerically; a currency missing on one side counts as zero.
+    private static void assertSameTotals(Map<Currency, Money> expected, Map<Currency, Money> actual, String what) {
+        Set<Currency> currencies = new HashSet<>(expected.keySet());
+        currencies.addAll(actual.keySet());
+        for (Currency currency : currencies) {
+            BigDecimal want = expected.containsKey(currency) ? expected.get(currency).amount() : BigDecimal.ZERO;
+            BigDecimal got = actual.containsKey(currency) ? actual.get(currency).amount() : BigDecimal.ZERO;
+            assert want.compareTo(got) == 0 : what + " drifted for " + currency + ": " + got + " vs " + want;
+        }
+    }
+
+    private static void testCompactMoney() {
+        System.out.println("Testing compact money...");
+        for (int i = 0; i < 1_000; i++) {
+            Money money = new Money(BigDecimal.valueOf(RANDOM.nextLong(0, 10_000_000), 2), USD);
+            assert MoneyOperations.isCompactable(money) : "Two-decimal USD amount should be compactable: " + money;
+            Money roundTrip = MoneyOperations.toMoney(MoneyOperations.toCompact(money));
+            assert roundTrip.amount().compareTo(money.amount()) == 0 && roundTrip.currency().equals(USD)
+                    : "Round trip changed value: " + money + " -> " + roundTrip;
+        }
+        assert !MoneyOperations.isCompactable(new Money(new BigDecimal("1.005"), USD)) : "Sub-cent amount cannot be compacted";
+
+        CompactMoney a = MoneyOperations.toCompact(new Money(new BigDecimal("10.25"), USD));
+        CompactMoney b = MoneyOperations.toCompact(new Money(new BigDecimal("0.75"), USD));
+        assert MoneyOperations.add(a, b).minorUnits() == 1_100 : "Compact add mismatch";
+        assert MoneyOperations.subtract(a, b).minorUnits() == 950 : "Compact subtract mismatch";
+        try {
+            MoneyOperations.add(new CompactMoney(Long.MAX_VALUE, a.currencyCode()), b);
+            throw new AssertionError("Overflow should be detected");
+        } catch (ArithmeticException e) {
+            // Expected
+        }
+        try {
+            MoneyOperations.add(a, CompactMoney.zero(Currency.getInstance("EUR")));
+            throw new AssertionError("Mixed currencies should be rejected");
+        } catch (IllegalArgumentException e) {
+            // Expected
+        }
+        System.out.println("Compact money test passed!");
+    }
+
     private static void testEventTimeRangeFilter() throws InterruptedException, ExecutionException {
         System.out.println("Testing event time range filter...");
         List<Event> events = new ArrayList<>();
@@ -136,9 +842,40 @@ public class EventManagementDemoTest {
         for (Event e : filtered) {
             assert !e.startTime().isBefore(start) && !e.endTime().isAfter(end) : "Event " + e + " outside range " + start + " to " + end;
         }
+
+        EventCatalog catalog = new EventCatalog(events);
+        List<Event> indexed = EventOperations.findEventsByTimeRange(catalog, start, end);
+        assert new HashSet<>(indexed).equals(new HashSet<>(filtered)) : "Catalog range query disagrees with scan: " + indexed + " vs " + filtered;
+        for (Event e : events) {
+            assert catalog.findById(e.id()).orElseThrow() == e : "Catalog lost event " + e.id();
+            assert catalog.findByLocation(e.location()).contains(e) : "Location index missing " + e.id();
+            assert catalog.findByType(e.getClass()).contains(e) : "Type index missing " + e.id();
+        }
         System.out.println("Time range filter test passed!");
     }
 
+    private static void testParallelSearch() {
+        System.out.println("Testing parallel event search...");
+        Concert template = generateRandomConcert("Parallel Search Concerts");
+        List<Event> events = new ArrayList<>();
+        for (int i = 0; i < 50_000; i++) {
+            events.add(new Concert(EventId.generate(), "Concert-" + i, template.startTime(), template.endTime(),
+                    template.location(), RANDOM.nextInt(100) + 1, template.artist(), template.genre(), template.ticketPrice()));
+        }
+        Predicate<Event> criteria = e -> e.maxAttendees() > 90;
+        List<Event> expected = EventOperations.searchEvents(events, criteria);
+        SearchOptions options = SearchOptions.defaults().withParallelThreshold(1_000);
+
+        assert EventOperations.searchEvents(events, criteria, options).equals(expected) : "Ordered parallel search must match sequential search";
+        assert EventOperations.searchEvents(events, criteria, options.withLimit(25)).equals(expected.subList(0, 25))
+                : "Ordered limited search must return the first matches";
+        List<Event> unordered = EventOperations.searchEvents(events, criteria, options.withOrdered(false).withLimit(25));
+        assert unordered.size() == 25 && expected.containsAll(unordered) : "Unordered limited search returned wrong matches";
+        assert EventOperations.searchEvents(events.subList(0, 500), criteria, options)
+                .equals(EventOperations.searchEvents(events.subList(0, 500), criteria)) : "Small lists must fall back to sequential search";
+        System.out.println("Parallel search test passed!");
+    }
+
     private static void testEventTypeSafety() {
         System.out.println("Testing event type safety...");
         // Attempt invalid constructions and verify they fail
@@ -177,6 +914,44 @@ public class EventManagementDemoTest {
         System.out.println("Type safety test passed!");
     }
 
+    private static void testBulkValidation() {
+        System.out.println("Testing bulk validation...");
+        LocalDateTime start = LocalDateTime.now();
+        long concertErrors = EventValidations.checkConcert(" ", start, start.minusHours(1), null, 0, "");
+        assert ValidationError.decode(concertErrors).equals(EnumSet.of(ValidationError.ARTIST_BLANK, ValidationError.EVENT_NAME_BLANK,
+                ValidationError.END_BEFORE_START, ValidationError.LOCATION_MISSING, ValidationError.MAX_ATTENDEES_NOT_POSITIVE))
+                : "Every failed check should be reported: " + ValidationError.decode(concertErrors);
+        assert EventValidations.checkAttendee(null, "", "nobody") == (ValidationError.ATTENDEE_ID_MISSING.bit()
+                | ValidationError.ATTENDEE_NAME_BLANK.bit() | ValidationError.EMAIL_INVALID.bit()) : "Attendee errors should accumulate";
+        assert EventValidations.checkMoney(BigDecimal.ONE.negate(), null) == (ValidationError.CURRENCY_MISSING.bit()
+                | ValidationError.AMOUNT_NEGATIVE.bit()) : "Money errors should accumulate";
+        assert EventValidations.checkLocation("Hall", "Main Street") == 0 : "Valid location should have no errors";
+
+        // Screened rows must agree with the constructors: 0 builds, anything else throws the lowest error's message.
+        int accepted = 0;
+        for (int row = 0; row < 100_000; row++) {
+            String name = RANDOM.nextInt(10) == 0 ? " " : "Import-" + row;
+            LocalDateTime end = start.plusHours(RANDOM.nextInt(10) - 1);
+            Location location = RANDOM.nextInt(20) == 0 ? null : new Location("Hall", "Main Street");
+            int maxAttendees = RANDOM.nextInt(50) - 1;
+            String instructor = RANDOM.nextInt(10) == 0 ? "" : "Instructor-" + row;
+            int maxParticipants = RANDOM.nextInt(20) - 1;
+            long errors = EventValidations.checkWorkshop(name, start, end, location, maxAttendees, instructor, "Beginner", maxParticipants);
+            try {
+                new Workshop(EventId.generate(), name, start, end, location, maxAttendees, instructor, "Beginner",
+                        new Money(BigDecimal.TEN, USD), maxParticipants);
+                assert errors == 0 : "Constructor accepted a row with errors " + ValidationError.decode(errors);
+                accepted++;
+            } catch (IllegalArgumentException e) {
+                assert errors != 0 : "Constructor rejected a row that passed: " + e.getMessage();
+                ValidationError first = ValidationError.values()[Long.numberOfTrailingZeros(errors)];
+                assert e.getMessage().equals(first.message()) : "Expected " + first + " but constructor said " + e.getMessage();
+            }
+        }
+        assert accepted > 0 && accepted < 100_000 : "Generated rows should include both outcomes";
+        System.out.println("Bulk validation test passed!");
+    }
+
     // --- Data Generators ---
 
     private static Concert generateRandomConcert(String statKey) {
@@ -0,0 +1,12 @@
+plugins {
+    id("core-library")
+}
+group = "com.example.core.repository"
+version = "1.0.0"
+
+dependencies {
+    api(project(":common"))
+    api(project(":domain"))
+    implementation(project(":operations"))
+    testImplementation("com.h2database:h2:2.3.232")
+}
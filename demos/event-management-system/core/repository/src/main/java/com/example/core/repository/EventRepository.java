@@ -0,0 +1,262 @@
+package com.example.core.repository;
+
+import com.example.core.common.utilities.operations.OperationContext;
+import com.example.core.domain.*;
+import com.example.core.operations.EventOperations;
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.time.LocalDateTime;
+import java.util.Currency;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+/**
+ * JDBC persistence for the sealed {@link Event} hierarchy. Writes are sent with {@code addBatch}/{@code executeBatch}
+ * in chunks of {@link #BATCH_SIZE}; reads stream rows with a fetch size instead of loading whole tables.
+ * All work runs on the connection of the context's transaction.
+ */
+public final class EventRepository {
+    static final int BATCH_SIZE = 1_000;
+    static final int FETCH_SIZE = 1_000;
+
+    private static final String INSERT_EVENT = """
+            INSERT INTO events (id, type, name, start_time, end_time, location_name, location_address, max_attendees,
+                                fee_unscaled, fee_scale, fee_currency, artist, genre, theme, instructor, skill_level,
+                                max_participants)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)""";
+    private static final String INSERT_ITEM = "INSERT INTO event_items (event_id, kind, position, item) VALUES (?, ?, ?, ?)";
+    private static final String SELECT_EVENTS = """
+            SELECT e.*, i.kind, i.item FROM events e
+            LEFT JOIN event_items i ON i.event_id = e.id
+            %s ORDER BY e.id, i.kind, i.position""";
+    private static final String SELECT_ALL = SELECT_EVENTS.formatted("");
+    private static final String SELECT_BY_ID = SELECT_EVENTS.formatted("WHERE e.id = ?");
+    private static final String DELETE_ITEMS = "DELETE FROM event_items WHERE event_id = ?";
+    private static final String DELETE_EVENT = "DELETE FROM events WHERE id = ?";
+
+    private static final char SPEAKER = 'S';
+    private static final char TOPIC = 'T';
+    private static final char EXHIBITOR = 'X';
+
+    private final OperationContext.Transactional context;
+
+    public EventRepository(OperationContext.Transactional context) {
+        if (context == null) throw new IllegalArgumentException("Transactional context cannot be null");
+        this.context = context;
+    }
+
+    public void saveAll(Collection<? extends Event> events) throws SQLException {
+        context.transactionManager().withConnection(connection -> {
+            PreparedStatement eventStatement = context.transactionManager().prepare(INSERT_EVENT);
+            PreparedStatement itemStatement = context.transactionManager().prepare(INSERT_ITEM);
+            int pending = 0;
+            for (Event event : events) {
+                bindEvent(eventStatement, event);
+                eventStatement.addBatch();
+                addItems(itemStatement, event);
+                if (++pending == BATCH_SIZE) {
+                    eventStatement.executeBatch();
+                    itemStatement.executeBatch();
+                    pending = 0;
+                }
+            }
+            if (pending > 0) {
+                eventStatement.executeBatch();
+                itemStatement.executeBatch();
+            }
+            return null;
+        });
+    }
+
+    public void save(Event event) throws SQLException {
+        saveAll(List.of(event));
+    }
+
+    public boolean delete(EventId id) throws SQLException {
+        return context.transactionManager().withConnection(connection -> {
+            PreparedStatement items = context.transactionManager().prepare(DELETE_ITEMS);
+            items.setObject(1, id.value());
+            items.executeUpdate();
+            PreparedStatement event = context.transactionManager().prepare(DELETE_EVENT);
+            event.setObject(1, id.value());
+            return event.executeUpdate() > 0;
+        });
+    }
+
+    public Optional<Event> findById(EventId id) throws SQLException {
+        List<Event> found = new ArrayList<>(1);
+        context.transactionManager().withConnection(connection -> {
+            PreparedStatement statement = context.transactionManager().prepare(SELECT_BY_ID);
+            statement.setObject(1, id.value());
+            readEvents(statement, found::add);
+            return null;
+        });
+        return found.stream().findFirst();
+    }
+
+    public void forEach(Consumer<? super Event> consumer) throws SQLException {
+        context.transactionManager().withConnection(connection -> {
+            readEvents(context.transactionManager().prepare(SELECT_ALL), consumer);
+            return null;
+        });
+    }
+
+    public List<Event> findAll() throws SQLException {
+        List<Event> events = new ArrayList<>();
+        forEach(events::add);
+        return events;
+    }
+
+    private static void bindEvent(PreparedStatement statement, Event event) throws SQLException {
+        Money fee = EventOperations.getEventFee(event);
+        statement.setObject(1, event.id().value());
+        statement.setString(2, typeOf(event));
+        statement.setString(3, event.name());
+        // Bound as LocalDateTime rather than through Timestamp, which shifts times inside a DST gap of the JVM zone.
+        statement.setObject(4, event.startTime());
+        statement.setObject(5, event.endTime());
+        statement.setString(6, event.location().name());
+        statement.setString(7, event.location().address());
+        statement.setInt(8, event.maxAttendees());
+        statement.setLong(9, fee.amount().unscaledValue().longValueExact());
+        statement.setInt(10, fee.amount().scale());
+        statement.setString(11, fee.currency().getCurrencyCode());
+        for (int i = 12; i <= 16; i++) statement.setNull(i, Types.VARCHAR);
+        statement.setNull(17, Types.INTEGER);
+        switch (event) {
+            case Concert c -> {
+                statement.setString(12, c.artist());
+                statement.setString(13, c.genre());
+            }
+            case Exhibition e -> statement.setString(14, e.theme());
+            case Workshop w -> {
+                statement.setString(15, w.instructor());
+                statement.setString(16, w.skillLevel());
+                statement.setInt(17, w.maxParticipants());
+            }
+            case Conference ignored -> {}
+        }
+    }
+
+    private static void addItems(PreparedStatement statement, Event event) throws SQLException {
+        switch (event) {
+            case Conference c -> {
+                addItems(statement, c.id(), SPEAKER, c.speakers());
+                addItems(statement, c.id(), TOPIC, c.topics());
+            }
+            case Exhibition e -> addItems(statement, e.id(), EXHIBITOR, e.exhibitors());
+            case Concert ignored -> {}
+            case Workshop ignored -> {}
+        }
+    }
+
+    private static void addItems(PreparedStatement statement, EventId id, char kind, List<String> items) throws SQLException {
+        for (int i = 0; i < items.size(); i++) {
+            statement.setObject(1, id.value());
+            statement.setString(2, String.valueOf(kind));
+            statement.setInt(3, i);
+            statement.setString(4, items.get(i));
+            statement.addBatch();
+        }
+    }
+
+    private static void readEvents(PreparedStatement statement, Consumer<? super Event> consumer) throws SQLException {
+        statement.setFetchSize(FETCH_SIZE);
+        try (ResultSet rs = statement.executeQuery()) {
+            UUID currentId = null;
+            RowGroup group = null;
+            while (rs.next()) {
+                UUID id = rs.getObject("id", UUID.class);
+                if (!id.equals(currentId)) {
+                    if (group != null) consumer.accept(group.toEvent());
+                    currentId = id;
+                    group = new RowGroup(rs);
+                }
+                group.addItem(rs);
+            }
+            if (group != null) consumer.accept(group.toEvent());
+        }
+    }
+
+    static String typeOf(Event event) {
+        return switch (event) {
+            case Concert ignored -> "CONCERT";
+            case Conference ignored -> "CONFERENCE";
+            case Exhibition ignored -> "EXHIBITION";
+            case Workshop ignored -> "WORKSHOP";
+        };
+    }
+
+    // The rows of one event: the event columns plus one row per list item.
+    private static final class RowGroup {
+        private final EventId id;
+        private final String type;
+        private final String name;
+        private final LocalDateTime startTime;
+        private final LocalDateTime endTime;
+        private final Location location;
+        private final int maxAttendees;
+        private final Money fee;
+        private final String artist;
+        private final String genre;
+        private final String theme;
+        private final String instructor;
+        private final String skillLevel;
+        private final int maxParticipants;
+        private final List<String> speakers = new ArrayList<>();
+        private final List<String> topics = new ArrayList<>();
+        private final List<String> exhibitors = new ArrayList<>();
+
+        RowGroup(ResultSet rs) throws SQLException {
+            id = new EventId(rs.getObject("id", UUID.class));
+            type = rs.getString("type");
+            name = rs.getString("name");
+            startTime = rs.getObject("start_time", LocalDateTime.class);
+            endTime = rs.getObject("end_time", LocalDateTime.class);
+            location = new Location(rs.getString("location_name"), rs.getString("location_address"));
+            maxAttendees = rs.getInt("max_attendees");
+            fee = new Money(BigDecimal.valueOf(rs.getLong("fee_unscaled"), rs.getInt("fee_scale")),
+                    Currency.getInstance(rs.getString("fee_currency").trim()));
+            artist = rs.getString("artist");
+            genre = rs.getString("genre");
+            theme = rs.getString("theme");
+            instructor = rs.getString("instructor");
+            skillLevel = rs.getString("skill_level");
+            maxParticipants = rs.getInt("max_participants");
+        }
+
+        void addItem(ResultSet rs) throws SQLException {
+            String kind = rs.getString("kind");
+            if (kind == null) return;
+            String item = rs.getString("item");
+            switch (kind.charAt(0)) {
+                case SPEAKER -> speakers.add(item);
+                case TOPIC -> topics.add(item);
+                case EXHIBITOR -> exhibitors.add(item);
+                default -> throw new SQLException("Unknown event item kind: " + kind);
+            }
+        }
+
+        Event toEvent() throws SQLException {
+            return switch (type) {
+                case "CONCERT" -> new Concert(id, name, startTime, endTime, location,
+                        maxAttendees, artist, genre, fee);
+                case "CONFERENCE" -> new Conference(id, name, startTime, endTime, location,
+                        maxAttendees, speakers, topics, fee);
+                case "EXHIBITION" -> new Exhibition(id, name, startTime, endTime, location,
+                        maxAttendees, theme, exhibitors, fee);
+                case "WORKSHOP" -> new Workshop(id, name, startTime, endTime, location,
+                        maxAttendees, instructor, skillLevel, fee, maxParticipants);
+                default -> throw new SQLException("Unknown event type: " + type);
+            };
+        }
+    }
+}
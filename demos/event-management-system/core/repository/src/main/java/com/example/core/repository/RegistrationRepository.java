@@ -0,0 +1,118 @@
+package com.example.core.repository;
+
+import com.example.core.common.utilities.operations.OperationContext;
+import com.example.core.domain.Attendee;
+import com.example.core.domain.Event;
+import com.example.core.domain.EventId;
+import com.example.core.domain.Registration;
+import com.example.core.domain.RegistrationStatus;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * JDBC persistence for {@link Registration}s. Attendees are stored inline; events are resolved on read
+ * through a caller-supplied lookup, typically an {@code EventCatalog} or {@link EventRepository}.
+ */
+public final class RegistrationRepository {
+    private static final String INSERT = """
+            INSERT INTO registrations (id, event_id, attendee_id, attendee_name, attendee_email, attendee_phone,
+                                       registration_time, status)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?)""";
+    private static final String UPDATE_STATUS = "UPDATE registrations SET status = ? WHERE id = ?";
+    private static final String SELECT_ALL = "SELECT * FROM registrations";
+    private static final String SELECT_BY_EVENT = "SELECT * FROM registrations WHERE event_id = ?";
+
+    private final OperationContext.Transactional context;
+
+    public RegistrationRepository(OperationContext.Transactional context) {
+        if (context == null) throw new IllegalArgumentException("Transactional context cannot be null");
+        this.context = context;
+    }
+
+    public void saveAll(Collection<Registration> registrations) throws SQLException {
+        context.transactionManager().withConnection(connection -> {
+            PreparedStatement statement = context.transactionManager().prepare(INSERT);
+            int pending = 0;
+            for (Registration registration : registrations) {
+                Attendee attendee = registration.attendee();
+                statement.setObject(1, registration.id());
+                statement.setObject(2, registration.event().id().value());
+                statement.setObject(3, attendee.id());
+                statement.setString(4, attendee.name());
+                statement.setString(5, attendee.email());
+                statement.setString(6, attendee.phone());
+                statement.setObject(7, registration.registrationTime());
+                statement.setString(8, registration.status().name());
+                statement.addBatch();
+                if (++pending == EventRepository.BATCH_SIZE) {
+                    statement.executeBatch();
+                    pending = 0;
+                }
+            }
+            if (pending > 0) statement.executeBatch();
+            return null;
+        });
+    }
+
+    // Persists status changes for registrations that are already stored.
+    public void updateStatuses(Collection<Registration> registrations) throws SQLException {
+        context.transactionManager().withConnection(connection -> {
+            PreparedStatement statement = context.transactionManager().prepare(UPDATE_STATUS);
+            int pending = 0;
+            for (Registration registration : registrations) {
+                statement.setString(1, registration.status().name());
+                statement.setObject(2, registration.id());
+                statement.addBatch();
+                if (++pending == EventRepository.BATCH_SIZE) {
+                    statement.executeBatch();
+                    pending = 0;
+                }
+            }
+            if (pending > 0) statement.executeBatch();
+            return null;
+        });
+    }
+
+    public void forEach(Function<EventId, Event> events, Consumer<? super Registration> consumer) throws SQLException {
+        context.transactionManager().withConnection(connection -> {
+            read(context.transactionManager().prepare(SELECT_ALL), events, consumer);
+            return null;
+        });
+    }
+
+    public List<Registration> findByEvent(Event event) throws SQLException {
+        List<Registration> registrations = new ArrayList<>();
+        context.transactionManager().withConnection(connection -> {
+            PreparedStatement statement = context.transactionManager().prepare(SELECT_BY_EVENT);
+            statement.setObject(1, event.id().value());
+            read(statement, id -> event, registrations::add);
+            return null;
+        });
+        return registrations;
+    }
+
+    private static void read(PreparedStatement statement, Function<EventId, Event> events,
+                             Consumer<? super Registration> consumer) throws SQLException {
+        statement.setFetchSize(EventRepository.FETCH_SIZE);
+        try (ResultSet rs = statement.executeQuery()) {
+            while (rs.next()) {
+                EventId eventId = new EventId(rs.getObject("event_id", UUID.class));
+                Event event = events.apply(eventId);
+                if (event == null) throw new SQLException("Registration references unknown event " + eventId.value());
+                Attendee attendee = new Attendee(rs.getObject("attendee_id", UUID.class), rs.getString("attendee_name"),
+                        rs.getString("attendee_email"), rs.getString("attendee_phone"));
+                consumer.accept(new Registration(rs.getObject("id", UUID.class), event, attendee,
+                        rs.getObject("registration_time", LocalDateTime.class),
+                        RegistrationStatus.valueOf(rs.getString("status"))));
+            }
+        }
+    }
+}
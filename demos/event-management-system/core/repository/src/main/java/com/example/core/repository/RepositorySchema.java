@@ -0,0 +1,66 @@
+package com.example.core.repository;
+
+import com.example.core.common.utilities.operations.OperationContext;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+
+/**
+ * Tables behind {@link EventRepository} and {@link RegistrationRepository}. The sealed event hierarchy
+ * is stored single-table, with a type tag and nullable subtype columns; list-valued fields
+ * (speakers, topics, exhibitors) live in {@code event_items}.
+ */
+public final class RepositorySchema {
+    private static final List<String> DDL = List.of(
+            """
+            CREATE TABLE IF NOT EXISTS events (
+                id UUID PRIMARY KEY,
+                type VARCHAR(16) NOT NULL,
+                name VARCHAR(255) NOT NULL,
+                start_time TIMESTAMP NOT NULL,
+                end_time TIMESTAMP NOT NULL,
+                location_name VARCHAR(255) NOT NULL,
+                location_address VARCHAR(255) NOT NULL,
+                max_attendees INT NOT NULL,
+                fee_unscaled BIGINT NOT NULL,
+                fee_scale INT NOT NULL,
+                fee_currency CHAR(3) NOT NULL,
+                artist VARCHAR(255),
+                genre VARCHAR(255),
+                theme VARCHAR(255),
+                instructor VARCHAR(255),
+                skill_level VARCHAR(255),
+                max_participants INT
+            )""",
+            """
+            CREATE TABLE IF NOT EXISTS event_items (
+                event_id UUID NOT NULL,
+                kind CHAR(1) NOT NULL,
+                position INT NOT NULL,
+                item VARCHAR(255) NOT NULL,
+                PRIMARY KEY (event_id, kind, position)
+            )""",
+            """
+            CREATE TABLE IF NOT EXISTS registrations (
+                id UUID PRIMARY KEY,
+                event_id UUID NOT NULL,
+                attendee_id UUID NOT NULL,
+                attendee_name VARCHAR(255) NOT NULL,
+                attendee_email VARCHAR(255) NOT NULL,
+                attendee_phone VARCHAR(64),
+                registration_time TIMESTAMP NOT NULL,
+                status VARCHAR(16) NOT NULL
+            )""",
+            "CREATE INDEX IF NOT EXISTS registrations_event ON registrations (event_id)");
+
+    private RepositorySchema() {}
+
+    public static void create(OperationContext.Transactional context) throws SQLException {
+        context.transactionManager().withConnection(connection -> {
+            try (Statement statement = connection.createStatement()) {
+                for (String ddl : DDL) statement.execute(ddl);
+            }
+            return null;
+        });
+    }
+}
@@ -0,0 +1,215 @@
+package com.example.core.repository;
+
+import com.example.core.common.utilities.completion.BatchCompletionHandler;
+import com.example.core.common.utilities.completion.BatchingCompletionHandler;
+import com.example.core.common.utilities.completion.OperationResult;
+import com.example.core.common.utilities.operations.OperationContext;
+import com.example.core.common.utilities.operations.OperationsTaskScope;
+import com.example.core.common.utilities.persistence.ConnectionPool;
+import com.example.core.common.utilities.persistence.TransactionManager;
+import com.example.core.domain.*;
+
+import java.math.BigDecimal;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Round-trip checks for the JDBC repositories against an embedded H2 database.
+ */
+public class RepositoryTest {
+    private static final Random RANDOM = new Random();
+    private static final Currency USD = Currency.getInstance("USD");
+    private static final int EVENT_COUNT = 2_500;
+
+    public static void main(String[] args) throws Exception {
+        System.out.println("Running repository tests...");
+        String url = "jdbc:h2:mem:repo-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1";
+        try (ConnectionPool pool = new ConnectionPool(() -> DriverManager.getConnection(url), 2, Duration.ofSeconds(5))) {
+            inTransaction(pool, RepositorySchema::create);
+            List<Event> events = testEventRoundTrip(pool);
+            testRegistrationRoundTrip(pool, events);
+            testDaylightSavingGap(pool);
+            testRollbackDiscardsBatch(pool);
+            testBatchedWritesFromScope(pool);
+        }
+        System.out.println("All repository tests passed!");
+    }
+
+    private static List<Event> testEventRoundTrip(ConnectionPool pool) throws Exception {
+        System.out.println("Testing event round trip...");
+        List<Event> events = new ArrayList<>();
+        for (int i = 0; i < EVENT_COUNT; i++) events.add(randomEvent(i));
+        inTransaction(pool, context -> new EventRepository(context).saveAll(events));
+
+        List<Event> loaded = new ArrayList<>();
+        inTransaction(pool, context -> loaded.addAll(new EventRepository(context).findAll()));
+        assert loaded.size() == events.size() : "Expected " + events.size() + " events, loaded " + loaded.size();
+        assert new HashSet<>(loaded).equals(new HashSet<>(events)) : "Loaded events differ from saved events";
+
+        Event probe = events.get(RANDOM.nextInt(events.size()));
+        inTransaction(pool, context -> {
+            EventRepository repository = new EventRepository(context);
+            assert repository.findById(probe.id()).orElseThrow().equals(probe) : "findById returned a different event";
+            assert repository.findById(EventId.generate()).isEmpty() : "Unknown id should not be found";
+        });
+        System.out.println("Event round trip test passed!");
+        return events;
+    }
+
+    private static void testRegistrationRoundTrip(ConnectionPool pool, List<Event> events) throws Exception {
+        System.out.println("Testing registration round trip...");
+        Map<EventId, Event> byId = events.stream().collect(Collectors.toMap(Event::id, Function.identity()));
+        List<Registration> registrations = new ArrayList<>();
+        for (int i = 0; i < 3_000; i++) {
+            Attendee attendee = new Attendee(UUID.randomUUID(), "Attendee-" + i, "user" + i + "@example.com", i % 2 == 0 ? null : "555-0100");
+            registrations.add(new Registration(UUID.randomUUID(), events.get(RANDOM.nextInt(events.size())), attendee,
+                    LocalDateTime.now().truncatedTo(ChronoUnit.MICROS), RegistrationStatus.CONFIRMED));
+        }
+        List<Registration> cancelled = registrations.subList(0, 100).stream()
+                .map(r -> new Registration(r.id(), r.event(), r.attendee(), r.registrationTime(), RegistrationStatus.CANCELLED))
+                .toList();
+        inTransaction(pool, context -> {
+            RegistrationRepository repository = new RegistrationRepository(context);
+            repository.saveAll(registrations);
+            repository.updateStatuses(cancelled);
+        });
+
+        Map<UUID, Registration> expected = new HashMap<>();
+        registrations.forEach(r -> expected.put(r.id(), r));
+        cancelled.forEach(r -> expected.put(r.id(), r));
+        List<Registration> loaded = new ArrayList<>();
+        inTransaction(pool, context -> new RegistrationRepository(context).forEach(byId::get, loaded::add));
+        assert loaded.size() == expected.size() : "Registration count mismatch";
+        for (Registration r : loaded) {
+            assert r.equals(expected.get(r.id())) : "Registration differs after round trip: " + r;
+        }
+
+        Event event = registrations.getLast().event();
+        long expectedForEvent = expected.values().stream().filter(r -> r.event().equals(event)).count();
+        inTransaction(pool, context -> {
+            assert new RegistrationRepository(context).findByEvent(event).size() == expectedForEvent : "findByEvent count mismatch";
+        });
+        System.out.println("Registration round trip test passed!");
+    }
+
+    private static void testDaylightSavingGap(ConnectionPool pool) throws Exception {
+        System.out.println("Testing times inside a daylight saving gap...");
+        TimeZone original = TimeZone.getDefault();
+        TimeZone.setDefault(TimeZone.getTimeZone("America/New_York"));
+        try {
+            // 02:00-03:00 on this day does not exist in New York; the stored times must not move to 03:xx.
+            LocalDateTime start = LocalDateTime.of(2027, 3, 14, 2, 30);
+            Event event = new Concert(EventId.generate(), "Gap Concert", start, start.plusHours(2),
+                    new Location("Gap Venue", "Gap Street"), 10, "Artist", "Genre", new Money(new BigDecimal("15.00"), USD));
+            Registration registration = new Registration(UUID.randomUUID(), event,
+                    new Attendee(UUID.randomUUID(), "Gap Attendee", "gap@example.com", null), start.minusMinutes(15),
+                    RegistrationStatus.CONFIRMED);
+            inTransaction(pool, context -> {
+                new EventRepository(context).saveAll(List.of(event));
+                new RegistrationRepository(context).saveAll(List.of(registration));
+            });
+            inTransaction(pool, context -> {
+                Event loaded = new EventRepository(context).findById(event.id()).orElseThrow();
+                assert loaded.equals(event) : "Event times moved: " + loaded.startTime() + " - " + loaded.endTime();
+                List<Registration> registrations = new RegistrationRepository(context).findByEvent(event);
+                assert registrations.equals(List.of(registration))
+                        : "Registration time moved: " + registrations.getFirst().registrationTime();
+            });
+        } finally {
+            TimeZone.setDefault(original);
+        }
+        System.out.println("Daylight saving gap test passed!");
+    }
+
+    private static void testRollbackDiscardsBatch(ConnectionPool pool) throws Exception {
+        System.out.println("Testing rollback of batched writes...");
+        List<Event> before = new ArrayList<>();
+        inTransaction(pool, context -> before.addAll(new EventRepository(context).findAll()));
+        TransactionManager tx = new TransactionManager(pool);
+        try {
+            tx.inTransaction(() -> {
+                new EventRepository(new OperationContext.Transactional(tx)).saveAll(List.of(randomEvent(0), randomEvent(1)));
+                throw new IllegalStateException("Simulated failure");
+            });
+            throw new AssertionError("Failure should propagate");
+        } catch (IllegalStateException e) {
+            // Expected
+        }
+        List<Event> after = new ArrayList<>();
+        inTransaction(pool, context -> after.addAll(new EventRepository(context).findAll()));
+        assert after.size() == before.size() : "Rolled back events were persisted";
+        System.out.println("Rollback test passed!");
+    }
+
+    private static void testBatchedWritesFromScope(ConnectionPool pool) throws Exception {
+        System.out.println("Testing batched writes from a task scope...");
+        Event event = randomEvent(0);
+        inTransaction(pool, context -> new EventRepository(context).saveAll(List.of(event)));
+        int forks = 10_000;
+        List<Integer> batchSizes = new ArrayList<>();
+        inTransaction(pool, context -> {
+            RegistrationRepository repository = new RegistrationRepository(context);
+            var writer = new BatchingCompletionHandler<>(new BatchCompletionHandler<Registration>() {
+                @Override
+                public void onBatch(List<Registration> batch) {
+                    try {
+                        repository.saveAll(batch);
+                        batchSizes.add(batch.size());
+                    } catch (SQLException e) {
+                        throw new IllegalStateException("Batch insert failed", e);
+                    }
+                }
+                @Override public void onFailure(Throwable t) { throw new AssertionError("Unexpected failure: " + t); }
+            }, 1_000);
+            try (var scope = new OperationsTaskScope<>("BatchedRegistrations", context, writer)) {
+                for (int i = 0; i < forks; i++) {
+                    Attendee attendee = new Attendee(UUID.randomUUID(), "Batched-" + i, "batched" + i + "@example.com", null);
+                    scope.fork(() -> new OperationResult.Success<>(new Registration(UUID.randomUUID(), event, attendee,
+                            LocalDateTime.now().truncatedTo(ChronoUnit.MICROS), RegistrationStatus.CONFIRMED)));
+                }
+                scope.join();
+            }
+        });
+        assert batchSizes.equals(Collections.nCopies(10, 1_000)) : "Expected ten full batches, got " + batchSizes;
+        inTransaction(pool, context -> {
+            assert new RegistrationRepository(context).findByEvent(event).size() == forks : "Every batched registration should be stored";
+        });
+        System.out.println("Batched writes from a task scope test passed!");
+    }
+
+    private interface TransactionalWork {
+        void run(OperationContext.Transactional context) throws Exception;
+    }
+
+    private static void inTransaction(ConnectionPool pool, TransactionalWork work) throws Exception {
+        TransactionManager tx = new TransactionManager(pool);
+        tx.inTransaction(() -> {
+            work.run(new OperationContext.Transactional(tx));
+            return null;
+        });
+    }
+
+    private static Event randomEvent(int i) {
+        LocalDateTime start = LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS).plusDays(RANDOM.nextInt(30));
+        LocalDateTime end = start.plusHours(RANDOM.nextInt(8) + 1);
+        Location location = new Location("Venue-" + RANDOM.nextInt(100), "Addr-" + RANDOM.nextInt(1000));
+        Money fee = new Money(BigDecimal.valueOf(RANDOM.nextInt(100_000), RANDOM.nextInt(4)), USD);
+        int maxAttendees = RANDOM.nextInt(500) + 1;
+        return switch (i % 4) {
+            case 0 -> new Concert(EventId.generate(), "Concert-" + i, start, end, location, maxAttendees,
+                    "Artist-" + i, "Genre-" + RANDOM.nextInt(10), fee);
+            case 1 -> new Conference(EventId.generate(), "Conference-" + i, start, end, location, maxAttendees,
+                    List.of("Speaker-" + i, "Speaker-" + (i + 1)), List.of("Topic-" + RANDOM.nextInt(10)), fee);
+            case 2 -> new Exhibition(EventId.generate(), "Exhibition-" + i, start, end, location, maxAttendees,
+                    "Theme-" + i, List.of("Exhibitor-" + i, "Exhibitor-" + (i + 1), "Exhibitor-" + (i + 2)), fee);
+            default -> new Workshop(EventId.generate(), "Workshop-" + i, start, end, location, maxAttendees,
+                    "Instructor-" + i, "Level-" + RANDOM.nextInt(3), fee, RANDOM.nextInt(30) + 1);
+        };
+    }
+}
@@ -10,3 +10,5 @@ rootProject.name = "core"
 include(":common")
 include(":domain")
 include(":operations")
+include(":repository")
+include(":benchmarks")
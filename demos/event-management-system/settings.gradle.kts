@@ -21,6 +21,7 @@ includeBuild("core") {
         substitute(module("com.example.core:common")).using(project(":common"))
         substitute(module("com.example.core:domain")).using(project(":domain"))
         substitute(module("com.example.core:operations")).using(project(":operations"))
+        substitute(module("com.example.core:repository")).using(project(":repository"))
     }
 }
 